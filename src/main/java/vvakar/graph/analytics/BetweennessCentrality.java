@@ -0,0 +1,262 @@
+package vvakar.graph.analytics;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.IndexedMinHeap;
+import vvakar.util.Parallel;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Brandes' betweenness centrality. One single-source traversal per source vertex (BFS when unweighted, Dijkstra
+ * when weighted), followed by back-propagation of pair dependencies along the shortest-path DAG in reverse
+ * settlement order. Sources are processed in parallel; every worker chunk owns its traversal arrays and its own
+ * dependency accumulator, and merges it into the result once at the end of the chunk.
+ * <p>
+ * For snapshots where every arc has a reverse twin (undirected graphs) each pair is seen from both ends, so scores
+ * are halved as usual. {@link #approximate} traverses only k sampled sources and scales up by n/k.
+ * Exact mode is O(VE) unweighted and O(VE + V^2 log V) weighted.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BetweennessCentrality {
+    private BetweennessCentrality() {}
+
+    /**
+     * Exact centrality, weighted unless every edge has weight 1.
+     */
+    public static <V extends Vertex, E extends Edge> CentralityBean<V> compute(Graph<V, E> graph) {
+        CsrGraph<V> csr = CsrGraph.copyOf(graph);
+        boolean weighted = false;
+        for (int w : csr.getWeights()) {
+            weighted |= w != 1;
+        }
+        return compute(csr, weighted);
+    }
+
+    public static <V extends Vertex> CentralityBean<V> compute(CsrGraph<V> csr, boolean weighted) {
+        Preconditions.checkNotNull(csr);
+        int[] sources = new int[csr.vertexCount()];
+        for (int i = 0; i < sources.length; ++i) {
+            sources[i] = i;
+        }
+        return run(csr, weighted, sources);
+    }
+
+    /**
+     * Estimate centrality from <code>samples</code> sources drawn uniformly without replacement.
+     */
+    public static <V extends Vertex> CentralityBean<V> approximate(CsrGraph<V> csr, boolean weighted, int samples, long seed) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkArgument(samples > 0, "need at least one sample");
+        int n = csr.vertexCount();
+        if (samples >= n) {
+            return compute(csr, weighted);
+        }
+        int[] all = new int[n];
+        for (int i = 0; i < n; ++i) {
+            all[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = 0; i < samples; ++i) {
+            int j = i + random.nextInt(n - i);
+            int tmp = all[i];
+            all[i] = all[j];
+            all[j] = tmp;
+        }
+        return run(csr, weighted, Arrays.copyOf(all, samples));
+    }
+
+    private static <V extends Vertex> CentralityBean<V> run(final CsrGraph<V> csr, final boolean weighted, final int[] sources) {
+        final int n = csr.vertexCount();
+        if (weighted) {
+            for (int w : csr.getWeights()) {
+                Preconditions.checkArgument(w > 0, "weighted betweenness needs positive weights");
+            }
+        }
+        final double[] centrality = new double[n];
+        int grain = Math.max(1, sources.length / (4 * Parallel.parallelism()));
+        Parallel.forRange(0, sources.length, grain, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                Workspace workspace = new Workspace(n);
+                for (int i = from; i < to; ++i) {
+                    workspace.accumulate(csr, sources[i], weighted);
+                }
+                synchronized (centrality) {
+                    for (int v = 0; v < n; ++v) {
+                        centrality[v] += workspace.centrality[v];
+                    }
+                }
+            }
+        });
+
+        double scale = (double) n / Math.max(1, sources.length);
+        if (csr.isSymmetric()) {
+            scale /= 2;
+        }
+        for (int v = 0; v < n; ++v) {
+            centrality[v] *= scale;
+        }
+        return new CentralityBean<V>(csr, centrality, sources.length, csr.isSymmetric());
+    }
+
+    /**
+     * Per-worker traversal state and dependency accumulator.
+     */
+    private static class Workspace {
+        private final long[] dist;
+        private final double[] sigma;
+        private final double[] delta;
+        private final int[] order;
+        private final int[] queue;
+        private final double[] centrality;
+        private final IndexedMinHeap heap;
+
+        private Workspace(int n) {
+            dist = new long[n];
+            sigma = new double[n];
+            delta = new double[n];
+            order = new int[n];
+            queue = new int[n];
+            centrality = new double[n];
+            heap = new IndexedMinHeap(n);
+            Arrays.fill(dist, -1);
+        }
+
+        private void accumulate(CsrGraph<?> csr, int s, boolean weighted) {
+            int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+            int settled = weighted ? dijkstra(offsets, targets, weights, s) : breadthFirst(offsets, targets, s);
+
+            // back-propagate over successors on the shortest-path DAG, farthest vertices first
+            for (int k = settled - 1; k >= 0; --k) {
+                int w = order[k];
+                double sum = 0;
+                for (int i = offsets[w]; i < offsets[w + 1]; ++i) {
+                    int x = targets[i];
+                    if (dist[x] == dist[w] + (weighted ? weights[i] : 1)) {
+                        sum += sigma[w] / sigma[x] * (1 + delta[x]);
+                    }
+                }
+                delta[w] = sum;
+                if (w != s) {
+                    centrality[w] += sum;
+                }
+            }
+
+            for (int k = 0; k < settled; ++k) {
+                int v = order[k];
+                dist[v] = -1;
+                sigma[v] = 0;
+                delta[v] = 0;
+            }
+        }
+
+        private int breadthFirst(int[] offsets, int[] targets, int s) {
+            int head = 0, tail = 0;
+            queue[tail++] = s;
+            dist[s] = 0;
+            sigma[s] = 1;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    int v = targets[i];
+                    if (dist[v] < 0) {
+                        dist[v] = dist[u] + 1;
+                        queue[tail++] = v;
+                    }
+                    if (dist[v] == dist[u] + 1) {
+                        sigma[v] += sigma[u];
+                    }
+                }
+            }
+            System.arraycopy(queue, 0, order, 0, tail);
+            return tail;
+        }
+
+        private int dijkstra(int[] offsets, int[] targets, int[] weights, int s) {
+            int settled = 0;
+            dist[s] = 0;
+            sigma[s] = 1;
+            heap.offer(s, 0);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                order[settled++] = u;
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    int v = targets[i];
+                    long candidate = dist[u] + weights[i];
+                    if (dist[v] < 0 || candidate < dist[v]) {
+                        dist[v] = candidate;
+                        sigma[v] = sigma[u];
+                        heap.offer(v, candidate);
+                    } else if (candidate == dist[v]) {
+                        sigma[v] += sigma[u];
+                    }
+                }
+            }
+            return settled;
+        }
+    }
+
+    public static class CentralityBean<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final double[] centrality;
+        private final int sources;
+        private final boolean undirected;
+
+        private CentralityBean(CsrGraph<V> csr, double[] centrality, int sources, boolean undirected) {
+            this.csr = csr;
+            this.centrality = centrality;
+            this.sources = sources;
+            this.undirected = undirected;
+        }
+
+        public double getCentrality(V v) {
+            int id = csr.getId(v);
+            Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+            return centrality[id];
+        }
+
+        /**
+         * @return centrality per vertex id of {@link #getGraph()}
+         */
+        public double[] getCentralities() {
+            return centrality;
+        }
+
+        /**
+         * @return number of source traversals the scores are based on
+         */
+        public int getSampleCount() {
+            return sources;
+        }
+
+        public boolean isExact() {
+            return sources == csr.vertexCount();
+        }
+
+        /**
+         * Hoeffding bound on the absolute error of any single vertex score: each sampled source contributes a
+         * dependency in <code>[0, n-2]</code>, so with probability at least <code>1 - failureProbability</code>
+         * the error is below <code>n(n-2) sqrt(ln(2/failureProbability) / 2k)</code> (halved for undirected graphs).
+         * @return 0 for exact results
+         */
+        public double getErrorBound(double failureProbability) {
+            Preconditions.checkArgument(failureProbability > 0 && failureProbability < 1);
+            if (isExact()) {
+                return 0;
+            }
+            double n = csr.vertexCount();
+            double bound = n * (n - 2) * Math.sqrt(Math.log(2 / failureProbability) / (2.0 * sources));
+            return undirected ? bound / 2 : bound;
+        }
+
+        public CsrGraph<V> getGraph() {
+            return csr;
+        }
+    }
+}
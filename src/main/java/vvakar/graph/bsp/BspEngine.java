@@ -0,0 +1,423 @@
+package vvakar.graph.bsp;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.Arrays;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * In-process Pregel-style bulk synchronous engine over a {@link CsrGraph}.
+ * <p>
+ * Vertices are split into contiguous partitions of roughly equal vertex + arc count, one per worker thread. A
+ * worker is the only writer of its partition's values, halt flags and inbox slots. Each vertex inbox is a single
+ * primitive slot, double-buffered: the current buffer holds the messages combined during the previous superstep,
+ * and the next buffer collects new ones. A superstep has two phases, each closed by a barrier:
+ * <ol>
+ *     <li>compute: run the program on every active vertex. Messages to local vertices are combined straight into
+ *     the next inbox; messages to other partitions are appended to a per-destination outbox</li>
+ *     <li>deliver: every worker drains the outboxes addressed to it into its slice of the next inbox</li>
+ * </ol>
+ * The last barrier swaps the buffers. The run stops when every vertex has voted to halt and no message is in
+ * flight, or after <code>maxSupersteps</code>.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BspEngine<V extends Vertex> {
+    private final CsrGraph<V> csr;
+    private final int workers;
+    /** partition p owns vertices [bounds[p], bounds[p + 1]) */
+    private final int[] bounds;
+    private final int[] owner;
+
+    public BspEngine(CsrGraph<V> csr) {
+        this(csr, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BspEngine(CsrGraph<V> csr, int workers) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkArgument(workers > 0, "need at least one worker");
+        this.csr = csr;
+        int n = csr.vertexCount();
+        this.workers = Math.max(1, Math.min(workers, n));
+
+        int[] offsets = csr.getOffsets();
+        bounds = new int[this.workers + 1];
+        long total = (long) n + csr.arcCount();
+        int v = 0;
+        for (int p = 1; p < this.workers; ++p) {
+            long share = total * p / this.workers;
+            while (v < n && (long) v + offsets[v] < share) {
+                ++v;
+            }
+            bounds[p] = v;
+        }
+        bounds[this.workers] = n;
+
+        owner = new int[n];
+        for (int p = 0; p < this.workers; ++p) {
+            Arrays.fill(owner, bounds[p], bounds[p + 1], p);
+        }
+    }
+
+    public int getWorkerCount() {
+        return workers;
+    }
+
+    /**
+     * Run <code>program</code> to completion. Not reentrant: use one engine per concurrent run.
+     * @param maxSupersteps upper bound on supersteps, for programs that never halt on their own
+     */
+    public ResultBean<V> run(VertexProgram program, Combiner combiner, int maxSupersteps) {
+        Preconditions.checkNotNull(program);
+        Preconditions.checkNotNull(combiner);
+        Preconditions.checkArgument(maxSupersteps >= 0);
+        return new Run<V>(this, program, combiner, maxSupersteps).execute();
+    }
+
+    /**
+     * State of a single execution, shared by its worker threads. Visibility between phases is given by the
+     * barrier.
+     */
+    private static class Run<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final int workers;
+        private final int[] bounds, owner;
+        private final VertexProgram program;
+        private final Combiner combiner;
+        private final int maxSupersteps;
+        private final double[] values;
+        private final double[][] inbox;
+        private final boolean[][] hasMessage;
+        private final boolean[] halted;
+        /** outbox[from][to] */
+        private final MessageBuffer[][] outbox;
+        private final long[] active;
+        private final long[] sent;
+        private final DoubleAdder aggregator = new DoubleAdder();
+        private final CyclicBarrier computed, delivered;
+        private int current;
+        private int superstep;
+        private double aggregate;
+        private long messages;
+        private boolean done;
+        private volatile Throwable failure;
+
+        private Run(BspEngine<V> engine, VertexProgram program, Combiner combiner, int maxSupersteps) {
+            csr = engine.csr;
+            workers = engine.workers;
+            bounds = engine.bounds;
+            owner = engine.owner;
+            this.program = program;
+            this.combiner = combiner;
+            this.maxSupersteps = maxSupersteps;
+            int n = csr.vertexCount();
+            values = new double[n];
+            inbox = new double[2][n];
+            hasMessage = new boolean[2][n];
+            halted = new boolean[n];
+            outbox = new MessageBuffer[workers][workers];
+            for (int p = 0; p < workers; ++p) {
+                for (int q = 0; q < workers; ++q) {
+                    outbox[p][q] = new MessageBuffer();
+                }
+            }
+            active = new long[workers];
+            sent = new long[workers];
+            computed = new CyclicBarrier(workers);
+            delivered = new CyclicBarrier(workers, new Runnable() {
+                @Override
+                public void run() {
+                    finishSuperstep();
+                }
+            });
+            done = maxSupersteps == 0 || n == 0;
+        }
+
+        private ResultBean<V> execute() {
+            Thread[] threads = new Thread[workers];
+            for (int p = 0; p < workers; ++p) {
+                final int partition = p;
+                threads[p] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        work(partition);
+                    }
+                }, "bsp-worker-" + p);
+                threads[p].start();
+            }
+            try {
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                for (Thread thread : threads) {
+                    thread.interrupt();
+                }
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for workers", e);
+            }
+            if (failure != null) {
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                throw new RuntimeException("Vertex program failed", failure);
+            }
+            return new ResultBean<V>(csr, values, superstep, messages);
+        }
+
+        private void work(int p) {
+            Context context = new Context(this, p);
+            try {
+                for (int v = bounds[p]; v < bounds[p + 1]; ++v) {
+                    values[v] = program.initialValue(v);
+                }
+            } catch (Throwable t) {
+                failure = t;
+            }
+            try {
+                computed.await();
+                if (failure != null) {
+                    return;
+                }
+                while (!done) {
+                    // a failed worker keeps meeting the barriers so the others are never stranded
+                    if (failure == null) {
+                        try {
+                            compute(p, context);
+                        } catch (Throwable t) {
+                            failure = t;
+                        }
+                    }
+                    computed.await();
+                    if (failure == null) {
+                        deliver(p);
+                    }
+                    delivered.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (BrokenBarrierException e) {
+                // another worker was interrupted
+            }
+        }
+
+        private void compute(int p, Context context) {
+            int next = 1 - current;
+            double identity = combiner.identity();
+            Arrays.fill(inbox[next], bounds[p], bounds[p + 1], identity);
+            Arrays.fill(hasMessage[next], bounds[p], bounds[p + 1], false);
+
+            double[] in = inbox[current];
+            boolean[] has = hasMessage[current];
+            long stillActive = 0;
+            context.sent = 0;
+            for (int v = bounds[p]; v < bounds[p + 1]; ++v) {
+                if (has[v] || !halted[v]) {
+                    halted[v] = false;
+                    context.vertex = v;
+                    context.hasMessage = has[v];
+                    context.message = has[v] ? in[v] : identity;
+                    program.compute(context, v);
+                    if (!halted[v]) {
+                        ++stillActive;
+                    }
+                }
+            }
+            active[p] = stillActive;
+            sent[p] = context.sent;
+        }
+
+        private void deliver(int p) {
+            int next = 1 - current;
+            for (int q = 0; q < workers; ++q) {
+                MessageBuffer buffer = outbox[q][p];
+                for (int i = 0; i < buffer.size; ++i) {
+                    receive(next, buffer.targets[i], buffer.messages[i]);
+                }
+                buffer.size = 0;
+            }
+        }
+
+        private void receive(int buffer, int target, double message) {
+            if (hasMessage[buffer][target]) {
+                inbox[buffer][target] = combiner.combine(inbox[buffer][target], message);
+            } else {
+                inbox[buffer][target] = message;
+                hasMessage[buffer][target] = true;
+            }
+        }
+
+        private void finishSuperstep() {
+            long stillActive = 0, inFlight = 0;
+            for (int p = 0; p < workers; ++p) {
+                stillActive += active[p];
+                inFlight += sent[p];
+            }
+            messages += inFlight;
+            aggregate = aggregator.sumThenReset();
+            current = 1 - current;
+            ++superstep;
+            done = failure != null || (stillActive == 0 && inFlight == 0) || superstep >= maxSupersteps;
+        }
+    }
+
+    /**
+     * View of the engine handed to {@link VertexProgram#compute}, bound to the vertex being computed. One instance
+     * per worker; do not keep references across calls.
+     */
+    public static class Context {
+        private final Run<?> run;
+        private final int partition;
+        private final int[] offsets, targets, weights;
+        private int vertex;
+        private boolean hasMessage;
+        private double message;
+        private long sent;
+
+        private Context(Run<?> run, int partition) {
+            this.run = run;
+            this.partition = partition;
+            offsets = run.csr.getOffsets();
+            targets = run.csr.getTargets();
+            weights = run.csr.getWeights();
+        }
+
+        public int getSuperstep() {
+            return run.superstep;
+        }
+
+        public int getVertexCount() {
+            return run.csr.vertexCount();
+        }
+
+        public double getValue() {
+            return run.values[vertex];
+        }
+
+        public void setValue(double value) {
+            run.values[vertex] = value;
+        }
+
+        public boolean hasMessage() {
+            return hasMessage;
+        }
+
+        /**
+         * @return all messages sent to this vertex in the previous superstep, combined; the combiner identity if
+         * there were none
+         */
+        public double getMessage() {
+            return message;
+        }
+
+        public int getOutDegree() {
+            return offsets[vertex + 1] - offsets[vertex];
+        }
+
+        /**
+         * @param k index of an out-arc, in <code>[0, getOutDegree())</code>
+         */
+        public int getTarget(int k) {
+            return targets[offsets[vertex] + k];
+        }
+
+        public int getWeight(int k) {
+            return weights[offsets[vertex] + k];
+        }
+
+        public void sendTo(int target, double message) {
+            int to = run.owner[target];
+            if (to == partition) {
+                run.receive(1 - run.current, target, message);
+            } else {
+                run.outbox[partition][to].add(target, message);
+            }
+            ++sent;
+        }
+
+        public void sendToNeighbors(double message) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; ++i) {
+                sendTo(targets[i], message);
+            }
+        }
+
+        /**
+         * Deactivate this vertex until a message arrives.
+         */
+        public void voteToHalt() {
+            run.halted[vertex] = true;
+        }
+
+        /**
+         * Add to the global sum, readable by every vertex in the next superstep through {@link #getAggregate()}.
+         */
+        public void aggregate(double value) {
+            run.aggregator.add(value);
+        }
+
+        public double getAggregate() {
+            return run.aggregate;
+        }
+    }
+
+    /**
+     * Growable (target, message) pairs bound for one partition.
+     */
+    private static class MessageBuffer {
+        private int[] targets = new int[16];
+        private double[] messages = new double[16];
+        private int size;
+
+        private void add(int target, double message) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, 2 * size);
+                messages = Arrays.copyOf(messages, 2 * size);
+            }
+            targets[size] = target;
+            messages[size++] = message;
+        }
+    }
+
+    public static class ResultBean<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final double[] values;
+        private final int supersteps;
+        private final long messages;
+
+        private ResultBean(CsrGraph<V> csr, double[] values, int supersteps, long messages) {
+            this.csr = csr;
+            this.values = values;
+            this.supersteps = supersteps;
+            this.messages = messages;
+        }
+
+        public double getValue(V v) {
+            int id = csr.getId(v);
+            Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+            return values[id];
+        }
+
+        /**
+         * @return final value per vertex id of {@link #getGraph()}
+         */
+        public double[] getValues() {
+            return values;
+        }
+
+        public int getSupersteps() {
+            return supersteps;
+        }
+
+        public long getMessageCount() {
+            return messages;
+        }
+
+        public CsrGraph<V> getGraph() {
+            return csr;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package vvakar.graph.bsp;
+
+/**
+ * Folds all messages addressed to one vertex in a superstep into a single value, so inboxes stay one primitive
+ * slot per vertex. Must be commutative and associative; delivery order is unspecified.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public interface Combiner {
+    /**
+     * @return the neutral element, seen by vertices that received no message
+     */
+    double identity();
+
+    double combine(double a, double b);
+
+    Combiner MIN = new Combiner() {
+        @Override
+        public double identity() {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public double combine(double a, double b) {
+            return Math.min(a, b);
+        }
+    };
+
+    Combiner MAX = new Combiner() {
+        @Override
+        public double identity() {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        public double combine(double a, double b) {
+            return Math.max(a, b);
+        }
+    };
+
+    Combiner SUM = new Combiner() {
+        @Override
+        public double identity() {
+            return 0;
+        }
+
+        @Override
+        public double combine(double a, double b) {
+            return a + b;
+        }
+    };
+}
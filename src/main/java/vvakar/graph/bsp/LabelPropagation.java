@@ -0,0 +1,27 @@
+package vvakar.graph.bsp;
+
+/**
+ * Connected components by min-label propagation, run with {@link Combiner#MIN}: every vertex starts with its own
+ * id and adopts the smallest label it hears of. Each vertex ends up labelled with the smallest id that can reach it,
+ * so on a symmetric snapshot (see {@link vvakar.graph.components.CsrGraph#symmetrize()}) the label is the smallest
+ * id of its component. Takes O(diameter) supersteps.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class LabelPropagation implements VertexProgram {
+    @Override
+    public double initialValue(int vertex) {
+        return vertex;
+    }
+
+    @Override
+    public void compute(BspEngine.Context context, int vertex) {
+        if (context.getSuperstep() == 0) {
+            context.sendToNeighbors(context.getValue());
+        } else if (context.getMessage() < context.getValue()) {
+            context.setValue(context.getMessage());
+            context.sendToNeighbors(context.getMessage());
+        }
+        context.voteToHalt();
+    }
+}
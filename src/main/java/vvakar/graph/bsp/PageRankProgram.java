@@ -0,0 +1,42 @@
+package vvakar.graph.bsp;
+
+/**
+ * Fixed-iteration PageRank, run with {@link Combiner#SUM}. Vertices without out-arcs put their rank into the
+ * aggregator, and it is spread uniformly in the next superstep, so ranks keep summing to 1. Needs
+ * <code>iterations + 1</code> supersteps.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class PageRankProgram implements VertexProgram {
+    private final double damping;
+    private final int iterations;
+
+    public PageRankProgram(double damping, int iterations) {
+        this.damping = damping;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public double initialValue(int vertex) {
+        return 0;
+    }
+
+    @Override
+    public void compute(BspEngine.Context context, int vertex) {
+        int n = context.getVertexCount();
+        if (context.getSuperstep() == 0) {
+            context.setValue(1.0 / n);
+        } else {
+            double spread = context.getMessage() + context.getAggregate() / n;
+            context.setValue((1 - damping) / n + damping * spread);
+        }
+
+        if (context.getSuperstep() == iterations) {
+            context.voteToHalt();
+        } else if (context.getOutDegree() == 0) {
+            context.aggregate(context.getValue());
+        } else {
+            context.sendToNeighbors(context.getValue() / context.getOutDegree());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package vvakar.graph.bsp;
+
+/**
+ * Pregel's shortest paths, run with {@link Combiner#MIN}: a vertex that learns of a shorter distance adopts it and
+ * offers <code>distance + weight</code> to its out-neighbors. Unreachable vertices stay at positive infinity.
+ * Negative arcs are fine, but a negative cycle never quiesces, so bound the run with <code>maxSupersteps</code>.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class SingleSourceShortestPaths implements VertexProgram {
+    private final int source;
+
+    public SingleSourceShortestPaths(int source) {
+        this.source = source;
+    }
+
+    @Override
+    public double initialValue(int vertex) {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public void compute(BspEngine.Context context, int vertex) {
+        double candidate = context.getSuperstep() == 0 && vertex == source ? 0 : context.getMessage();
+        if (candidate < context.getValue()) {
+            context.setValue(candidate);
+            for (int k = 0; k < context.getOutDegree(); ++k) {
+                context.sendTo(context.getTarget(k), candidate + context.getWeight(k));
+            }
+        }
+        context.voteToHalt();
+    }
+}
@@ -0,0 +1,18 @@
+package vvakar.graph.bsp;
+
+/**
+ * "Think like a vertex" computation run by {@link BspEngine}. In every superstep, each vertex that is active or has
+ * received a message gets one {@link #compute} call. That call can read the combined message, update the vertex
+ * value, send messages for the next superstep and vote to halt. A halted vertex is woken up again by any incoming
+ * message.
+ * <p>
+ * Calls for different vertices run concurrently, so implementations must not keep mutable per-vertex state of
+ * their own; use the vertex value instead.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public interface VertexProgram {
+    double initialValue(int vertex);
+
+    void compute(BspEngine.Context context, int vertex);
+}
@@ -2,36 +2,43 @@ package vvakar.graph.components;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
 import vvakar.graph.interfaces.Edge;
 import vvakar.graph.interfaces.Graph;
 import vvakar.graph.interfaces.Vertex;
 import vvakar.graph.interfaces.VertexWeightBean;
 import vvakar.graph.interfaces.VertexWeightBeans;
 
-import java.util.ArrayList;
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * Every graph has vertices and edges.
+ * Every graph has vertices and edges. Each vertex is indexed to the edges that touch it, at either end, so
+ * neighbor lookup and removal cost O(degree) rather than a scan of every edge. That index is the only copy of the
+ * edges: {@link #getEdges()} is a view over it, and a put or removal touches just the two endpoint entries.
  * @author vvakar
  *         Date: 7/27/14
  */
 public abstract class AbstractGraph<V extends Vertex, E extends Edge<V>> implements Graph<V,E> {
-    protected final Map<V, V> vertices;
-    protected final Set<E> edges;
+    /** canonical vertex, and the edges that touch it, by vertex */
+    private final Map<V, Incidence<V, E>> incident;
+    private final Collection<E> edges;
+    private int edgeCount;
+    protected int modCount;
 
     public AbstractGraph() {
-        vertices = new HashMap<V,V>();
-        edges = new HashSet<E>();
+        incident = new HashMap<V, Incidence<V, E>>();
+        edges = new EdgeView();
     }
 
     public Collection<V> getVertices() {
-        return vertices.values();
+        return incident.keySet();
     }
 
     public Collection<E> getEdges() { return edges; }
@@ -44,13 +51,14 @@ public abstract class AbstractGraph<V extends Vertex, E extends Edge<V>> impleme
     public VertexWeightBeans<V> getNeighborsOf(V v) {
         Preconditions.checkNotNull(v);
 
-//        Collection<VertexWeightBeansImpl<V>> coll = new ArrayList<VertexWeightBeansImpl<V>>();
         VertexWeightBeansImpl<V> vertexWeightBeans = new VertexWeightBeansImpl<V>();
-        // FIXME: move edge information into the vertices
-        for(E e : edges) {
-            Optional<V> maybeV = e.getTargetIfOriginatorIs(v);
-            if(maybeV.isPresent()) {
-                vertexWeightBeans.add(maybeV.get(), e.getWeight());
+        Incidence<V, E> node = incident.get(v);
+        if(node != null) {
+            for(E e : node.edges) {
+                Optional<V> maybeV = e.getTargetIfOriginatorIs(v);
+                if(maybeV.isPresent()) {
+                    vertexWeightBeans.add(maybeV.get(), e.getWeight());
+                }
             }
         }
         return vertexWeightBeans;
@@ -61,30 +69,95 @@ public abstract class AbstractGraph<V extends Vertex, E extends Edge<V>> impleme
      */
     @Override
     public void put(E e) {
+        add(e);
+    }
+
+    /**
+     * Make <code>Edge</code> known to the system, unless an equal one already is.
+     * @return false if an equal edge was present, in which case nothing changed
+     */
+    protected boolean add(E e) {
+        Preconditions.checkNotNull(e);
+        Incidence<V, E> from = putVertex(e.getV1()), to = putVertex(e.getV2());
+        if(!from.edges.add(e)) {
+            return false;
+        }
+        to.edges.add(e); // no-op for a loop
+        e.setV1(from.vertex);
+        e.setV2(to.vertex);
+        link(from.vertex, e);
+        ++edgeCount;
+        ++modCount;
+        return true;
+    }
+
+    /**
+     * Forget <code>Edge</code>. O(1) expected.
+     */
+    @Override
+    public boolean removeEdge(E e) {
         Preconditions.checkNotNull(e);
-        V startVertex = e.getV1();
-        putVertex(startVertex, e);
-        putVertex(e.getV2());
+        Incidence<V, E> from = incident.get(e.getV1());
+        if(from == null || !from.edges.remove(e)) {
+            return false;
+        }
+        incident.get(e.getV2()).edges.remove(e);
+        unlink(from.vertex, e);
+        --edgeCount;
+        ++modCount;
+        return true;
+    }
+
+    /**
+     * Forget <code>Vertex</code> and its edges. O(degree), counting edges at both ends.
+     */
+    @Override
+    public boolean removeVertex(V v) {
+        Preconditions.checkNotNull(v);
+        Incidence<V, E> node = incident.remove(v);
+        if(node == null) {
+            return false;
+        }
+        for(E e : node.edges) {
+            // stored edges hold canonical vertices, so identity tells the ends apart
+            V other = e.getV1() == node.vertex ? e.getV2() : e.getV1();
+            if(other != node.vertex) {
+                incident.get(other).edges.remove(e);
+            }
+            unlink(e.getV1(), e);
+            --edgeCount;
+        }
+        ++modCount;
+        return true;
+    }
 
-        e.setV1(vertices.get(e.getV1()));
-        e.setV2(vertices.get(e.getV2()));
-        edges.add(e);
+    /**
+     * @return counter that changes on every structural modification, lets callers cache derived data
+     */
+    public int getModCount() {
+        return modCount;
     }
 
-    private V putVertex(V vertex) {
-        V temp = vertices.get(vertex);
-        if(temp == null) {
-            temp = vertex;
-            vertices.put(vertex, vertex);
+    private Incidence<V, E> putVertex(V vertex) {
+        Incidence<V, E> node = incident.get(vertex);
+        if(node == null) {
+            node = new Incidence<V, E>(vertex);
+            incident.put(vertex, node);
         }
-        return temp;
+        return node;
     }
 
-    private V putVertex(V vertex, E edge) {
-        V temp = putVertex(vertex);
-        temp.addEdge(edge);
-        return temp;
+    // V is bounded by the raw Vertex, so the edge type its set holds is not known here
+    @SuppressWarnings("unchecked")
+    private static void link(Vertex vertex, Edge e) {
+        vertex.addEdge(e);
     }
+
+    @SuppressWarnings("unchecked")
+    private static void unlink(Vertex vertex, Edge e) {
+        vertex.removeEdge(e);
+    }
+
     /**
      * Get specified <code>Edge</code>.
      * @param e edge to find
@@ -106,4 +179,58 @@ public abstract class AbstractGraph<V extends Vertex, E extends Edge<V>> impleme
 
         return Optional.fromNullable(opt);
     }
+
+    private static class Incidence<V, E> {
+        private final V vertex;
+        private final Set<E> edges = new HashSet<E>();
+
+        private Incidence(V vertex) {
+            this.vertex = vertex;
+        }
+    }
+
+    /**
+     * Every edge once, from the entry of its start vertex.
+     */
+    private class EdgeView extends AbstractCollection<E> {
+        @Override
+        public int size() {
+            return edgeCount;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if(!(o instanceof Edge)) {
+                return false;
+            }
+            Incidence<V, E> node = incident.get(((Edge<?>) o).getV1());
+            return node != null && node.edges.contains(o);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new AbstractIterator<E>() {
+                private final Iterator<Incidence<V, E>> nodes = incident.values().iterator();
+                private Incidence<V, E> node;
+                private Iterator<E> touching = Iterators.emptyIterator();
+
+                @Override
+                protected E computeNext() {
+                    while(true) {
+                        while(touching.hasNext()) {
+                            E e = touching.next();
+                            if(e.getV1() == node.vertex) {
+                                return e;
+                            }
+                        }
+                        if(!nodes.hasNext()) {
+                            return endOfData();
+                        }
+                        node = nodes.next();
+                        touching = node.edges.iterator();
+                    }
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package vvakar.graph.components;
+
+/**
+ * Reader over a {@link BitWriter} stream. Cheap to create; positions are absolute bit offsets.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+class BitReader {
+    private final long[] words;
+    private long position;
+
+    BitReader(long[] words, long position) {
+        this.words = words;
+        this.position = position;
+    }
+
+    long position() {
+        return position;
+    }
+
+    long readBits(int count) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) (position >>> 6), offset = (int) (position & 63);
+        int available = 64 - offset;
+        long result;
+        if (count <= available) {
+            result = (words[index] << offset) >>> (64 - count);
+        } else {
+            int rest = count - available;
+            result = (((words[index] << offset) >>> offset) << rest) | (words[index + 1] >>> (64 - rest));
+        }
+        position += count;
+        return result;
+    }
+
+    int readUnary() {
+        int zeros = 0;
+        while (true) {
+            int offset = (int) (position & 63);
+            long bits = words[(int) (position >>> 6)] << offset;
+            if (bits != 0) {
+                int leading = Long.numberOfLeadingZeros(bits);
+                position += leading + 1;
+                return zeros + leading;
+            }
+            zeros += 64 - offset;
+            position += 64 - offset;
+        }
+    }
+
+    long readGamma() {
+        int length = readUnary();
+        return ((1L << length) | readBits(length)) - 1;
+    }
+
+    long readZeta(int k) {
+        int h = readUnary();
+        long lower = 1L << (h * k), upper = 1L << ((h + 1) * k);
+        return lower + readMinimalBinary(upper - lower) - 1;
+    }
+
+    private long readMinimalBinary(long z) {
+        int s = 64 - Long.numberOfLeadingZeros(z - 1);
+        long m = (1L << s) - z;
+        long y = readBits(s - 1);
+        if (y < m) {
+            return y;
+        }
+        return ((y << 1) | readBits(1)) - m;
+    }
+}
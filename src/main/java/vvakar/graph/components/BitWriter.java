@@ -0,0 +1,93 @@
+package vvakar.graph.components;
+
+import java.util.Arrays;
+
+/**
+ * Growable bit stream, most significant bit first, with the instantaneous codes used by {@link CompressedGraph}.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+class BitWriter {
+    private long[] words = new long[16];
+    private long size;
+
+    long size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(words, 0, (int) (size >>> 6) + 1, 0L);
+        size = 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(words, (int) ((size + 63) >>> 6) + 1);
+    }
+
+    /**
+     * Append the low <code>count</code> bits of <code>value</code>.
+     */
+    void writeBits(long value, int count) {
+        if (count == 0) {
+            return;
+        }
+        int index = (int) (size >>> 6);
+        if (index + 1 >= words.length) {
+            words = Arrays.copyOf(words, 2 * words.length);
+        }
+        if (count < 64) {
+            value &= (1L << count) - 1;
+        }
+        int free = 64 - (int) (size & 63);
+        if (count <= free) {
+            words[index] |= value << (free - count);
+        } else {
+            words[index] |= value >>> (count - free);
+            words[index + 1] |= value << (64 - (count - free));
+        }
+        size += count;
+    }
+
+    /**
+     * <code>x</code> zeros followed by a one.
+     */
+    void writeUnary(int x) {
+        while (x >= 63) {
+            writeBits(0, 63);
+            x -= 63;
+        }
+        writeBits(1, x + 1);
+    }
+
+    /**
+     * Elias gamma code of <code>x + 1</code>, for <code>x &gt;= 0</code>.
+     */
+    void writeGamma(long x) {
+        long v = x + 1;
+        int length = 63 - Long.numberOfLeadingZeros(v);
+        writeUnary(length);
+        writeBits(v, length);
+    }
+
+    /**
+     * Boldi-Vigna zeta_k code of <code>x + 1</code>, for <code>x &gt;= 0</code>: bucket number in unary, then the
+     * offset within the bucket in minimal binary.
+     */
+    void writeZeta(long x, int k) {
+        long v = x + 1;
+        int h = (63 - Long.numberOfLeadingZeros(v)) / k;
+        writeUnary(h);
+        long lower = 1L << (h * k), upper = 1L << ((h + 1) * k);
+        writeMinimalBinary(v - lower, upper - lower);
+    }
+
+    private void writeMinimalBinary(long y, long z) {
+        int s = 64 - Long.numberOfLeadingZeros(z - 1);
+        long m = (1L << s) - z;
+        if (y < m) {
+            writeBits(y, s - 1);
+        } else {
+            writeBits(y + m, s);
+        }
+    }
+}
@@ -0,0 +1,543 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only {@link Graph} whose successor lists are compressed in the style of WebGraph's BV format (Boldi and
+ * Vigna). Web and social graphs have two properties this exploits. Successors tend to have ids close to the
+ * source and to each other, so sorted lists are stored as gaps in instantaneous bit codes. Vertices that are
+ * close in id order tend to have similar lists, so a list may be stored as a copy of part of one of the
+ * previous <code>window</code> lists plus the successors that copy misses. With a locality-friendly id order
+ * this takes 2-4 bits per arc, against 64 for a {@link CsrGraph}.
+ * <p>
+ * Per vertex the bit stream holds:
+ * <ul>
+ *     <li>gamma(outdegree)</li>
+ *     <li>gamma(reference): 0 for none, otherwise r to copy from vertex <code>v - r</code></li>
+ *     <li>with a reference, gamma(block count) and the block lengths. Blocks alternate, starting with "copy", over
+ *     the referenced list; the last block is implicit</li>
+ *     <li>the remaining successors: zeta_3 of the signed gap from <code>v</code>, then zeta_3 of each gap
+ *     minus one</li>
+ * </ul>
+ * Reference chains are at most <code>maxChain</code> long, which bounds the work to decode a list. The skip
+ * index stores each list's length in bits as a gamma code and samples the absolute position every 32 vertices,
+ * so finding a list costs at most 31 small decodes and about 20 bits per vertex.
+ * <p>
+ * Neighbors are decoded lazily while they are iterated, which plugs the graph into the traversal iterators.
+ * Use {@link #successors(int)} or {@link #forEachSuccessor} on hot paths to skip the vertex and bean objects.
+ * <p>
+ * The graph is simple and unweighted: parallel arcs are collapsed and every neighbor reports weight 1.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class CompressedGraph<V extends Vertex> implements Graph<V, DirectedEdge<V>> {
+    public static final int DEFAULT_WINDOW = 7;
+    public static final int DEFAULT_MAX_CHAIN = 3;
+    private static final int ZETA_K = 3;
+    private static final int SAMPLE_SHIFT = 5;
+    private static final int[] EMPTY = new int[0];
+
+    private final List<V> vertices;
+    private final long arcCount;
+    private final long[] bits;
+    private final long graphBits;
+    /** gamma-coded length in bits of every list */
+    private final long[] lengths;
+    private final long lengthBits;
+    /** every 32 vertices: position of the list in bits, and of its length in lengths */
+    private final long[] samples;
+    private final int window, maxChain;
+    private volatile Map<V, Integer> ids;
+
+    private CompressedGraph(List<V> vertices, long arcCount, BitWriter graph, BitWriter lengths, long[] samples,
+                            int window, int maxChain) {
+        this.vertices = vertices;
+        this.arcCount = arcCount;
+        this.bits = graph.toArray();
+        this.graphBits = graph.size();
+        this.lengths = lengths.toArray();
+        this.lengthBits = lengths.size();
+        this.samples = samples;
+        this.window = window;
+        this.maxChain = maxChain;
+    }
+
+    public static <V extends Vertex> CompressedGraph<V> compress(CsrGraph<V> csr) {
+        return compress(csr, DEFAULT_WINDOW, DEFAULT_MAX_CHAIN);
+    }
+
+    /**
+     * @param window   how many previous lists to consider as references; 0 disables reference copying
+     * @param maxChain longest chain of references to follow when decoding
+     */
+    public static <V extends Vertex> CompressedGraph<V> compress(CsrGraph<V> csr, int window, int maxChain) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkArgument(window >= 0, "window must not be negative");
+        Preconditions.checkArgument(maxChain >= 0, "maxChain must not be negative");
+        int n = csr.vertexCount();
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+
+        BitWriter graph = new BitWriter(), lengths = new BitWriter(), trial = new BitWriter();
+        long[] samples = new long[2 * ((n >>> SAMPLE_SHIFT) + 1)];
+        int[][] recent = new int[window + 1][];
+        int[] chain = new int[n];
+        long arcs = 0;
+        for (int v = 0; v < n; ++v) {
+            if ((v & ((1 << SAMPLE_SHIFT) - 1)) == 0) {
+                samples[2 * (v >>> SAMPLE_SHIFT)] = graph.size();
+                samples[2 * (v >>> SAMPLE_SHIFT) + 1] = lengths.size();
+            }
+            int[] list = distinct(targets, offsets[v], offsets[v + 1]);
+            arcs += list.length;
+
+            // pick the reference that gives the shortest encoding
+            int best = 0;
+            long bestBits = Long.MAX_VALUE;
+            if (list.length > 0) {
+                for (int r = 0; r <= Math.min(window, v); ++r) {
+                    if (r > 0 && chain[v - r] >= maxChain) {
+                        continue;
+                    }
+                    trial.clear();
+                    encode(trial, v, list, r, r == 0 ? null : recent[(v - r) % (window + 1)]);
+                    if (trial.size() < bestBits) {
+                        bestBits = trial.size();
+                        best = r;
+                    }
+                }
+                chain[v] = best == 0 ? 0 : chain[v - best] + 1;
+            }
+            long start = graph.size();
+            encode(graph, v, list, best, best == 0 ? null : recent[(v - best) % (window + 1)]);
+            lengths.writeGamma(graph.size() - start);
+            recent[v % (window + 1)] = list;
+        }
+        return new CompressedGraph<V>(new ArrayList<V>(csr.getVertices()), arcs, graph, lengths, samples, window,
+                maxChain);
+    }
+
+    private static void encode(BitWriter out, int v, int[] list, int reference, int[] referenced) {
+        out.writeGamma(list.length);
+        if (list.length == 0) {
+            return;
+        }
+        out.writeGamma(reference);
+        int[] residuals = list;
+        if (reference > 0) {
+            residuals = writeCopyBlocks(out, list, referenced);
+        }
+        int previous = v;
+        for (int i = 0; i < residuals.length; ++i) {
+            if (i == 0) {
+                out.writeZeta(int2nat(residuals[0] - (long) v), ZETA_K);
+            } else {
+                out.writeZeta(residuals[i] - previous - 1, ZETA_K);
+            }
+            previous = residuals[i];
+        }
+    }
+
+    /**
+     * Write which elements of <code>referenced</code> also appear in <code>list</code> as alternating copy/skip
+     * run lengths.
+     * @return elements of <code>list</code> not covered by the copy, in order
+     */
+    private static int[] writeCopyBlocks(BitWriter out, int[] list, int[] referenced) {
+        int[] runs = new int[referenced.length + 1];
+        int[] residuals = new int[list.length];
+        int blocks = 0, residualCount = 0, j = 0;
+        boolean copying = true;
+        for (int i = 0; i < referenced.length; ++i) {
+            while (j < list.length && list[j] < referenced[i]) {
+                residuals[residualCount++] = list[j++];
+            }
+            boolean present = j < list.length && list[j] == referenced[i];
+            if (present) {
+                ++j;
+            }
+            if (present != copying) {
+                ++blocks;
+                copying = present;
+            }
+            ++runs[blocks];
+        }
+        while (j < list.length) {
+            residuals[residualCount++] = list[j++];
+        }
+        // runs[0..blocks] cover the referenced list; the last one is implied by its length
+        out.writeGamma(blocks);
+        for (int b = 0; b < blocks; ++b) {
+            out.writeGamma(b == 0 ? runs[0] : runs[b] - 1);
+        }
+        return Arrays.copyOf(residuals, residualCount);
+    }
+
+    private static int[] distinct(int[] targets, int from, int to) {
+        int[] list = new int[to - from];
+        int size = 0;
+        for (int i = from; i < to; ++i) {
+            if (size == 0 || list[size - 1] != targets[i]) {
+                list[size++] = targets[i];
+            }
+        }
+        return size == list.length ? list : Arrays.copyOf(list, size);
+    }
+
+    private static long int2nat(long x) {
+        return x >= 0 ? 2 * x : -2 * x - 1;
+    }
+
+    private static long nat2int(long x) {
+        return (x & 1) == 0 ? x >>> 1 : -((x + 1) >>> 1);
+    }
+
+    public int getVertexCount() {
+        return vertices.size();
+    }
+
+    public long getArcCount() {
+        return arcCount;
+    }
+
+    public V getVertex(int id) {
+        return vertices.get(id);
+    }
+
+    /**
+     * @return id of <code>v</code>, or -1 if it is not part of the graph
+     */
+    public int getId(V v) {
+        Preconditions.checkNotNull(v);
+        Map<V, Integer> map = ids;
+        if (map == null) {
+            map = Maps.newHashMapWithExpectedSize(vertices.size());
+            for (int i = 0; i < vertices.size(); ++i) {
+                map.put(vertices.get(i), i);
+            }
+            ids = map;
+        }
+        Integer id = map.get(v);
+        return id == null ? -1 : id;
+    }
+
+    public int degree(int v) {
+        return (int) reader(v).readGamma();
+    }
+
+    /**
+     * @return a lazy iterator over the successors of <code>v</code>, in increasing order
+     */
+    public SuccessorIterator successors(int v) {
+        return new SuccessorIterator(v);
+    }
+
+    /**
+     * Call <code>visitor</code> for every successor of <code>v</code>, in increasing order.
+     */
+    public void forEachSuccessor(int v, SuccessorVisitor visitor) {
+        SuccessorIterator it = new SuccessorIterator(v);
+        for (int w = it.nextInt(); w >= 0; w = it.nextInt()) {
+            visitor.visit(v, w);
+        }
+    }
+
+    /**
+     * @return the successors of <code>v</code>, fully decoded
+     */
+    public int[] successorArray(int v) {
+        SuccessorIterator it = new SuccessorIterator(v);
+        int[] list = new int[it.degree];
+        for (int i = 0; i < list.length; ++i) {
+            list[i] = it.nextInt();
+        }
+        return list;
+    }
+
+    /**
+     * Decompress into a {@link CsrGraph} with unit weights.
+     */
+    public CsrGraph<V> toCsrGraph() {
+        Preconditions.checkState(arcCount <= Integer.MAX_VALUE, "too many arcs for a CsrGraph");
+        int n = vertices.size();
+        int[] offsets = new int[n + 1], targets = new int[(int) arcCount], weights = new int[(int) arcCount];
+        Arrays.fill(weights, 1);
+        for (int v = 0; v < n; ++v) {
+            SuccessorIterator it = new SuccessorIterator(v);
+            int arc = offsets[v];
+            for (int w = it.nextInt(); w >= 0; w = it.nextInt()) {
+                targets[arc++] = w;
+            }
+            offsets[v + 1] = arc;
+        }
+        return new CsrGraph<V>(vertices, offsets, targets, weights);
+    }
+
+    /**
+     * @return size of the successor lists alone
+     */
+    public long getGraphBits() {
+        return graphBits;
+    }
+
+    /**
+     * @return size of the skip index: gamma-coded list lengths plus the samples
+     */
+    public long getIndexBits() {
+        return lengthBits + 64L * samples.length;
+    }
+
+    public double getBitsPerArc() {
+        return arcCount == 0 ? 0 : (double) (graphBits + getIndexBits()) / arcCount;
+    }
+
+    public String getReport() {
+        return String.format("vertices=%d arcs=%d window=%d maxChain=%d graphBits=%d indexBits=%d bitsPerArc=%.2f",
+                vertices.size(), arcCount, window, maxChain, graphBits, getIndexBits(), getBitsPerArc());
+    }
+
+    /**
+     * @return a reader positioned at the start of the list of <code>v</code>
+     */
+    private BitReader reader(int v) {
+        Preconditions.checkElementIndex(v, vertices.size());
+        int sample = v >>> SAMPLE_SHIFT;
+        long position = samples[2 * sample];
+        BitReader skip = new BitReader(lengths, samples[2 * sample + 1]);
+        for (int u = sample << SAMPLE_SHIFT; u < v; ++u) {
+            position += skip.readGamma();
+        }
+        return new BitReader(bits, position);
+    }
+
+    @Override
+    public Collection<V> getVertices() {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    @Override
+    public Collection<DirectedEdge<V>> getEdges() {
+        return new AbstractCollection<DirectedEdge<V>>() {
+            @Override
+            public Iterator<DirectedEdge<V>> iterator() {
+                return new Iterator<DirectedEdge<V>>() {
+                    private int source = -1;
+                    private SuccessorIterator successors;
+                    private int next = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next < 0) {
+                            if (successors != null && (next = successors.nextInt()) >= 0) {
+                                break;
+                            }
+                            if (source + 1 >= vertices.size()) {
+                                return false;
+                            }
+                            successors = new SuccessorIterator(++source);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public DirectedEdge<V> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        DirectedEdge<V> edge = new DirectedEdge<V>(vertices.get(source), vertices.get(next), 1);
+                        next = -1;
+                        return edge;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, arcCount);
+            }
+        };
+    }
+
+    @Override
+    public VertexWeightBeans<V> getNeighborsOf(V v) {
+        final int id = getId(v);
+        if (id < 0) {
+            return new VertexWeightBeansImpl<V>();
+        }
+        final int degree = degree(id);
+        return new VertexWeightBeans<V>() {
+            @Override
+            public boolean isEmpty() {
+                return degree == 0;
+            }
+
+            @Override
+            public int size() {
+                return degree;
+            }
+
+            @Override
+            public Iterator<VertexWeightBean<V>> iterator() {
+                return new Iterator<VertexWeightBean<V>>() {
+                    private final SuccessorIterator successors = new SuccessorIterator(id);
+
+                    @Override
+                    public boolean hasNext() {
+                        return successors.hasNext();
+                    }
+
+                    @Override
+                    public VertexWeightBean<V> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        return new VertexWeightBean<V>(vertices.get(successors.nextInt()), 1);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Always throws; the graph is read-only.
+     */
+    @Override
+    public void put(DirectedEdge<V> e) {
+        throw new UnsupportedOperationException("CompressedGraph is read-only");
+    }
+
+    /**
+     * Always throws; the graph is read-only.
+     */
+    @Override
+    public boolean removeEdge(DirectedEdge<V> e) {
+        throw new UnsupportedOperationException("CompressedGraph is read-only");
+    }
+
+    /**
+     * Always throws; the graph is read-only.
+     */
+    @Override
+    public boolean removeVertex(V v) {
+        throw new UnsupportedOperationException("CompressedGraph is read-only");
+    }
+
+    /**
+     * Arcs are unweighted, so only the endpoints are matched.
+     */
+    @Override
+    public Optional<DirectedEdge<V>> get(DirectedEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        int u = getId(e.getV1()), w = getId(e.getV2());
+        if (u < 0 || w < 0) {
+            return Optional.absent();
+        }
+        SuccessorIterator it = new SuccessorIterator(u);
+        int next;
+        while ((next = it.nextInt()) >= 0 && next < w) {
+            // lists are sorted
+        }
+        return next == w ? Optional.of(e) : Optional.<DirectedEdge<V>>absent();
+    }
+
+    /**
+     * Callback for {@link #forEachSuccessor}.
+     */
+    public interface SuccessorVisitor {
+        void visit(int source, int target);
+    }
+
+    /**
+     * Merges the copied part of a list with its gap-coded residuals, decoding the residuals one at a time. The
+     * copied part needs the referenced list, which is decoded up front.
+     */
+    public class SuccessorIterator {
+        private final BitReader in;
+        private final int degree;
+        private final int[] copied;
+        private int copiedNext;
+        private int residualsLeft;
+        private int residual = -1;
+
+        private SuccessorIterator(int v) {
+            in = reader(v);
+            degree = (int) in.readGamma();
+            if (degree == 0) {
+                copied = EMPTY;
+                return;
+            }
+            int reference = (int) in.readGamma();
+            copied = reference == 0 ? EMPTY : readCopyBlocks(successorArray(v - reference));
+            residualsLeft = degree - copied.length;
+            if (residualsLeft > 0) {
+                --residualsLeft;
+                residual = (int) (v + nat2int(in.readZeta(ZETA_K)));
+            }
+        }
+
+        private int[] readCopyBlocks(int[] referenced) {
+            int blocks = (int) in.readGamma();
+            int[] result = new int[referenced.length];
+            int size = 0, position = 0;
+            for (int b = 0; b <= blocks; ++b) {
+                int run = b == blocks ? referenced.length - position
+                        : b == 0 ? (int) in.readGamma() : (int) in.readGamma() + 1;
+                if ((b & 1) == 0) {
+                    System.arraycopy(referenced, position, result, size, run);
+                    size += run;
+                }
+                position += run;
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * @return outdegree, without duplicates
+         */
+        public int degree() {
+            return degree;
+        }
+
+        public boolean hasNext() {
+            return residual >= 0 || copiedNext < copied.length;
+        }
+
+        /**
+         * @return the next successor, or -1 when there are none left
+         */
+        public int nextInt() {
+            if (residual >= 0 && (copiedNext == copied.length || residual < copied[copiedNext])) {
+                int result = residual;
+                if (residualsLeft > 0) {
+                    --residualsLeft;
+                    residual = (int) (residual + in.readZeta(ZETA_K) + 1);
+                } else {
+                    residual = -1;
+                }
+                return result;
+            }
+            return copiedNext < copied.length ? copied[copiedNext++] : -1;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe counterpart of {@link SimpleAbstractGraph}, for many threads calling {@link #put} at once without an
+ * external lock.
+ * <ul>
+ *     <li>vertices are canonicalized through <code>putIfAbsent</code> on a concurrent map, so lookups never block
+ *     and two threads adding the same vertex end up sharing one instance</li>
+ *     <li>duplicate rejection is a single atomic add to a concurrent edge set: of two threads putting equal edges,
+ *     exactly one succeeds and the other gets the usual {@link IllegalArgumentException}</li>
+ *     <li>each vertex has a lock-free queue of its incident edges, so {@link #getNeighborsOf} touches
+ *     only that vertex instead of scanning every edge</li>
+ *     <li>{@link Vertex#addEdge} is not thread-safe for {@link SimpleVertex}, so it runs under one of a fixed set
+ *     of striped locks, chosen by the vertex hash</li>
+ * </ul>
+ * Writers on different vertices share no lock, so ingestion scales with cores. Reads are weakly consistent: an
+ * edge being put may be visible in {@link #getEdges()} and among the neighbors a moment before it shows up in the
+ * edge set of its start vertex. Read the per-vertex edge sets only once writers are done.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public abstract class ConcurrentAbstractGraph<V extends Vertex, E extends Edge<V>> implements Graph<V, E> {
+    private final ConcurrentMap<V, V> vertices = new ConcurrentHashMap<V, V>();
+    private final Set<E> edges = Collections.newSetFromMap(new ConcurrentHashMap<E, Boolean>());
+    private final ConcurrentMap<V, Queue<E>> incident = new ConcurrentHashMap<V, Queue<E>>();
+    private final Object[] locks;
+    private final AtomicInteger modCount = new AtomicInteger();
+
+    public ConcurrentAbstractGraph() {
+        int stripes = Integer.highestOneBit(Math.max(1, 4 * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        locks = new Object[stripes];
+        for (int i = 0; i < stripes; ++i) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Collection<V> getVertices() {
+        return Collections.unmodifiableCollection(vertices.values());
+    }
+
+    @Override
+    public Collection<E> getEdges() {
+        return Collections.unmodifiableSet(edges);
+    }
+
+    /**
+     * Find immediate neighbors of specified <code>Vertex</code>.
+     * @param v cannot be null
+     */
+    @Override
+    public VertexWeightBeans<V> getNeighborsOf(V v) {
+        Preconditions.checkNotNull(v);
+        VertexWeightBeansImpl<V> vertexWeightBeans = new VertexWeightBeansImpl<V>();
+        Queue<E> queue = incident.get(v);
+        if (queue != null) {
+            for (E e : queue) {
+                Optional<V> maybeV = e.getTargetIfOriginatorIs(v);
+                // queued edges may not be published yet, or may be losing duplicates; the edge set decides
+                if (maybeV.isPresent() && edges.contains(e)) {
+                    vertexWeightBeans.add(maybeV.get(), e.getWeight());
+                }
+            }
+        }
+        return vertexWeightBeans;
+    }
+
+    /**
+     * Make <code>Edge</code> known to the graph. Safe to call from any number of threads.
+     * @throws IllegalArgumentException if an equal edge is already present
+     */
+    @Override
+    public void put(E e) {
+        Preconditions.checkNotNull(e);
+        V v1 = putVertex(e.getV1()), v2 = putVertex(e.getV2());
+        e.setV1(v1);
+        e.setV2(v2);
+        // queue before publishing, so that a removal which sees the edge also finds its queue entries
+        append(v1, e);
+        if (!v1.equals(v2)) {
+            append(v2, e); // in-edges too, so that removing a vertex finds them
+        }
+        if (!edges.add(e)) {
+            detach(v1, e);
+            if (!v1.equals(v2)) {
+                detach(v2, e);
+            }
+            throw new IllegalArgumentException("Edge " + e + " already exists in graph. Simple Graph allows no duplicates.");
+        }
+        synchronized (lockFor(v1)) {
+            // a removal may have won since the add; it unlinks under this same lock
+            if (edges.contains(e)) {
+                linkTo(v1, e);
+            }
+        }
+        modCount.incrementAndGet();
+    }
+
+    /**
+     * Forget <code>Edge</code>. Of two threads removing equal edges, exactly one gets true. O(degree).
+     */
+    @Override
+    public boolean removeEdge(E e) {
+        Preconditions.checkNotNull(e);
+        if (!edges.remove(e)) {
+            return false;
+        }
+        unlink(e, vertices.get(e.getV1()));
+        modCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Forget <code>Vertex</code> and the edges that touch it. O(degree), counting edges at both ends. Edges put
+     * concurrently with the removal of one of their endpoints may bring the vertex back.
+     */
+    @Override
+    public boolean removeVertex(V v) {
+        Preconditions.checkNotNull(v);
+        V vertex = vertices.remove(v);
+        if (vertex == null) {
+            return false;
+        }
+        Queue<E> queue = incident.remove(vertex);
+        if (queue != null) {
+            for (E e : queue) {
+                if (edges.remove(e)) {
+                    unlink(e, e.getV1());
+                }
+            }
+        }
+        modCount.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public Optional<E> get(E e) {
+        Preconditions.checkNotNull(e);
+        return edges.contains(e) ? Optional.of(e) : Optional.<E>absent();
+    }
+
+    /**
+     * @return counter that changes on every structural modification, lets callers cache derived data
+     */
+    public int getModCount() {
+        return modCount.get();
+    }
+
+    private V putVertex(V vertex) {
+        V existing = vertices.putIfAbsent(vertex, vertex);
+        return existing == null ? vertex : existing;
+    }
+
+    private void append(V vertex, E e) {
+        Queue<E> queue = incident.get(vertex);
+        if (queue == null) {
+            Queue<E> created = new ConcurrentLinkedQueue<E>();
+            queue = incident.putIfAbsent(vertex, created);
+            if (queue == null) {
+                queue = created;
+            }
+        }
+        queue.add(e);
+    }
+
+    /**
+     * @param v1 canonical start vertex, null if it is gone
+     */
+    private void unlink(E e, V v1) {
+        if (v1 != null) {
+            synchronized (lockFor(v1)) {
+                unlinkFrom(v1, e);
+            }
+        }
+        detach(e.getV1(), e);
+        detach(e.getV2(), e);
+    }
+
+    private void detach(V vertex, E e) {
+        Queue<E> queue = incident.get(vertex);
+        if (queue != null) {
+            queue.remove(e);
+        }
+    }
+
+    // V is bounded by the raw Vertex, so the edge type its set holds is not known here
+    @SuppressWarnings("unchecked")
+    private static void linkTo(Vertex vertex, Edge e) {
+        vertex.addEdge(e);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void unlinkFrom(Vertex vertex, Edge e) {
+        vertex.removeEdge(e);
+    }
+
+    private Object lockFor(V vertex) {
+        int h = vertex.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return locks[h & (locks.length - 1)];
+    }
+}
@@ -0,0 +1,11 @@
+package vvakar.graph.components;
+
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * {@link SimpleDirectedGraph} that takes concurrent writers.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConcurrentDirectedGraph<V extends Vertex> extends ConcurrentAbstractGraph<V, DirectedEdge<V>> {
+}
@@ -0,0 +1,11 @@
+package vvakar.graph.components;
+
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * {@link SimpleUndirectedGraph} that takes concurrent writers.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConcurrentUndirectedGraph<V extends Vertex> extends ConcurrentAbstractGraph<V, UndirectedEdge<V>> {
+}
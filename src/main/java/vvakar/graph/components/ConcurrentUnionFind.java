@@ -0,0 +1,117 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free disjoint sets over the elements <code>0..n-1</code>; any number of threads may call
+ * {@link #find}, {@link #union} and {@link #connected} concurrently.
+ * <p>
+ * A single {@link AtomicIntegerArray} holds either the parent of an element or, for a root, its negated set size.
+ * Roots are linked by a fixed pseudo-random priority (randomized linking by index), so two threads can never link
+ * two roots under each other, and the CAS that links a root also seals its size. The linker then adds that size
+ * to whatever root its new parent currently has. Set sizes are therefore exact once no unions are in flight;
+ * {@link #count()} is exact at all times.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger count;
+
+    public ConcurrentUnionFind(int n) {
+        Preconditions.checkArgument(n >= 0);
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; ++i) {
+            parent.set(i, -1);
+        }
+        count = new AtomicInteger(n);
+    }
+
+    public int find(int x) {
+        int p;
+        while ((p = parent.get(x)) >= 0) {
+            int gp = parent.get(p);
+            if (gp < 0) {
+                return p;
+            }
+            parent.compareAndSet(x, p, gp); // path halving, losing the race is harmless
+            x = gp;
+        }
+        return x;
+    }
+
+    /**
+     * Merge the sets containing <code>a</code> and <code>b</code>.
+     * @return true if this call merged two previously disjoint sets
+     */
+    public boolean union(int a, int b) {
+        while (true) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) {
+                return false;
+            }
+            if (priority(ra) > priority(rb)) {
+                int tmp = ra;
+                ra = rb;
+                rb = tmp;
+            }
+
+            int sizeA = parent.get(ra);
+            if (sizeA < 0 && parent.compareAndSet(ra, sizeA, rb)) {
+                addSize(rb, -sizeA);
+                count.decrementAndGet();
+                return true;
+            }
+            // ra stopped being a root in the meantime, retry with fresh roots
+        }
+    }
+
+    public boolean connected(int a, int b) {
+        while (true) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) {
+                return true;
+            }
+            if (parent.get(ra) < 0) {
+                return false; // ra still a root, so the sets were disjoint when rb was found
+            }
+        }
+    }
+
+    /**
+     * @return number of elements in the set containing <code>x</code>, exact once no unions are in flight
+     */
+    public int size(int x) {
+        return -parent.get(find(x));
+    }
+
+    public int count() {
+        return count.get();
+    }
+
+    public int capacity() {
+        return parent.length();
+    }
+
+    private void addSize(int x, int delta) {
+        while (true) {
+            int r = find(x);
+            int size = parent.get(r);
+            if (size < 0 && parent.compareAndSet(r, size, size - delta)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Bijective integer mix, gives every element a distinct pseudo-random linking priority.
+     */
+    private static int priority(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
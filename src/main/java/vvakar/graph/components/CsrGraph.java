@@ -0,0 +1,267 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frozen primitive snapshot of a graph in compressed sparse row form.
+ * Vertices are numbered <code>0..n-1</code>; the out-arcs of vertex <code>v</code> occupy
+ * <code>[offsets[v], offsets[v+1])</code> of <code>targets</code>/<code>weights</code>, sorted by target.
+ * Edges that can be traversed from either end (see {@link Edge#getTargetIfOriginatorIs}) are stored as two arcs.
+ * The arrays are shared, not copied; callers must treat them as read-only.
+ * Arc indexes are <code>int</code>, so a snapshot holds at most 2^31-1 arcs.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class CsrGraph<V extends Vertex> {
+    private final List<V> vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private volatile Map<V, Integer> ids;
+    private volatile Boolean symmetric;
+
+    /**
+     * @param vertices id to vertex mapping, size n
+     * @param offsets  n+1 row boundaries
+     * @param targets  arc heads, sorted within each row
+     * @param weights  arc weights, parallel to <code>targets</code>
+     */
+    public CsrGraph(List<V> vertices, int[] offsets, int[] targets, int[] weights) {
+        Preconditions.checkNotNull(vertices);
+        Preconditions.checkNotNull(offsets);
+        Preconditions.checkNotNull(targets);
+        Preconditions.checkNotNull(weights);
+        Preconditions.checkArgument(offsets.length == vertices.size() + 1, "need one offset per vertex plus one");
+        Preconditions.checkArgument(targets.length == weights.length && offsets[vertices.size()] == targets.length);
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Snapshot <code>graph</code>. Vertex ids follow the iteration order of {@link Graph#getVertices()}.
+     */
+    public static <V extends Vertex, E extends Edge> CsrGraph<V> copyOf(Graph<V, E> graph) {
+        Preconditions.checkNotNull(graph);
+        List<V> vertices = Lists.newArrayList(graph.getVertices());
+        Map<V, Integer> ids = Maps.newHashMapWithExpectedSize(vertices.size());
+        for (int i = 0; i < vertices.size(); ++i) {
+            ids.put(vertices.get(i), i);
+        }
+
+        int capacity = graph.getEdges().size();
+        int[] tails = new int[capacity], heads = new int[capacity], ws = new int[capacity];
+        int m = 0;
+        for (E e : graph.getEdges()) {
+            @SuppressWarnings("unchecked")
+            Edge<V> edge = (Edge<V>) e;
+            int tail = ids.get(edge.getV1()), head = ids.get(edge.getV2());
+            if (m + 2 > tails.length) {
+                int grown = Math.max(4, tails.length * 2);
+                tails = Arrays.copyOf(tails, grown);
+                heads = Arrays.copyOf(heads, grown);
+                ws = Arrays.copyOf(ws, grown);
+            }
+            tails[m] = tail;
+            heads[m] = head;
+            ws[m++] = edge.getWeight();
+            if (tail != head && edge.getTargetIfOriginatorIs(edge.getV2()).isPresent()) {
+                tails[m] = head;
+                heads[m] = tail;
+                ws[m++] = edge.getWeight();
+            }
+        }
+
+        CsrGraph<V> csr = fromArcs(vertices, tails, heads, ws, m);
+        csr.ids = ids;
+        return csr;
+    }
+
+    /**
+     * Build a snapshot from the first <code>m</code> entries of parallel arc arrays, in O(n + m) via two stable
+     * counting sorts (by head, then by tail).
+     */
+    public static <V extends Vertex> CsrGraph<V> fromArcs(List<V> vertices, int[] tails, int[] heads, int[] weights, int m) {
+        Preconditions.checkNotNull(vertices);
+        Preconditions.checkArgument(m >= 0 && m <= tails.length && m <= heads.length && m <= weights.length);
+        int n = vertices.size();
+
+        int[] byHead = new int[m];
+        int[] cursor = new int[n + 1];
+        for (int i = 0; i < m; ++i) {
+            ++cursor[heads[i] + 1];
+        }
+        for (int v = 0; v < n; ++v) {
+            cursor[v + 1] += cursor[v];
+        }
+        for (int i = 0; i < m; ++i) {
+            byHead[cursor[heads[i]]++] = i;
+        }
+
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < m; ++i) {
+            ++offsets[tails[i] + 1];
+        }
+        for (int v = 0; v < n; ++v) {
+            offsets[v + 1] += offsets[v];
+        }
+        System.arraycopy(offsets, 0, cursor, 0, n + 1);
+        int[] targets = new int[m], ws = new int[m];
+        for (int k = 0; k < m; ++k) {
+            int i = byHead[k];
+            int pos = cursor[tails[i]]++;
+            targets[pos] = heads[i];
+            ws[pos] = weights[i];
+        }
+        return new CsrGraph<V>(vertices, offsets, targets, ws);
+    }
+
+    public int vertexCount() {
+        return vertices.size();
+    }
+
+    public int arcCount() {
+        return targets.length;
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int[] getWeights() {
+        return weights;
+    }
+
+    public List<V> getVertices() {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    public V getVertex(int id) {
+        return vertices.get(id);
+    }
+
+    /**
+     * @return id of <code>v</code>, or -1 if it is not part of the snapshot
+     */
+    public int getId(V v) {
+        Preconditions.checkNotNull(v);
+        Map<V, Integer> map = ids;
+        if (map == null) {
+            map = Maps.newHashMapWithExpectedSize(vertices.size());
+            for (int i = 0; i < vertices.size(); ++i) {
+                map.put(vertices.get(i), i);
+            }
+            ids = map;
+        }
+        Integer id = map.get(v);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @return arc index of <code>u -> v</code>, or -1 if absent. O(log degree).
+     */
+    public int findArc(int u, int v) {
+        int pos = Arrays.binarySearch(targets, offsets[u], offsets[u + 1], v);
+        if (pos < 0) {
+            return -1;
+        }
+        while (pos > offsets[u] && targets[pos - 1] == v) {
+            --pos; // first of any parallel arcs
+        }
+        return pos;
+    }
+
+    /**
+     * @return true if every arc <code>u -> v</code> has a matching <code>v -> u</code>
+     */
+    public boolean isSymmetric() {
+        Boolean result = symmetric;
+        if (result == null) {
+            result = Boolean.TRUE;
+            for (int u = 0; u < vertexCount() && result; ++u) {
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    if (findArc(targets[i], u) < 0) {
+                        result = Boolean.FALSE;
+                        break;
+                    }
+                }
+            }
+            symmetric = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return snapshot with every arc reversed; its rows list the in-arcs of this graph
+     */
+    public CsrGraph<V> transpose() {
+        int[] tails = new int[targets.length];
+        for (int u = 0; u < vertexCount(); ++u) {
+            Arrays.fill(tails, offsets[u], offsets[u + 1], u);
+        }
+        CsrGraph<V> transposed = fromArcs(vertices, targets, tails, weights, targets.length);
+        transposed.ids = ids;
+        return transposed;
+    }
+
+    /**
+     * @return simple undirected view: both directions of every arc, self-loops dropped, parallel arcs merged
+     * keeping the smallest weight
+     */
+    public CsrGraph<V> symmetrize() {
+        int m = targets.length;
+        int[] tails = new int[2 * m], heads = new int[2 * m], ws = new int[2 * m];
+        int k = 0;
+        for (int u = 0; u < vertexCount(); ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                int v = targets[i];
+                if (u != v) {
+                    tails[k] = u; heads[k] = v; ws[k++] = weights[i];
+                    tails[k] = v; heads[k] = u; ws[k++] = weights[i];
+                }
+            }
+        }
+        CsrGraph<V> both = fromArcs(vertices, tails, heads, ws, k);
+
+        // rows are sorted, so parallel arcs are adjacent
+        int[] newOffsets = new int[vertexCount() + 1];
+        int[] newTargets = both.targets, newWeights = both.weights;
+        int write = 0;
+        for (int u = 0; u < vertexCount(); ++u) {
+            newOffsets[u] = write;
+            for (int i = both.offsets[u]; i < both.offsets[u + 1]; ++i) {
+                if (write > newOffsets[u] && newTargets[write - 1] == newTargets[i]) {
+                    newWeights[write - 1] = Math.min(newWeights[write - 1], newWeights[i]);
+                } else {
+                    newTargets[write] = newTargets[i];
+                    newWeights[write++] = newWeights[i];
+                }
+            }
+        }
+        newOffsets[vertexCount()] = write;
+        CsrGraph<V> simple = new CsrGraph<V>(vertices, newOffsets,
+                Arrays.copyOf(newTargets, write), Arrays.copyOf(newWeights, write));
+        simple.ids = ids;
+        simple.symmetric = Boolean.TRUE;
+        return simple;
+    }
+}
@@ -0,0 +1,579 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Mutable directed graph with primitive adjacency, for workloads that add and remove arcs all the time. Each vertex
+ * owns one <code>int[]</code> block of interleaved (target, weight) pairs, and one of the sources of its in-arcs.
+ * A block doubles when full and halves when a quarter full, so appending an arc is O(1) amortized and memory stays
+ * within a small factor of the live arcs. Removal overwrites the arc with the last one of its block, so blocks stay
+ * dense and unordered.
+ * <p>
+ * Finding an arc to remove or test scans the block. Once a block has more than {@value #INDEX_THRESHOLD} arcs, it
+ * gets an open-addressing index from target (or source) to position, with linear probing and backward-shift
+ * deletion. That keeps lookups, and therefore removal, O(1) expected on hubs as well. Below the threshold, a scan of
+ * a few cache lines is cheaper than hashing.
+ * <p>
+ * Removing a vertex frees its id for the next vertex added; no other id changes. Ids therefore run up to
+ * {@link #idCount()}, which may exceed {@link #vertexCount()}.
+ * <p>
+ * No edge objects are kept: {@link #getEdges()} and {@link #getNeighborsOf} create them on demand. As in
+ * {@link AbstractGraph}, putting an edge equal to an existing one, with the same endpoints and weight, has no
+ * effect. Parallel arcs with different weights are kept. Not thread-safe.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class DynamicGraph<V extends Vertex> implements Graph<V, DirectedEdge<V>> {
+    static final int INDEX_THRESHOLD = 32;
+    private static final int[] EMPTY = new int[0];
+
+    /** by id, null where the id is free */
+    private final List<V> vertices = new ArrayList<V>();
+    private final Map<V, Integer> ids = Maps.newHashMap();
+    /** per vertex: target, weight, target, weight, ... */
+    private final Blocks out = new Blocks(2);
+    /** per vertex: the source of every in-arc */
+    private final Blocks in = new Blocks(1);
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private long arcCount;
+    private int modCount;
+
+    public DynamicGraph() {
+    }
+
+    /**
+     * Copy <code>csr</code>, keeping its vertex ids.
+     */
+    public static <V extends Vertex> DynamicGraph<V> copyOf(CsrGraph<V> csr) {
+        Preconditions.checkNotNull(csr);
+        DynamicGraph<V> graph = new DynamicGraph<V>();
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+        int[] inDegrees = new int[csr.vertexCount()];
+        for (int i = 0; i < csr.arcCount(); ++i) {
+            ++inDegrees[targets[i]];
+        }
+        for (int v = 0; v < csr.vertexCount(); ++v) {
+            graph.addVertex(csr.getVertex(v));
+            graph.out.reserve(v, offsets[v + 1] - offsets[v]);
+            graph.in.reserve(v, inDegrees[v]);
+        }
+        for (int v = 0; v < csr.vertexCount(); ++v) {
+            for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+                graph.addArc(v, targets[i], weights[i]);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @return id of <code>v</code>, adding it first if it is new; a new vertex takes a freed id if there is one
+     */
+    public int addVertex(V v) {
+        Preconditions.checkNotNull(v);
+        Integer id = ids.get(v);
+        if (id != null) {
+            return id;
+        }
+        int fresh;
+        if (freeCount > 0) {
+            fresh = freeIds[--freeCount];
+            vertices.set(fresh, v);
+        } else {
+            fresh = vertices.size();
+            vertices.add(v);
+        }
+        out.open(fresh);
+        in.open(fresh);
+        ids.put(v, fresh);
+        ++modCount;
+        return fresh;
+    }
+
+    public int vertexCount() {
+        return ids.size();
+    }
+
+    /**
+     * @return bound on ids: every vertex has a smaller one, and the ids below it that no vertex has are free
+     */
+    public int idCount() {
+        return vertices.size();
+    }
+
+    public long arcCount() {
+        return arcCount;
+    }
+
+    /**
+     * @return vertex with this id, or null if the id is free
+     */
+    public V getVertex(int id) {
+        return vertices.get(id);
+    }
+
+    /**
+     * @return id of <code>v</code>, or -1 if it is not part of the graph
+     */
+    public int getId(V v) {
+        Preconditions.checkNotNull(v);
+        Integer id = ids.get(v);
+        return id == null ? -1 : id;
+    }
+
+    public int degree(int v) {
+        return out.degrees[v];
+    }
+
+    public int inDegree(int v) {
+        return in.degrees[v];
+    }
+
+    /**
+     * @param k position in <code>[0, degree(v))</code>; positions change when arcs are removed
+     */
+    public int getTarget(int v, int k) {
+        Preconditions.checkElementIndex(k, out.degrees[v]);
+        return out.rows[v][2 * k];
+    }
+
+    public int getWeight(int v, int k) {
+        Preconditions.checkElementIndex(k, out.degrees[v]);
+        return out.rows[v][2 * k + 1];
+    }
+
+    /**
+     * Append an arc. O(1) amortized.
+     */
+    public void addArc(int u, int v, int weight) {
+        checkVertex(u);
+        checkVertex(v);
+        out.append(u, v, weight);
+        in.append(v, u, 0);
+        ++arcCount;
+        ++modCount;
+    }
+
+    /**
+     * Remove one arc <code>u -> v</code> of the given weight. O(1) expected.
+     * @return false if there was none
+     */
+    public boolean removeArc(int u, int v, int weight) {
+        checkVertex(u);
+        int k = out.find(u, v, weight, true);
+        if (k < 0) {
+            return false;
+        }
+        removeAt(u, k);
+        return true;
+    }
+
+    /**
+     * Remove one arc <code>u -> v</code> of any weight.
+     * @return false if there was none
+     */
+    public boolean removeArc(int u, int v) {
+        checkVertex(u);
+        int k = out.find(u, v, 0, false);
+        if (k < 0) {
+            return false;
+        }
+        removeAt(u, k);
+        return true;
+    }
+
+    public boolean hasArc(int u, int v, int weight) {
+        checkVertex(u);
+        return out.find(u, v, weight, true) >= 0;
+    }
+
+    public boolean hasArc(int u, int v) {
+        checkVertex(u);
+        return out.find(u, v, 0, false) >= 0;
+    }
+
+    /**
+     * @return counter that changes on every structural modification, lets callers cache derived data
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Freeze into a {@link CsrGraph} with rows sorted by target. Ids are kept if none is free; otherwise the
+     * vertices are renumbered densely, in id order.
+     */
+    public CsrGraph<V> toCsrGraph() {
+        Preconditions.checkState(arcCount <= Integer.MAX_VALUE, "too many arcs for a CsrGraph");
+        int m = (int) arcCount, n = vertices.size();
+        List<V> live = new ArrayList<V>(ids.size());
+        int[] dense = new int[n];
+        for (int u = 0; u < n; ++u) {
+            if (vertices.get(u) != null) {
+                dense[u] = live.size();
+                live.add(vertices.get(u));
+            }
+        }
+        int[] tails = new int[m], heads = new int[m], weights = new int[m];
+        int i = 0;
+        for (int u = 0; u < n; ++u) {
+            int[] row = out.rows[u];
+            for (int k = 0; k < out.degrees[u]; ++k, ++i) {
+                tails[i] = dense[u];
+                heads[i] = dense[row[2 * k]];
+                weights[i] = row[2 * k + 1];
+            }
+        }
+        return CsrGraph.fromArcs(live, tails, heads, weights, m);
+    }
+
+    /**
+     * @return approximate heap taken by the adjacency blocks, indexes and per-vertex arrays, without the vertex
+     * objects and the name map
+     */
+    public long getMemoryBytes() {
+        return out.getMemoryBytes(vertices.size()) + in.getMemoryBytes(vertices.size()) + 4L * freeIds.length;
+    }
+
+    @Override
+    public Collection<V> getVertices() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return Iterators.filter(vertices.iterator(), Predicates.notNull());
+            }
+
+            @Override
+            public int size() {
+                return ids.size();
+            }
+        };
+    }
+
+    @Override
+    public Collection<DirectedEdge<V>> getEdges() {
+        return new AbstractCollection<DirectedEdge<V>>() {
+            @Override
+            public Iterator<DirectedEdge<V>> iterator() {
+                return new Iterator<DirectedEdge<V>>() {
+                    private final int expectedModCount = modCount;
+                    private int u, k;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (u < vertices.size() && k == out.degrees[u]) {
+                            ++u;
+                            k = 0;
+                        }
+                        return u < vertices.size();
+                    }
+
+                    @Override
+                    public DirectedEdge<V> next() {
+                        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                        if (!hasNext()) throw new NoSuchElementException();
+                        int[] row = out.rows[u];
+                        DirectedEdge<V> edge = new DirectedEdge<V>(vertices.get(u), vertices.get(row[2 * k]), row[2 * k + 1]);
+                        ++k;
+                        return edge;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, arcCount);
+            }
+        };
+    }
+
+    /**
+     * Find immediate neighbors of specified <code>Vertex</code>; empty if it is not part of the graph.
+     */
+    @Override
+    public VertexWeightBeans<V> getNeighborsOf(V v) {
+        Preconditions.checkNotNull(v);
+        VertexWeightBeansImpl<V> vertexWeightBeans = new VertexWeightBeansImpl<V>();
+        int u = getId(v);
+        if (u >= 0) {
+            int[] row = out.rows[u];
+            for (int k = 0; k < out.degrees[u]; ++k) {
+                vertexWeightBeans.add(vertices.get(row[2 * k]), row[2 * k + 1]);
+            }
+        }
+        return vertexWeightBeans;
+    }
+
+    /**
+     * Add the edge, and its endpoints if they are new. No effect if an equal edge is present.
+     */
+    @Override
+    public void put(DirectedEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        int u = addVertex(e.getV1()), v = addVertex(e.getV2());
+        if (!hasArc(u, v, e.getWeight())) {
+            addArc(u, v, e.getWeight());
+        }
+    }
+
+    @Override
+    public Optional<DirectedEdge<V>> get(DirectedEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        int u = getId(e.getV1()), v = getId(e.getV2());
+        return u >= 0 && v >= 0 && hasArc(u, v, e.getWeight()) ? Optional.of(e) : Optional.<DirectedEdge<V>>absent();
+    }
+
+    @Override
+    public boolean removeEdge(DirectedEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        int u = getId(e.getV1()), v = getId(e.getV2());
+        return u >= 0 && v >= 0 && removeArc(u, v, e.getWeight());
+    }
+
+    /**
+     * Remove <code>v</code> and every arc touching it. O(degree), counting arcs at both ends: the in-arcs are
+     * found through the in-block of <code>v</code>, each in O(1) expected. The id of <code>v</code> is freed for
+     * the next vertex added; no other id changes.
+     */
+    @Override
+    public boolean removeVertex(V v) {
+        int x = getId(v);
+        if (x < 0) {
+            return false;
+        }
+        int loops = 0;
+        int[] row = out.rows[x];
+        for (int k = 0; k < out.degrees[x]; ++k) {
+            int w = row[2 * k];
+            if (w == x) {
+                ++loops;
+            } else {
+                in.removeAt(w, in.find(w, x, 0, false));
+            }
+        }
+        int[] sources = in.rows[x];
+        for (int k = 0; k < in.degrees[x]; ++k) {
+            int u = sources[k];
+            if (u != x) {
+                out.removeAt(u, out.find(u, x, 0, false));
+            }
+        }
+        arcCount -= out.degrees[x] + in.degrees[x] - loops;
+        out.open(x);
+        in.open(x);
+
+        vertices.set(x, null);
+        ids.remove(v);
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, 2 * freeCount);
+        }
+        freeIds[freeCount++] = x;
+        ++modCount;
+        return true;
+    }
+
+    private void checkVertex(int u) {
+        Preconditions.checkElementIndex(u, vertices.size());
+        Preconditions.checkArgument(vertices.get(u) != null, "vertex %s was removed", u);
+    }
+
+    private void removeAt(int u, int k) {
+        int v = out.rows[u][2 * k];
+        out.removeAt(u, k);
+        in.removeAt(v, in.find(v, u, 0, false));
+        --arcCount;
+        ++modCount;
+    }
+
+    /**
+     * Growable per-vertex blocks of <code>stride</code> ints per arc, the first being the other endpoint, with an
+     * index by that endpoint once a block is large.
+     */
+    private static final class Blocks {
+        private final int stride;
+        private int[][] rows = new int[16][];
+        private int[] degrees = new int[16];
+        /** per vertex with a large block: linear probing table of position + 1, 0 when empty */
+        private int[][] indexes = new int[16][];
+
+        private Blocks(int stride) {
+            this.stride = stride;
+        }
+
+        /**
+         * Start <code>u</code> over with an empty block.
+         */
+        private void open(int u) {
+            if (u >= rows.length) {
+                int capacity = Math.max(2 * rows.length, u + 1);
+                rows = Arrays.copyOf(rows, capacity);
+                degrees = Arrays.copyOf(degrees, capacity);
+                indexes = Arrays.copyOf(indexes, capacity);
+            }
+            rows[u] = EMPTY;
+            degrees[u] = 0;
+            indexes[u] = null;
+        }
+
+        private void reserve(int u, int arcs) {
+            if (stride * arcs > rows[u].length) {
+                rows[u] = Arrays.copyOf(rows[u], stride * arcs);
+            }
+        }
+
+        private void append(int u, int endpoint, int weight) {
+            int k = degrees[u];
+            if (stride * k == rows[u].length) {
+                rows[u] = Arrays.copyOf(rows[u], Math.max(4 * stride, 2 * stride * k));
+            }
+            rows[u][stride * k] = endpoint;
+            if (stride > 1) {
+                rows[u][stride * k + 1] = weight;
+            }
+            degrees[u] = k + 1;
+            if (indexes[u] != null) {
+                if (4 * (k + 1) > 3 * indexes[u].length) {
+                    rebuildIndex(u);
+                } else {
+                    indexInsert(u, endpoint, k);
+                }
+            } else if (k + 1 > INDEX_THRESHOLD) {
+                rebuildIndex(u);
+            }
+        }
+
+        /**
+         * @return position of a matching arc, or -1
+         */
+        private int find(int u, int endpoint, int weight, boolean matchWeight) {
+            int[] row = rows[u];
+            int[] index = indexes[u];
+            if (index == null) {
+                for (int k = 0; k < degrees[u]; ++k) {
+                    if (row[stride * k] == endpoint && (!matchWeight || row[stride * k + 1] == weight)) {
+                        return k;
+                    }
+                }
+                return -1;
+            }
+            int mask = index.length - 1;
+            for (int slot = hash(endpoint) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+                int k = index[slot] - 1;
+                if (row[stride * k] == endpoint && (!matchWeight || row[stride * k + 1] == weight)) {
+                    return k;
+                }
+            }
+            return -1;
+        }
+
+        private void removeAt(int u, int k) {
+            int[] row = rows[u];
+            int last = degrees[u] - 1;
+            if (indexes[u] != null) {
+                indexRemove(u, row[stride * k], k);
+                if (k != last) {
+                    indexMove(u, row[stride * last], last, k);
+                }
+            }
+            System.arraycopy(row, stride * last, row, stride * k, stride);
+            degrees[u] = last;
+            if (indexes[u] != null && last <= INDEX_THRESHOLD / 2) {
+                indexes[u] = null;
+            } else if (indexes[u] != null && 16 * last < indexes[u].length) {
+                rebuildIndex(u);
+            }
+            if (row.length > 4 * stride && 4 * stride * last <= row.length) {
+                rows[u] = Arrays.copyOf(row, row.length / 2);
+            }
+        }
+
+        private long getMemoryBytes(int n) {
+            long bytes = 12L * rows.length + 4L * degrees.length + 4L * indexes.length;
+            for (int v = 0; v < n; ++v) {
+                bytes += 16 + 4L * rows[v].length;
+                if (indexes[v] != null) {
+                    bytes += 16 + 4L * indexes[v].length;
+                }
+            }
+            return bytes;
+        }
+
+        private void rebuildIndex(int u) {
+            int capacity = Integer.highestOneBit(Math.max(4, 4 * degrees[u] / 3)) << 1;
+            indexes[u] = new int[capacity];
+            for (int k = 0; k < degrees[u]; ++k) {
+                indexInsert(u, rows[u][stride * k], k);
+            }
+        }
+
+        private void indexInsert(int u, int endpoint, int k) {
+            int[] index = indexes[u];
+            int mask = index.length - 1;
+            int slot = hash(endpoint) & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = k + 1;
+        }
+
+        private void indexMove(int u, int endpoint, int from, int to) {
+            int[] index = indexes[u];
+            int mask = index.length - 1;
+            for (int slot = hash(endpoint) & mask; ; slot = (slot + 1) & mask) {
+                if (index[slot] == from + 1) {
+                    index[slot] = to + 1;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Linear probing delete: pull later entries of the cluster back into the hole so probes never need
+         * tombstones.
+         */
+        private void indexRemove(int u, int endpoint, int k) {
+            int[] index = indexes[u];
+            int mask = index.length - 1;
+            int hole = hash(endpoint) & mask;
+            while (index[hole] != k + 1) {
+                hole = (hole + 1) & mask;
+            }
+            for (int slot = (hole + 1) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+                int home = hash(rows[u][stride * (index[slot] - 1)]) & mask;
+                // move the entry if its home is not cyclically within (hole, slot]
+                if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                    index[hole] = index[slot];
+                    hole = slot;
+                }
+            }
+            index[hole] = 0;
+        }
+    }
+
+    private static int hash(int target) {
+        int h = target * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -16,10 +16,10 @@ public class GraphFactory {
     public static <V extends Vertex> UndirectedEdge<V> undirectedEdge(V v1, V v2) {
         return new UndirectedEdge<V>(v1, v2);
     }
-    public static <V extends Vertex> DirectedEdge directedEdge(V v1, V v2) {
+    public static <V extends Vertex> DirectedEdge<V> directedEdge(V v1, V v2) {
         return new DirectedEdge<V>(v1, v2);
     }
-    public static <V extends Vertex> DirectedEdge directedEdge(V v1, V v2, int weight) {
+    public static <V extends Vertex> DirectedEdge<V> directedEdge(V v1, V v2, int weight) {
         return new DirectedEdge<V>(v1, v2, weight);
     }
 }
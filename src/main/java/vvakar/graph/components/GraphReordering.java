@@ -0,0 +1,396 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Relabel the vertices of a {@link CsrGraph} so that vertices used together get nearby ids, and traversals touch
+ * fewer cache lines. Ids from input order scatter neighbors across the rank, distance and visited arrays.
+ * <ul>
+ *     <li>{@link Strategy#DEGREE}: most connected first, so the hot vertices share a few cache lines. O(n + m)</li>
+ *     <li>{@link Strategy#RCM}: reverse Cuthill-McKee, breadth-first from a peripheral vertex, which keeps every
+ *     arc short. Best on meshes and road networks. O(m log d)</li>
+ *     <li>{@link Strategy#GORDER}: greedy Gorder, which places next the vertex sharing the most neighbors and
+ *     in-neighbors with the last <code>window</code> placed. Best on social and web graphs. Siblings are not
+ *     expanded through hubs. O(sum of squared degrees) bounded by the hub cut-off</li>
+ * </ul>
+ * Weights play no part in the order. Results keep the mapping to original ids and vertices.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class GraphReordering {
+    public enum Strategy { DEGREE, RCM, GORDER }
+
+    public static final int DEFAULT_GORDER_WINDOW = 5;
+
+    private GraphReordering() {}
+
+    public static <V extends Vertex> ReorderingBean<V> reorder(CsrGraph<V> csr, Strategy strategy) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkNotNull(strategy);
+        int[] order;
+        switch (strategy) {
+            case DEGREE: order = degreeOrder(csr); break;
+            case RCM: order = reverseCuthillMcKee(csr); break;
+            default: order = gorder(csr, DEFAULT_GORDER_WINDOW);
+        }
+        return new ReorderingBean<V>(csr, permute(csr, order), order);
+    }
+
+    /**
+     * @return ids by decreasing total degree, ties in id order: <code>order[newId] = oldId</code>
+     */
+    public static int[] degreeOrder(CsrGraph<?> csr) {
+        int n = csr.vertexCount();
+        int[] degree = totalDegrees(csr);
+        int max = 0;
+        for (int d : degree) max = Math.max(max, d);
+        // counting sort, descending
+        int[] start = new int[max + 2];
+        for (int d : degree) ++start[max - d + 1];
+        for (int k = 0; k <= max; ++k) start[k + 1] += start[k];
+        int[] order = new int[n];
+        for (int v = 0; v < n; ++v) {
+            order[start[max - degree[v]]++] = v;
+        }
+        return order;
+    }
+
+    /**
+     * Reverse Cuthill-McKee on the undirected view. Each component starts from a pseudo-peripheral vertex found by
+     * repeated breadth-first sweeps, and neighbors are queued by increasing degree.
+     * @return <code>order[newId] = oldId</code>
+     */
+    public static int[] reverseCuthillMcKee(CsrGraph<?> csr) {
+        CsrGraph<?> sym = csr.symmetrize();
+        int n = sym.vertexCount();
+        int[] offsets = sym.getOffsets(), targets = sym.getTargets();
+        int[] order = new int[n], queue = new int[n], depth = new int[n];
+        boolean[] placed = new boolean[n];
+        long[] buffer = new long[16];
+        int count = 0;
+        // lowest degree first is a cheap start for the peripheral search
+        int[] candidates = degreeOrder(sym);
+        for (int c = n - 1; c >= 0; --c) {
+            int root = candidates[c];
+            if (placed[root]) {
+                continue;
+            }
+            root = peripheral(sym, root, queue, depth, placed);
+            int head = count;
+            order[count++] = root;
+            placed[root] = true;
+            while (head < count) {
+                int u = order[head++];
+                int k = 0;
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    int v = targets[i];
+                    if (!placed[v]) {
+                        placed[v] = true;
+                        if (k == buffer.length) buffer = Arrays.copyOf(buffer, 2 * k);
+                        buffer[k++] = ((long) sym.degree(v) << 32) | v;
+                    }
+                }
+                Arrays.sort(buffer, 0, k);
+                for (int j = 0; j < k; ++j) {
+                    order[count++] = (int) buffer[j];
+                }
+            }
+        }
+        for (int i = 0, j = n - 1; i < j; ++i, --j) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /**
+     * Greedy Gorder: keep a score per unplaced vertex counting its neighbors and shared in-neighbors among the last
+     * <code>window</code> placed vertices, and always place the best scored next. Scores change by one at a time,
+     * so they live in a bucket list with O(1) updates. When nothing scores, the highest degree vertex left goes next.
+     * @return <code>order[newId] = oldId</code>
+     */
+    public static int[] gorder(CsrGraph<?> csr, int window) {
+        Preconditions.checkArgument(window > 0, "window must be positive");
+        return new Gorder(csr).run(window);
+    }
+
+    /**
+     * @return <code>csr</code> relabeled so that old vertex <code>order[i]</code> becomes vertex <code>i</code>
+     */
+    public static <V extends Vertex> CsrGraph<V> permute(CsrGraph<V> csr, int[] order) {
+        int n = csr.vertexCount();
+        Preconditions.checkArgument(order.length == n, "need one entry per vertex");
+        int[] rank = inverse(order);
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+        int m = targets.length;
+        int[] tails = new int[m], heads = new int[m];
+        for (int u = 0; u < n; ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                tails[i] = rank[u];
+                heads[i] = rank[targets[i]];
+            }
+        }
+        List<V> vertices = new ArrayList<V>(n);
+        for (int old : order) {
+            vertices.add(csr.getVertex(old));
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+    }
+
+    /**
+     * Locality measure: mean of <code>log2(1 + |u - v|)</code> over all arcs. Lower is better; roughly the bits a
+     * gap code would spend per arc.
+     */
+    public static double averageLogGap(CsrGraph<?> csr) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        double total = 0;
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                total += Math.log(1 + Math.abs(u - targets[i]));
+            }
+        }
+        return targets.length == 0 ? 0 : total / targets.length / Math.log(2);
+    }
+
+    /**
+     * @return largest <code>|u - v|</code> over all arcs
+     */
+    public static int bandwidth(CsrGraph<?> csr) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        int result = 0;
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                result = Math.max(result, Math.abs(u - targets[i]));
+            }
+        }
+        return result;
+    }
+
+    static int[] inverse(int[] order) {
+        int[] rank = new int[order.length];
+        Arrays.fill(rank, -1);
+        for (int i = 0; i < order.length; ++i) {
+            Preconditions.checkArgument(order[i] >= 0 && order[i] < order.length && rank[order[i]] < 0,
+                    "order is not a permutation");
+            rank[order[i]] = i;
+        }
+        return rank;
+    }
+
+    private static int[] totalDegrees(CsrGraph<?> csr) {
+        int n = csr.vertexCount();
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        int[] degree = new int[n];
+        for (int u = 0; u < n; ++u) {
+            degree[u] += offsets[u + 1] - offsets[u];
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                ++degree[targets[i]];
+            }
+        }
+        return degree;
+    }
+
+    /**
+     * George-Liu: breadth-first sweeps over the unplaced component, moving to a lowest-degree vertex of the last
+     * level while the depth grows. <code>depth</code> is all zero on entry and on return.
+     */
+    private static int peripheral(CsrGraph<?> sym, int root, int[] queue, int[] depth, boolean[] placed) {
+        int[] offsets = sym.getOffsets(), targets = sym.getTargets();
+        int eccentricity = -1;
+        for (int sweep = 0; sweep < 8; ++sweep) {
+            int head = 0, tail = 0, last = 0;
+            queue[tail++] = root;
+            depth[root] = 1;
+            while (head < tail) {
+                int u = queue[head++];
+                last = depth[u];
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    int v = targets[i];
+                    if (!placed[v] && depth[v] == 0) {
+                        depth[v] = last + 1;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+            int candidate = -1;
+            for (int i = tail - 1; i >= 0 && depth[queue[i]] == last; --i) {
+                if (candidate < 0 || sym.degree(queue[i]) < sym.degree(candidate)) {
+                    candidate = queue[i];
+                }
+            }
+            for (int i = 0; i < tail; ++i) {
+                depth[queue[i]] = 0;
+            }
+            if (last <= eccentricity) {
+                break;
+            }
+            eccentricity = last;
+            root = candidate;
+        }
+        return root;
+    }
+
+    /**
+     * State of one greedy Gorder run. Unplaced vertices sit in doubly linked buckets by score.
+     */
+    private static class Gorder {
+        private final int n;
+        private final int[] outOffsets, outTargets, inOffsets, inSources;
+        private final int hub;
+        private final int[] score, next, prev;
+        private int[] bucket = new int[16];
+        private final boolean[] placed;
+        private int best;
+
+        Gorder(CsrGraph<?> csr) {
+            n = csr.vertexCount();
+            CsrGraph<?> in = csr.transpose();
+            outOffsets = csr.getOffsets();
+            outTargets = csr.getTargets();
+            inOffsets = in.getOffsets();
+            inSources = in.getTargets();
+            hub = Math.max(16, (int) Math.sqrt(n));
+            score = new int[n];
+            next = new int[n];
+            prev = new int[n];
+            placed = new boolean[n];
+            Arrays.fill(bucket, -1);
+            // bucket 0 holds everything to start with, in degree order
+            int[] byDegree = degreeOrder(csr);
+            for (int i = n - 1; i >= 0; --i) {
+                push(byDegree[i]);
+            }
+        }
+
+        int[] run(int window) {
+            int[] order = new int[n];
+            for (int k = 0; k < n; ++k) {
+                while (bucket[best] < 0) {
+                    --best;
+                }
+                int v = bucket[best];
+                unlink(v);
+                placed[v] = true;
+                order[k] = v;
+                // v joins the window, and the vertex placed window steps ago leaves it
+                touch(v, +1);
+                if (k >= window) {
+                    touch(order[k - window], -1);
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Add <code>delta</code> to the score of every unplaced vertex related to <code>v</code>: its out- and
+         * in-neighbors, and the other out-neighbors of its in-neighbors, unless those are hubs.
+         */
+        private void touch(int v, int delta) {
+            for (int i = outOffsets[v]; i < outOffsets[v + 1]; ++i) {
+                bump(outTargets[i], delta);
+            }
+            for (int i = inOffsets[v]; i < inOffsets[v + 1]; ++i) {
+                int w = inSources[i];
+                bump(w, delta);
+                if (outOffsets[w + 1] - outOffsets[w] <= hub) {
+                    for (int j = outOffsets[w]; j < outOffsets[w + 1]; ++j) {
+                        bump(outTargets[j], delta);
+                    }
+                }
+            }
+        }
+
+        private void bump(int u, int delta) {
+            if (placed[u]) {
+                return;
+            }
+            unlink(u);
+            score[u] += delta;
+            push(u);
+            best = Math.max(best, score[u]);
+        }
+
+        private void push(int u) {
+            if (score[u] == bucket.length) {
+                int old = bucket.length;
+                bucket = Arrays.copyOf(bucket, 2 * old);
+                Arrays.fill(bucket, old, bucket.length, -1);
+            }
+            int head = bucket[score[u]];
+            next[u] = head;
+            prev[u] = -1;
+            if (head >= 0) prev[head] = u;
+            bucket[score[u]] = u;
+        }
+
+        private void unlink(int u) {
+            if (prev[u] >= 0) next[prev[u]] = next[u];
+            else bucket[score[u]] = next[u];
+            if (next[u] >= 0) prev[next[u]] = prev[u];
+        }
+    }
+
+    public static class ReorderingBean<V extends Vertex> {
+        private final CsrGraph<V> original;
+        private final CsrGraph<V> graph;
+        private final int[] order;
+        private final int[] rank;
+
+        private ReorderingBean(CsrGraph<V> original, CsrGraph<V> graph, int[] order) {
+            this.original = original;
+            this.graph = graph;
+            this.order = order;
+            this.rank = inverse(order);
+        }
+
+        public CsrGraph<V> getOriginal() {
+            return original;
+        }
+
+        /**
+         * @return the relabeled graph; its vertex list is the original vertices in the new order
+         */
+        public CsrGraph<V> getGraph() {
+            return graph;
+        }
+
+        /**
+         * @return original id of new vertex <code>id</code>
+         */
+        public int toOriginalId(int id) {
+            return order[id];
+        }
+
+        /**
+         * @return new id of original vertex <code>id</code>
+         */
+        public int toNewId(int id) {
+            return rank[id];
+        }
+
+        /**
+         * @return <code>order[newId] = originalId</code>, shared; treat as read-only
+         */
+        public int[] getOrder() {
+            return order;
+        }
+
+        /**
+         * Map per-vertex results computed on the relabeled graph back to original ids.
+         */
+        public double[] toOriginal(double[] values) {
+            Preconditions.checkArgument(values.length == order.length, "need one value per vertex");
+            double[] result = new double[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                result[order[i]] = values[i];
+            }
+            return result;
+        }
+    }
+}
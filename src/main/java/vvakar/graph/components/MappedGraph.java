@@ -0,0 +1,556 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.io.CountingOutputStream;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only {@link Graph} served straight from a memory-mapped file. Opening only maps the file, so it takes the
+ * same few milliseconds whatever the graph size, and pages are loaded on first touch. The mapping is read-only, so
+ * every process that opens the same file shares one copy through the page cache. Nothing is copied onto the heap
+ * except the small vertex and edge objects handed out to callers.
+ * <p>
+ * Vertices are {@link MappedVertex} flyweights, equal when they have the same id in the same graph. Edges are
+ * {@link DirectedEdge}s created on demand. Look vertices up by name with {@link #getVertex(String)}.
+ * <p>
+ * File layout, big-endian, each section 8-byte aligned: a header with magic, version, counts and section
+ * positions; then arc offsets (n+1 longs), targets (m ints), weights (m ints), name offsets (n+1 longs), UTF-8
+ * names, and vertex ids sorted by name. Rows are sorted by target. The file is mapped in 1GB segments, so arc
+ * counts beyond 2^31 are fine.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MappedGraph implements Graph<MappedGraph.MappedVertex, DirectedEdge<MappedGraph.MappedVertex>> {
+    private static final int MAGIC = 0x56474d31; // "VGM1"
+    private static final int VERSION = 1;
+    private static final int HEADER = 72;
+
+    private final Path file;
+    private final Segments data;
+    private final int vertexCount;
+    private final long arcCount;
+    private final long offsetsPos, targetsPos, weightsPos, nameOffsetsPos, namesPos, nameOrderPos;
+
+    private MappedGraph(Path file, Segments data) throws IOException {
+        this.file = file;
+        this.data = data;
+        if (data.size() < HEADER || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a mapped graph file: " + file);
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new IOException("Unsupported mapped graph version " + data.getInt(4));
+        }
+        vertexCount = data.getInt(8);
+        arcCount = data.getLong(16);
+        offsetsPos = data.getLong(24);
+        targetsPos = data.getLong(32);
+        weightsPos = data.getLong(40);
+        nameOffsetsPos = data.getLong(48);
+        namesPos = data.getLong(56);
+        nameOrderPos = data.getLong(64);
+        if (nameOrderPos + 4L * vertexCount > data.size()) {
+            throw new IOException("Truncated mapped graph file: " + file);
+        }
+    }
+
+    public static MappedGraph open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            // mappings stay valid after the channel is closed
+            return new MappedGraph(file, new Segments(channel));
+        } finally {
+            channel.close();
+        }
+    }
+
+    public static <V extends Vertex, E extends Edge> void write(Graph<V, E> graph, Path file) throws IOException {
+        write(CsrGraph.copyOf(graph), file);
+    }
+
+    public static <V extends Vertex> void write(CsrGraph<V> csr, Path file) throws IOException {
+        Preconditions.checkNotNull(csr);
+        int n = csr.vertexCount(), m = csr.arcCount();
+        final byte[][] names = new byte[n][];
+        long nameBytes = 0;
+        for (int v = 0; v < n; ++v) {
+            names[v] = csr.getVertex(v).getName().getBytes(StandardCharsets.UTF_8);
+            nameBytes += names[v].length;
+        }
+        Integer[] order = new Integer[n];
+        for (int v = 0; v < n; ++v) {
+            order[v] = v;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return compareBytes(names[a], names[b]);
+            }
+        });
+
+        long offsetsPos = HEADER;
+        long targetsPos = align(offsetsPos + 8L * (n + 1));
+        long weightsPos = align(targetsPos + 4L * m);
+        long nameOffsetsPos = align(weightsPos + 4L * m);
+        long namesPos = align(nameOffsetsPos + 8L * (n + 1));
+        long nameOrderPos = align(namesPos + nameBytes);
+
+        CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        DataOutputStream out = new DataOutputStream(counter);
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(0);
+            out.writeLong(m);
+            out.writeLong(offsetsPos);
+            out.writeLong(targetsPos);
+            out.writeLong(weightsPos);
+            out.writeLong(nameOffsetsPos);
+            out.writeLong(namesPos);
+            out.writeLong(nameOrderPos);
+
+            for (int offset : csr.getOffsets()) {
+                out.writeLong(offset);
+            }
+            padTo(out, counter, targetsPos);
+            for (int target : csr.getTargets()) {
+                out.writeInt(target);
+            }
+            padTo(out, counter, weightsPos);
+            for (int weight : csr.getWeights()) {
+                out.writeInt(weight);
+            }
+            padTo(out, counter, nameOffsetsPos);
+            long nameOffset = 0;
+            out.writeLong(0);
+            for (byte[] name : names) {
+                nameOffset += name.length;
+                out.writeLong(nameOffset);
+            }
+            padTo(out, counter, namesPos);
+            for (byte[] name : names) {
+                out.write(name);
+            }
+            padTo(out, counter, nameOrderPos);
+            for (Integer v : order) {
+                out.writeInt(v);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public long getArcCount() {
+        return arcCount;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public MappedVertex getVertex(int id) {
+        Preconditions.checkElementIndex(id, vertexCount);
+        return new MappedVertex(this, id);
+    }
+
+    /**
+     * Binary search of the name index.
+     * @return the vertex named <code>name</code>, or null
+     */
+    public MappedVertex getVertex(String name) {
+        Preconditions.checkNotNull(name);
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int lo = 0, hi = vertexCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int id = data.getInt(nameOrderPos + 4L * mid);
+            int cmp = compareBytes(nameBytes(id), key);
+            if (cmp < 0) lo = mid + 1;
+            else if (cmp > 0) hi = mid - 1;
+            else return new MappedVertex(this, id);
+        }
+        return null;
+    }
+
+    public String getName(int id) {
+        return new String(nameBytes(id), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return index of the first out-arc of <code>id</code>; its arcs are <code>[firstArc(id), firstArc(id+1))</code>
+     */
+    public long firstArc(int id) {
+        return data.getLong(offsetsPos + 8L * id);
+    }
+
+    public int degree(int id) {
+        return (int) (firstArc(id + 1) - firstArc(id));
+    }
+
+    public int getTarget(long arc) {
+        return data.getInt(targetsPos + 4L * arc);
+    }
+
+    public int getWeight(long arc) {
+        return data.getInt(weightsPos + 4L * arc);
+    }
+
+    /**
+     * Copy onto the heap for algorithms that want primitive arrays.
+     */
+    public CsrGraph<MappedVertex> toCsrGraph() {
+        Preconditions.checkState(arcCount <= Integer.MAX_VALUE, "too many arcs for a CsrGraph");
+        int m = (int) arcCount;
+        int[] offsets = new int[vertexCount + 1], targets = new int[m], weights = new int[m];
+        for (int v = 0; v <= vertexCount; ++v) {
+            offsets[v] = (int) firstArc(v);
+        }
+        for (int i = 0; i < m; ++i) {
+            targets[i] = getTarget(i);
+            weights[i] = getWeight(i);
+        }
+        List<MappedVertex> vertices = new ArrayList<MappedVertex>(getVertices());
+        return new CsrGraph<MappedVertex>(vertices, offsets, targets, weights);
+    }
+
+    @Override
+    public Collection<MappedVertex> getVertices() {
+        return new AbstractCollection<MappedVertex>() {
+            @Override
+            public Iterator<MappedVertex> iterator() {
+                return new Iterator<MappedVertex>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < vertexCount;
+                    }
+
+                    @Override
+                    public MappedVertex next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        return new MappedVertex(MappedGraph.this, next++);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return vertexCount;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof MappedVertex && ((MappedVertex) o).graph == MappedGraph.this;
+            }
+        };
+    }
+
+    @Override
+    public Collection<DirectedEdge<MappedVertex>> getEdges() {
+        return new ArcCollection(0, vertexCount);
+    }
+
+    @Override
+    public VertexWeightBeans<MappedVertex> getNeighborsOf(MappedVertex v) {
+        Preconditions.checkNotNull(v);
+        Preconditions.checkArgument(v.graph == this, "Vertex of another graph: %s", v);
+        final long from = firstArc(v.id), to = firstArc(v.id + 1);
+        return new VertexWeightBeans<MappedVertex>() {
+            @Override
+            public boolean isEmpty() {
+                return from == to;
+            }
+
+            @Override
+            public int size() {
+                return (int) (to - from);
+            }
+
+            @Override
+            public Iterator<VertexWeightBean<MappedVertex>> iterator() {
+                return new Iterator<VertexWeightBean<MappedVertex>>() {
+                    private long arc = from;
+
+                    @Override
+                    public boolean hasNext() {
+                        return arc < to;
+                    }
+
+                    @Override
+                    public VertexWeightBean<MappedVertex> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        VertexWeightBean<MappedVertex> bean =
+                                new VertexWeightBean<MappedVertex>(new MappedVertex(MappedGraph.this, getTarget(arc)), getWeight(arc));
+                        ++arc;
+                        return bean;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Always throws; the mapping is read-only.
+     */
+    @Override
+    public void put(DirectedEdge<MappedVertex> e) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    /**
+     * Always throws; the mapping is read-only.
+     */
+    @Override
+    public boolean removeEdge(DirectedEdge<MappedVertex> e) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    /**
+     * Always throws; the mapping is read-only.
+     */
+    @Override
+    public boolean removeVertex(MappedVertex v) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    @Override
+    public Optional<DirectedEdge<MappedVertex>> get(DirectedEdge<MappedVertex> e) {
+        Preconditions.checkNotNull(e);
+        MappedVertex v1 = e.getV1(), v2 = e.getV2();
+        if (v1.graph != this || v2.graph != this) {
+            return Optional.absent();
+        }
+        // rows are sorted by target: find the first arc to v2, then scan its parallel arcs
+        long lo = firstArc(v1.id), hi = firstArc(v1.id + 1);
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+            if (getTarget(mid) < v2.id) lo = mid + 1;
+            else hi = mid;
+        }
+        for (long arc = lo; arc < firstArc(v1.id + 1) && getTarget(arc) == v2.id; ++arc) {
+            if (getWeight(arc) == e.getWeight()) {
+                return Optional.of(e);
+            }
+        }
+        return Optional.absent();
+    }
+
+    private byte[] nameBytes(int id) {
+        long from = data.getLong(nameOffsetsPos + 8L * id), to = data.getLong(nameOffsetsPos + 8L * (id + 1));
+        byte[] bytes = new byte[(int) (to - from)];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = data.get(namesPos + from + i);
+        }
+        return bytes;
+    }
+
+    private static int compareBytes(byte[] a, byte[] b) {
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; ++i) {
+            int cmp = (a[i] & 0xff) - (b[i] & 0xff);
+            if (cmp != 0) return cmp;
+        }
+        return a.length - b.length;
+    }
+
+    private static void padTo(DataOutputStream out, CountingOutputStream counter, long position) throws IOException {
+        while (counter.getCount() < position) {
+            out.write(0);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    /**
+     * Out-arcs of vertices <code>[from, to)</code> as edges.
+     */
+    private class ArcCollection extends AbstractCollection<DirectedEdge<MappedVertex>> {
+        private final int from, to;
+
+        private ArcCollection(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<DirectedEdge<MappedVertex>> iterator() {
+            return new Iterator<DirectedEdge<MappedVertex>>() {
+                private int source = from;
+                private long arc = firstArc(from), end = firstArc(to);
+                private MappedVertex tail;
+
+                @Override
+                public boolean hasNext() {
+                    return arc < end;
+                }
+
+                @Override
+                public DirectedEdge<MappedVertex> next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    while (firstArc(source + 1) <= arc) {
+                        ++source;
+                        tail = null;
+                    }
+                    if (tail == null) {
+                        tail = new MappedVertex(MappedGraph.this, source);
+                    }
+                    DirectedEdge<MappedVertex> edge =
+                            new DirectedEdge<MappedVertex>(tail, new MappedVertex(MappedGraph.this, getTarget(arc)), getWeight(arc));
+                    ++arc;
+                    return edge;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, firstArc(to) - firstArc(from));
+        }
+    }
+
+    /**
+     * Lightweight handle on a vertex id. Its name is read from the mapping on demand.
+     */
+    public static class MappedVertex implements Vertex<DirectedEdge<MappedVertex>> {
+        private final MappedGraph graph;
+        private final int id;
+
+        private MappedVertex(MappedGraph graph, int id) {
+            this.graph = graph;
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return graph.getName(id);
+        }
+
+        /**
+         * Always throws; the mapping is read-only.
+         */
+        @Override
+        public void addEdge(DirectedEdge<MappedVertex> e) {
+            throw new UnsupportedOperationException("MappedGraph is read-only");
+        }
+
+        /**
+         * Always throws; the mapping is read-only.
+         */
+        @Override
+        public void removeEdge(DirectedEdge<MappedVertex> e) {
+            throw new UnsupportedOperationException("MappedGraph is read-only");
+        }
+
+        @Override
+        public Collection<DirectedEdge<MappedVertex>> getEdges() {
+            return graph.new ArcCollection(id, id + 1);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            MappedVertex that = (MappedVertex) o;
+            return id == that.id && graph == that.graph;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return "Vertex{" +
+                    "name='" + getName() + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * A file mapped as consecutive 1GB buffers. Sections are aligned, so ints and longs never straddle two
+     * segments.
+     */
+    private static class Segments {
+        private static final int SHIFT = 30;
+        private static final long MASK = (1L << SHIFT) - 1;
+
+        private final MappedByteBuffer[] segments;
+        private final long size;
+
+        private Segments(FileChannel channel) throws IOException {
+            size = channel.size();
+            segments = new MappedByteBuffer[(int) ((size + MASK) >>> SHIFT)];
+            for (int i = 0; i < segments.length; ++i) {
+                long start = (long) i << SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MASK + 1, size - start));
+            }
+        }
+
+        private long size() {
+            return size;
+        }
+
+        private byte get(long position) {
+            return segments[(int) (position >>> SHIFT)].get((int) (position & MASK));
+        }
+
+        private int getInt(long position) {
+            return segments[(int) (position >>> SHIFT)].getInt((int) (position & MASK));
+        }
+
+        private long getLong(long position) {
+            return segments[(int) (position >>> SHIFT)].getLong((int) (position & MASK));
+        }
+    }
+}
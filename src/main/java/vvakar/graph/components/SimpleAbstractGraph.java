@@ -12,9 +12,8 @@ import vvakar.graph.interfaces.Vertex;
 abstract class SimpleAbstractGraph<V extends Vertex, E extends Edge<V>> extends AbstractGraph<V, E> {
     @Override
     public void put(E e) {
-        if(get(e).isPresent()) {
+        if(!add(e)) {
             throw new IllegalArgumentException("Edge " + e + " already exists in graph. Simple Graph allows no duplicates.");
         }
-        super.put(e);
     }
 }
@@ -29,6 +29,10 @@ public class SimpleVertex<E extends Edge> implements Vertex<E>{
         edges.add(e);
     }
 
+    public void removeEdge(E e) {
+        edges.remove(e);
+    }
+
     public Set<E> getEdges() {
         return edges;
     }
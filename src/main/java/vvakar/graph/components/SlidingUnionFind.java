@@ -0,0 +1,171 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint sets over a sliding window of unions: unions join at the new end and are retired from the old end,
+ * first in, first out. The sets always reflect exactly the unions still in the window.
+ * <p>
+ * Union by size without path compression makes the latest union cheap to undo, so the unions live on a stack.
+ * Retiring the oldest uses the queue undo trick. Once the stack holds no older unions, all of it is undone and
+ * re-applied in reverse, oldest on top. Otherwise the stack is unwound only until as many older as newer unions
+ * are off, and the older ones go back on top. Each union is re-applied O(log n) times amortized, at O(log n) a
+ * find.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+class SlidingUnionFind {
+    private int[] parent = new int[0], size = new int[0];
+    // the window as a stack; each entry records the root it linked under another, or -1
+    private int[] as = new int[16], bs = new int[16], linked = new int[16];
+    private boolean[] older = new boolean[16];
+    private int top, olderCount, unions;
+    private int[] scratch = new int[64];
+
+    /**
+     * Make elements <code>0..n-1</code> available; new ones start as singletons.
+     */
+    void ensureCapacity(int n) {
+        int old = parent.length;
+        if (n > old) {
+            int capacity = Math.max(n, 2 * old);
+            parent = Arrays.copyOf(parent, capacity);
+            size = Arrays.copyOf(size, capacity);
+            for (int i = old; i < capacity; ++i) {
+                parent[i] = i;
+                size[i] = 1;
+            }
+        }
+    }
+
+    /**
+     * Add the union of <code>a</code> and <code>b</code> at the new end of the window.
+     */
+    void push(int a, int b) {
+        apply(a, b, false);
+    }
+
+    /**
+     * Retire the oldest union in the window.
+     */
+    void pop() {
+        Preconditions.checkState(top > 0, "No unions to retire");
+        if (olderCount == 0) {
+            // all newer: re-apply in reverse, oldest on top
+            int n = top;
+            int[] pending = unwind(n);
+            for (int i = 0; i < n; ++i) {
+                apply(pending[3 * i], pending[3 * i + 1], true);
+            }
+        } else if (!older[top - 1]) {
+            // unwind until as many older as newer unions are off, then put the older ones back on top
+            int newer = 0, old = 0, i = top;
+            do {
+                if (older[--i]) ++old;
+                else ++newer;
+            } while (old != newer && olderCount > old);
+            int n = top - i;
+            int[] pending = unwind(n);
+            for (int pass = 0; pass < 2; ++pass) {
+                for (int k = n - 1; k >= 0; --k) {
+                    if (pending[3 * k + 2] == pass) {
+                        apply(pending[3 * k], pending[3 * k + 1], pass == 1);
+                    }
+                }
+            }
+        }
+        undo();
+    }
+
+    int find(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
+    }
+
+    boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * @return number of elements in the set containing <code>x</code>
+     */
+    int size(int x) {
+        return size[find(x)];
+    }
+
+    /**
+     * @return unions in the window that merged two sets
+     */
+    int unions() {
+        return unions;
+    }
+
+    /**
+     * @return unions in the window
+     */
+    int length() {
+        return top;
+    }
+
+    /**
+     * Undo the top <code>n</code> unions.
+     * @return their (a, b, older) triples in pop order, in a scratch array
+     */
+    private int[] unwind(int n) {
+        if (scratch.length < 3 * n) {
+            scratch = new int[Math.max(3 * n, 2 * scratch.length)];
+        }
+        for (int i = 0; i < n; ++i) {
+            scratch[3 * i] = as[top - 1];
+            scratch[3 * i + 1] = bs[top - 1];
+            scratch[3 * i + 2] = older[top - 1] ? 1 : 0;
+            undo();
+        }
+        return scratch;
+    }
+
+    private void apply(int a, int b, boolean isOlder) {
+        if (top == as.length) {
+            as = Arrays.copyOf(as, 2 * top);
+            bs = Arrays.copyOf(bs, 2 * top);
+            linked = Arrays.copyOf(linked, 2 * top);
+            older = Arrays.copyOf(older, 2 * top);
+        }
+        int ra = find(a), rb = find(b), child = -1;
+        if (ra != rb) {
+            if (size[ra] < size[rb]) {
+                int tmp = ra;
+                ra = rb;
+                rb = tmp;
+            }
+            parent[rb] = ra;
+            size[ra] += size[rb];
+            child = rb;
+            ++unions;
+        }
+        as[top] = a;
+        bs[top] = b;
+        linked[top] = child;
+        older[top++] = isOlder;
+        if (isOlder) {
+            ++olderCount;
+        }
+    }
+
+    private void undo() {
+        --top;
+        if (older[top]) {
+            --olderCount;
+        }
+        int child = linked[top];
+        if (child >= 0) {
+            size[parent[child]] -= size[child];
+            parent[child] = child;
+            --unions;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package vvakar.graph.components;
+
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * Directed edge stamped with the time it happened. Equal edges at different times are different events.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class TemporalEdge<V extends Vertex> extends DirectedEdge<V> {
+    private final long timestamp;
+
+    public TemporalEdge(V v1, V v2, long timestamp) {
+        this(v1, v2, 1, timestamp);
+    }
+
+    public TemporalEdge(V v1, V v2, int weight, long timestamp) {
+        super(v1, v2, weight);
+        this.timestamp = timestamp;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && timestamp == ((TemporalEdge) o).timestamp;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (int) (timestamp ^ (timestamp >>> 32));
+    }
+}
@@ -0,0 +1,520 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Directed multigraph of timestamped edge events that only keeps the last <code>window</code> time units: an
+ * edge at time <code>t</code> is live while <code>latest - t &lt; window</code>.
+ * <p>
+ * Edges arrive in time order and are appended to fixed-size segments of primitive arrays. Each arc links back to
+ * the previous arc from the same source, so the out-arcs of a vertex form a chain from newest to oldest. Every
+ * put or {@link #advanceTo} retires the arcs that left the window from the old end, and drops a segment whole
+ * once its last arc is gone, without scanning: O(1) amortized per edge. A vertex is forgotten, and its id reused,
+ * once no live arc touches it.
+ * <p>
+ * Queries run on the live structure as it moves, with nothing rebuilt:
+ * <ul>
+ *     <li>{@link #getNeighborsOf(Vertex, long, long)} walks a chain only as far back as asked</li>
+ *     <li>{@link #breadthFirst} explores lazily, one vertex per step</li>
+ *     <li>weakly connected components are kept current by a union-find that retires unions in arrival order, see
+ *     {@link SlidingUnionFind}</li>
+ * </ul>
+ * Not thread-safe.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class TemporalGraph<V extends Vertex> implements Graph<V, TemporalEdge<V>> {
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 12;
+
+    private final long window;
+    private final int segmentShift;
+    private final int segmentMask;
+    // live segments, as a ring; the first holds arc oldest
+    private Segment[] segments = new Segment[4];
+    private int firstSegment, segmentCount;
+    private long firstSegmentNumber;
+    /** live arcs are numbered oldest..next-1 */
+    private long oldest, next;
+    private long latest = Long.MIN_VALUE;
+
+    private final Map<V, Integer> ids = new HashMap<V, Integer>();
+    private Object[] vertices = new Object[16];
+    private long[] lastOut = new long[16];
+    /** live arcs touching each vertex, at either end */
+    private int[] liveDegree = new int[16];
+    private int[] freeIds = new int[16];
+    private int freeCount, idCount, liveVertexCount;
+    private final SlidingUnionFind components = new SlidingUnionFind();
+    private int[] marks = new int[16];
+    private int epoch;
+    private int modCount;
+
+    public TemporalGraph(long window) {
+        this(window, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param window how long an edge stays live, in the unit of its timestamps
+     * @param segmentSize arcs per segment, a power of two
+     */
+    public TemporalGraph(long window, int segmentSize) {
+        Preconditions.checkArgument(window > 0, "window must be positive");
+        Preconditions.checkArgument(segmentSize > 0 && Integer.bitCount(segmentSize) == 1,
+                "segmentSize must be a power of two");
+        this.window = window;
+        segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        segmentMask = segmentSize - 1;
+    }
+
+    /**
+     * Append an edge event and expire what it pushes out of the window.
+     * @throws IllegalArgumentException if the edge is older than the latest time seen
+     */
+    @Override
+    public void put(TemporalEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        if (e.getTimestamp() < latest) {
+            throw new IllegalArgumentException("Edge " + e + " at " + e.getTimestamp() + " is older than the latest time "
+                    + latest + ". Edges must arrive in time order.");
+        }
+        advanceTo(e.getTimestamp());
+        int tail = acquire(e.getV1()), head = acquire(e.getV2());
+        e.setV1(vertex(tail));
+        e.setV2(vertex(head));
+
+        if ((next & segmentMask) == 0) {
+            addSegment();
+        }
+        Segment segment = segment(next);
+        int i = (int) (next & segmentMask);
+        segment.tails[i] = tail;
+        segment.heads[i] = head;
+        segment.weights[i] = e.getWeight();
+        segment.times[i] = e.getTimestamp();
+        segment.prevOut[i] = lastOut[tail];
+        lastOut[tail] = next++;
+        ++liveDegree[tail];
+        ++liveDegree[head];
+        components.push(tail, head);
+        ++modCount;
+    }
+
+    /**
+     * Move the clock to <code>now</code> without adding an edge, expiring whatever leaves the window.
+     */
+    public void advanceTo(long now) {
+        Preconditions.checkArgument(now >= latest, "Time cannot move backwards from %s to %s", latest, now);
+        latest = now;
+        while (oldest < next && latest - time(oldest) >= window) {
+            retireOldest();
+        }
+        ++modCount;
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * @return newest timestamp seen, <code>Long.MIN_VALUE</code> before the first
+     */
+    public long getLatestTime() {
+        return latest;
+    }
+
+    public long getArcCount() {
+        return next - oldest;
+    }
+
+    /**
+     * @return segments held, including the one being filled
+     */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * @return vertices touched by at least one live edge
+     */
+    @Override
+    public Collection<V> getVertices() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private final int expectedModCount = modCount;
+                    private int id = advance(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return id < idCount;
+                    }
+
+                    @Override
+                    public V next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        checkModCount(expectedModCount);
+                        V v = vertex(id);
+                        id = advance(id + 1);
+                        return v;
+                    }
+
+                    private int advance(int from) {
+                        while (from < idCount && vertices[from] == null) {
+                            ++from;
+                        }
+                        return from;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return liveVertexCount;
+            }
+        };
+    }
+
+    /**
+     * @return live edges, oldest first
+     */
+    @Override
+    public Collection<TemporalEdge<V>> getEdges() {
+        return new AbstractCollection<TemporalEdge<V>>() {
+            @Override
+            public Iterator<TemporalEdge<V>> iterator() {
+                return new Iterator<TemporalEdge<V>>() {
+                    private final int expectedModCount = modCount;
+                    private long arc = oldest;
+
+                    @Override
+                    public boolean hasNext() {
+                        return arc < next;
+                    }
+
+                    @Override
+                    public TemporalEdge<V> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        checkModCount(expectedModCount);
+                        Segment segment = segment(arc);
+                        int i = (int) (arc++ & segmentMask);
+                        return new TemporalEdge<V>(vertex(segment.tails[i]), vertex(segment.heads[i]),
+                                segment.weights[i], segment.times[i]);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, getArcCount());
+            }
+        };
+    }
+
+    /**
+     * Find immediate out-neighbors of specified <code>Vertex</code> over the whole window.
+     */
+    @Override
+    public VertexWeightBeans<V> getNeighborsOf(V v) {
+        return getNeighborsOf(v, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Find out-neighbors of specified <code>Vertex</code> through live edges stamped <code>from..to</code>,
+     * inclusive. Costs O(live arcs of <code>v</code> newer than <code>from</code>). A neighbor reached by several
+     * edges carries the weight of the newest.
+     */
+    public VertexWeightBeans<V> getNeighborsOf(V v, long from, long to) {
+        Preconditions.checkNotNull(v);
+        VertexWeightBeansImpl<V> vertexWeightBeans = new VertexWeightBeansImpl<V>();
+        Integer id = ids.get(v);
+        if (id != null) {
+            for (long arc = lastOut[id]; arc >= oldest; ) {
+                Segment segment = segment(arc);
+                int i = (int) (arc & segmentMask);
+                if (segment.times[i] < from) {
+                    break;
+                }
+                // arcs come newest first, so keep the first weight seen per head
+                if (segment.times[i] <= to && !vertexWeightBeans.weightBeanMap.containsKey(vertex(segment.heads[i]))) {
+                    vertexWeightBeans.add(vertex(segment.heads[i]), segment.weights[i]);
+                }
+                arc = segment.prevOut[i];
+            }
+        }
+        return vertexWeightBeans;
+    }
+
+    /**
+     * Find the live event equal to <code>e</code>, same endpoints, weight and time.
+     */
+    @Override
+    public Optional<TemporalEdge<V>> get(TemporalEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        Integer tail = ids.get(e.getV1()), head = ids.get(e.getV2());
+        if (tail != null && head != null) {
+            for (long arc = lastOut[tail]; arc >= oldest; ) {
+                Segment segment = segment(arc);
+                int i = (int) (arc & segmentMask);
+                if (segment.times[i] < e.getTimestamp()) {
+                    break;
+                }
+                if (segment.times[i] == e.getTimestamp() && segment.heads[i] == head
+                        && segment.weights[i] == e.getWeight()) {
+                    return Optional.of(e);
+                }
+                arc = segment.prevOut[i];
+            }
+        }
+        return Optional.absent();
+    }
+
+    /**
+     * Always throws; edges only leave by expiring.
+     */
+    @Override
+    public boolean removeEdge(TemporalEdge<V> e) {
+        throw new UnsupportedOperationException("TemporalGraph is append-only; edges leave by expiring");
+    }
+
+    /**
+     * Always throws; vertices leave once their last edge expires.
+     */
+    @Override
+    public boolean removeVertex(V v) {
+        throw new UnsupportedOperationException("TemporalGraph is append-only; edges leave by expiring");
+    }
+
+    /**
+     * @return true if live edges connect <code>a</code> and <code>b</code>, ignoring direction
+     */
+    public boolean connected(V a, V b) {
+        Preconditions.checkNotNull(a);
+        Preconditions.checkNotNull(b);
+        Integer x = ids.get(a), y = ids.get(b);
+        return x != null && y != null && components.connected(x, y);
+    }
+
+    /**
+     * @return vertices in the weakly connected component of <code>v</code>, 0 if no live edge touches it
+     */
+    public int componentSize(V v) {
+        Preconditions.checkNotNull(v);
+        Integer id = ids.get(v);
+        return id == null ? 0 : components.size(id);
+    }
+
+    /**
+     * @return weakly connected components among the live vertices
+     */
+    public int componentCount() {
+        return liveVertexCount - components.unions();
+    }
+
+    /**
+     * Explore the out-arcs stamped <code>from..to</code> breadth-first, starting at <code>start</code>. Work is done
+     * one vertex per {@link Iterator#next()}, so a caller can stop after a few hops at no extra cost. One traversal
+     * at a time: starting another, or changing the graph, invalidates this one.
+     */
+    public BreadthFirst breadthFirst(V start, long from, long to) {
+        return new BreadthFirst(start, from, to);
+    }
+
+    /**
+     * Lazy breadth-first traversal over the live window; see {@link #breadthFirst}.
+     */
+    public class BreadthFirst implements Iterator<V> {
+        private final long from, to;
+        private final int expectedModCount = modCount;
+        private final int stamp;
+        private int[] queue = new int[16], depths = new int[16];
+        private int head, tail, depth = -1;
+
+        private BreadthFirst(V start, long from, long to) {
+            Preconditions.checkNotNull(start);
+            this.from = from;
+            this.to = to;
+            if (++epoch == 0) {
+                Arrays.fill(marks, 0);
+                epoch = 1;
+            }
+            stamp = epoch;
+            Integer id = ids.get(start);
+            if (id != null) {
+                enqueue(id, 0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head < tail;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            checkModCount(expectedModCount);
+            if (stamp != epoch) {
+                throw new ConcurrentModificationException("Another traversal started");
+            }
+            int id = queue[head];
+            depth = depths[head++];
+            for (long arc = lastOut[id]; arc >= oldest; ) {
+                Segment segment = segment(arc);
+                int i = (int) (arc & segmentMask);
+                if (segment.times[i] < from) {
+                    break;
+                }
+                if (segment.times[i] <= to && marks[segment.heads[i]] != stamp) {
+                    enqueue(segment.heads[i], depth + 1);
+                }
+                arc = segment.prevOut[i];
+            }
+            return vertex(id);
+        }
+
+        /**
+         * @return hops from the start to the vertex last returned
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        private void enqueue(int id, int d) {
+            if (tail == queue.length) {
+                queue = Arrays.copyOf(queue, 2 * tail);
+                depths = Arrays.copyOf(depths, 2 * tail);
+            }
+            marks[id] = stamp;
+            queue[tail] = id;
+            depths[tail++] = d;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private void retireOldest() {
+        Segment segment = segment(oldest);
+        int i = (int) (oldest & segmentMask);
+        components.pop();
+        release(segment.tails[i]);
+        release(segment.heads[i]);
+        if ((++oldest & segmentMask) == 0) {
+            // whole segment expired
+            segments[firstSegment] = null;
+            firstSegment = (firstSegment + 1) & (segments.length - 1);
+            --segmentCount;
+            ++firstSegmentNumber;
+        }
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            Segment[] grown = new Segment[2 * segmentCount];
+            for (int k = 0; k < segmentCount; ++k) {
+                grown[k] = segments[(firstSegment + k) & (segments.length - 1)];
+            }
+            segments = grown;
+            firstSegment = 0;
+        }
+        if (segmentCount == 0) {
+            firstSegmentNumber = next >>> segmentShift;
+        }
+        segments[(firstSegment + segmentCount++) & (segments.length - 1)] = new Segment(segmentMask + 1);
+    }
+
+    private Segment segment(long arc) {
+        int k = (int) ((arc >>> segmentShift) - firstSegmentNumber);
+        return segments[(firstSegment + k) & (segments.length - 1)];
+    }
+
+    private long time(long arc) {
+        return segment(arc).times[(int) (arc & segmentMask)];
+    }
+
+    private int acquire(V v) {
+        Integer id = ids.get(v);
+        if (id != null) {
+            return id;
+        }
+        int fresh = freeCount > 0 ? freeIds[--freeCount] : idCount++;
+        if (idCount > vertices.length) {
+            int capacity = 2 * vertices.length;
+            vertices = Arrays.copyOf(vertices, capacity);
+            lastOut = Arrays.copyOf(lastOut, capacity);
+            liveDegree = Arrays.copyOf(liveDegree, capacity);
+            freeIds = Arrays.copyOf(freeIds, capacity);
+            marks = Arrays.copyOf(marks, capacity);
+        }
+        components.ensureCapacity(idCount);
+        vertices[fresh] = v;
+        lastOut[fresh] = -1;
+        ids.put(v, fresh);
+        ++liveVertexCount;
+        return fresh;
+    }
+
+    private void release(int id) {
+        if (--liveDegree[id] == 0) {
+            ids.remove(vertex(id));
+            vertices[id] = null;
+            freeIds[freeCount++] = id;
+            --liveVertexCount;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V vertex(int id) {
+        return (V) vertices[id];
+    }
+
+    private void checkModCount(int expected) {
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Fixed-size block of arcs, in arrival order.
+     */
+    private static class Segment {
+        final int[] tails, heads, weights;
+        final long[] times;
+        /** previous arc from the same source, or -1 */
+        final long[] prevOut;
+
+        Segment(int size) {
+            tails = new int[size];
+            heads = new int[size];
+            weights = new int[size];
+            times = new long[size];
+            prevOut = new long[size];
+        }
+    }
+}
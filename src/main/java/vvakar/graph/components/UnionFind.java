@@ -0,0 +1,83 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Disjoint sets over the elements <code>0..n-1</code>, backed by plain <code>int</code> arrays.
+ * Union by size plus path halving keeps every operation at amortized inverse-Ackermann cost.
+ * Not thread-safe, see {@link ConcurrentUnionFind} for parallel unions.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class UnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int count;
+
+    public UnionFind(int n) {
+        Preconditions.checkArgument(n >= 0);
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; ++i) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        count = n;
+    }
+
+    /**
+     * @return representative of the set containing <code>x</code>
+     */
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // path halving
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merge the sets containing <code>a</code> and <code>b</code>.
+     * @return true if they were disjoint before the call
+     */
+    public boolean union(int a, int b) {
+        int ra = find(a), rb = find(b);
+        if (ra == rb) {
+            return false;
+        }
+        if (size[ra] < size[rb]) {
+            int tmp = ra;
+            ra = rb;
+            rb = tmp;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+        --count;
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * @return number of elements in the set containing <code>x</code>
+     */
+    public int size(int x) {
+        return size[find(x)];
+    }
+
+    /**
+     * @return number of disjoint sets
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int capacity() {
+        return parent.length;
+    }
+}
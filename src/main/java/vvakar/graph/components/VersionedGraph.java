@@ -0,0 +1,716 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.io.Closeable;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Simple directed graph with multi-version concurrency control: readers never block writers or see a graph
+ * change under them.
+ * <p>
+ * The graph is a frozen base {@link CsrGraph} plus a delta log of arc insertions and removals since. Every update
+ * appends to the log under a writer lock and publishes a new immutable {@link Snapshot} through a volatile field.
+ * Readers call {@link #snapshot()} to pin one version for as long as a query runs. A pinned snapshot holds
+ * the base and the log length at that moment. Log arrays are append-only and are copied whenever they grow or are
+ * compacted, so nothing a snapshot can see is ever overwritten. Snapshots are themselves read-only
+ * {@link Graph}s, so the existing traversal and shortest path code runs on them unchanged.
+ * <p>
+ * Once the log reaches the compaction threshold, a background thread merges base and log into a new base.
+ * Writers only wait for the final swap, which carries over updates appended during the merge. Vertex ids never
+ * change across versions; a removed vertex keeps its id as an isolated, hidden vertex.
+ * <p>
+ * Writers find the arcs touching a vertex without merging anything: the compactor also builds the transpose of
+ * each new base, and the live arcs of the log are indexed by both ends.
+ * <p>
+ * Reads on the graph itself go to the latest snapshot, one call at a time. The per-vertex edge sets of
+ * {@link Vertex} are not maintained, since updating them in place is exactly what readers must not see.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class VersionedGraph<V extends Vertex> implements Graph<V, DirectedEdge<V>>, Closeable {
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1 << 16;
+
+    private final int compactionThreshold;
+    /** every vertex ever added; a snapshot only trusts ids below its vertex count */
+    private final ConcurrentMap<V, Integer> ids = new ConcurrentHashMap<V, Integer>();
+    private final Object writeLock = new Object();
+    private final Object compactLock = new Object();
+    private final ExecutorService compactor;
+    private volatile Snapshot<V> current;
+
+    // writer state, guarded by writeLock
+    private Object[] vertices = new Object[16];
+    private int vertexCount;
+    /** update log: a negative tail <code>~t</code> records the removal of an arc from <code>t</code> */
+    private int[] tails = new int[16], heads = new int[16], weights = new int[16];
+    private int deltaSize;
+    /** transpose of the current base, for the arcs into a vertex */
+    private CsrGraph<V> baseIn;
+    /** live arcs that are in the log but not in the base, by source and by target */
+    private final SetMultimap<V, DirectedEdge<V>> deltaOut = HashMultimap.create(), deltaIn = HashMultimap.create();
+    /** base arcs removed by the log */
+    private final Set<DirectedEdge<V>> baseRemoved = Sets.newHashSet();
+    /** copied on write, since snapshots share it */
+    private BitSet removedVertices = new BitSet();
+    private int removedCount;
+    private long arcCount;
+    private long version;
+    private boolean compactionPending;
+    private long compactions;
+
+    public VersionedGraph() {
+        this(DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold logged updates that trigger a background compaction
+     */
+    public VersionedGraph(int compactionThreshold) {
+        Preconditions.checkArgument(compactionThreshold > 0, "compactionThreshold must be positive");
+        this.compactionThreshold = compactionThreshold;
+        compactor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "graph-compactor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        List<V> none = new ArrayList<V>();
+        synchronized (writeLock) {
+            baseIn = new CsrGraph<V>(none, new int[1], new int[0], new int[0]);
+            publish(baseIn);
+        }
+    }
+
+    /**
+     * @return the latest version; stays valid and unchanged however the graph moves on
+     */
+    public Snapshot<V> snapshot() {
+        return current;
+    }
+
+    /**
+     * Add an arc. Safe to call from any number of threads; writers are serialized.
+     * @throws IllegalArgumentException if an equal edge is already present
+     */
+    @Override
+    public void put(DirectedEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        synchronized (writeLock) {
+            Integer tailId = ids.get(e.getV1()), headId = ids.get(e.getV2());
+            if (tailId != null && headId != null && exists(tailId, headId, e)) {
+                throw new IllegalArgumentException("Edge " + e + " already exists in graph. Simple Graph allows no duplicates.");
+            }
+            int tail = putVertex(e.getV1()), head = putVertex(e.getV2());
+            e.setV1(vertex(tail));
+            e.setV2(vertex(head));
+            append(tail, head, e.getWeight());
+            if (Snapshot.contains(current.base, tail, head, e.getWeight())) {
+                baseRemoved.remove(e);
+            } else {
+                addDelta(e);
+            }
+            ++arcCount;
+            publishAndMaybeCompact();
+        }
+    }
+
+    /**
+     * Log the removal of an arc. Safe to call from any number of threads.
+     */
+    @Override
+    public boolean removeEdge(DirectedEdge<V> e) {
+        Preconditions.checkNotNull(e);
+        synchronized (writeLock) {
+            Integer tail = ids.get(e.getV1()), head = ids.get(e.getV2());
+            if (tail == null || head == null || !exists(tail, head, e)) {
+                return false;
+            }
+            logRemoval(tail, head, e.getWeight());
+            publishAndMaybeCompact();
+            return true;
+        }
+    }
+
+    /**
+     * Log the removal of <code>v</code> and every arc touching it. O(degree), counting arcs at both ends: they come
+     * from the rows of <code>v</code> in the base and its transpose, and from the log index.
+     */
+    @Override
+    public boolean removeVertex(V v) {
+        Preconditions.checkNotNull(v);
+        synchronized (writeLock) {
+            Integer id = ids.get(v);
+            if (id == null || removedVertices.get(id)) {
+                return false;
+            }
+            CsrGraph<V> base = current.base;
+            if (id < base.vertexCount()) {
+                int[] offsets = base.getOffsets(), targets = base.getTargets(), ws = base.getWeights();
+                for (int i = offsets[id]; i < offsets[id + 1]; ++i) {
+                    logBaseRemoval(id, targets[i], ws[i]);
+                }
+                offsets = baseIn.getOffsets();
+                targets = baseIn.getTargets();
+                ws = baseIn.getWeights();
+                for (int i = offsets[id]; i < offsets[id + 1]; ++i) {
+                    if (targets[i] != id) { // loops went with the out-arcs
+                        logBaseRemoval(targets[i], id, ws[i]);
+                    }
+                }
+            }
+            V vertex = vertex(id);
+            for (DirectedEdge<V> e : new ArrayList<DirectedEdge<V>>(deltaOut.get(vertex))) {
+                logRemoval(id, ids.get(e.getV2()), e.getWeight());
+            }
+            for (DirectedEdge<V> e : new ArrayList<DirectedEdge<V>>(deltaIn.get(vertex))) {
+                logRemoval(ids.get(e.getV1()), id, e.getWeight());
+            }
+            BitSet removed = (BitSet) removedVertices.clone();
+            removed.set(id);
+            removedVertices = removed;
+            ++removedCount;
+            publishAndMaybeCompact();
+            return true;
+        }
+    }
+
+    /**
+     * Merge the current log into a new base. Runs in the background on its own; call directly to compact now.
+     * Writers are held up only while updates appended during the merge are carried over.
+     */
+    public void compact() {
+        synchronized (compactLock) {
+            Snapshot<V> pinned = current;
+            CsrGraph<V> merged = pinned.deltaSize == 0 ? pinned.base : pinned.toCsrGraph();
+            CsrGraph<V> mergedIn = pinned.deltaSize == 0 ? null : merged.transpose();
+            synchronized (writeLock) {
+                compactionPending = false;
+                if (pinned.deltaSize == 0) {
+                    return;
+                }
+                int rest = deltaSize - pinned.deltaSize;
+                int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, rest)) << 1);
+                int[] t = new int[capacity], h = new int[capacity], w = new int[capacity];
+                System.arraycopy(tails, pinned.deltaSize, t, 0, rest);
+                System.arraycopy(heads, pinned.deltaSize, h, 0, rest);
+                System.arraycopy(weights, pinned.deltaSize, w, 0, rest);
+                tails = t;
+                heads = h;
+                weights = w;
+                deltaSize = rest;
+                // replay what is left against the new base
+                deltaOut.clear();
+                deltaIn.clear();
+                baseRemoved.clear();
+                for (int i = 0; i < rest; ++i) {
+                    int tail = t[i] >= 0 ? t[i] : ~t[i];
+                    DirectedEdge<V> e = new DirectedEdge<V>(vertex(tail), vertex(h[i]), w[i]);
+                    if (t[i] >= 0) {
+                        if (Snapshot.contains(merged, tail, h[i], w[i])) baseRemoved.remove(e);
+                        else addDelta(e);
+                    } else if (!removeDelta(e)) {
+                        baseRemoved.add(e);
+                    }
+                }
+                ++compactions;
+                baseIn = mergedIn;
+                publish(merged);
+            }
+        }
+    }
+
+    /**
+     * @return completed compactions, for monitoring
+     */
+    public long getCompactionCount() {
+        synchronized (writeLock) {
+            return compactions;
+        }
+    }
+
+    /**
+     * Stop the background compactor. The graph stays usable; compactions then only happen through
+     * {@link #compact()}.
+     */
+    @Override
+    public void close() {
+        compactor.shutdown();
+    }
+
+    @Override
+    public Collection<V> getVertices() {
+        return current.getVertices();
+    }
+
+    @Override
+    public Collection<DirectedEdge<V>> getEdges() {
+        return current.getEdges();
+    }
+
+    @Override
+    public VertexWeightBeans<V> getNeighborsOf(V v) {
+        return current.getNeighborsOf(v);
+    }
+
+    @Override
+    public Optional<DirectedEdge<V>> get(DirectedEdge<V> e) {
+        return current.get(e);
+    }
+
+    private boolean exists(int tail, int head, DirectedEdge<V> e) {
+        return deltaOut.containsEntry(e.getV1(), e)
+                || Snapshot.contains(current.base, tail, head, e.getWeight()) && !baseRemoved.contains(e);
+    }
+
+    private void logRemoval(int tail, int head, int weight) {
+        append(~tail, head, weight);
+        DirectedEdge<V> e = new DirectedEdge<V>(vertex(tail), vertex(head), weight);
+        if (!removeDelta(e)) {
+            baseRemoved.add(e);
+        }
+        --arcCount;
+    }
+
+    /**
+     * Log the removal of a base arc, unless the log removed it already.
+     */
+    private void logBaseRemoval(int tail, int head, int weight) {
+        if (!baseRemoved.contains(new DirectedEdge<V>(vertex(tail), vertex(head), weight))) {
+            logRemoval(tail, head, weight);
+        }
+    }
+
+    private void addDelta(DirectedEdge<V> e) {
+        deltaOut.put(e.getV1(), e);
+        deltaIn.put(e.getV2(), e);
+    }
+
+    private boolean removeDelta(DirectedEdge<V> e) {
+        if (!deltaOut.remove(e.getV1(), e)) {
+            return false;
+        }
+        deltaIn.remove(e.getV2(), e);
+        return true;
+    }
+
+    private void append(int tail, int head, int weight) {
+        if (deltaSize == tails.length) {
+            tails = Arrays.copyOf(tails, 2 * deltaSize);
+            heads = Arrays.copyOf(heads, 2 * deltaSize);
+            weights = Arrays.copyOf(weights, 2 * deltaSize);
+        }
+        tails[deltaSize] = tail;
+        heads[deltaSize] = head;
+        weights[deltaSize++] = weight;
+    }
+
+    private int putVertex(V v) {
+        Integer id = ids.get(v);
+        if (id != null) {
+            if (removedVertices.get(id)) {
+                BitSet removed = (BitSet) removedVertices.clone();
+                removed.clear(id);
+                removedVertices = removed;
+                --removedCount;
+            }
+            return id;
+        }
+        if (vertexCount == vertices.length) {
+            vertices = Arrays.copyOf(vertices, 2 * vertexCount);
+        }
+        vertices[vertexCount] = v;
+        ids.put(v, vertexCount);
+        return vertexCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V vertex(int id) {
+        return (V) vertices[id];
+    }
+
+    private void publishAndMaybeCompact() {
+        publish(current.base);
+        if (deltaSize >= compactionThreshold && !compactionPending && !compactor.isShutdown()) {
+            compactionPending = true;
+            try {
+                compactor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        compact();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // closed meanwhile; the update is already published, so leave compaction to compact()
+                compactionPending = false;
+            }
+        }
+    }
+
+    /**
+     * Caller holds the write lock.
+     */
+    private void publish(CsrGraph<V> base) {
+        current = new Snapshot<V>(this, base);
+    }
+
+    /**
+     * Immutable version of a {@link VersionedGraph}: a base CSR plus the first <code>deltaSize</code> logged
+     * updates. Thread-safe. The log is sorted by source the first time it is searched, and the merged CSR is built
+     * on demand; both are cached.
+     */
+    public static class Snapshot<V extends Vertex> implements Graph<V, DirectedEdge<V>> {
+        private final VersionedGraph<V> owner;
+        private final CsrGraph<V> base;
+        private final List<V> vertices;
+        private final BitSet removedVertices;
+        private final int liveVertexCount;
+        private final long arcCount;
+        private final int[] tails, heads, weights;
+        private final int deltaSize;
+        private final long version;
+        private volatile long[] delta;
+        private volatile CsrGraph<V> merged;
+
+        /**
+         * Capture the writer state of <code>owner</code>, whose write lock the caller holds.
+         */
+        private Snapshot(VersionedGraph<V> owner, CsrGraph<V> base) {
+            this.owner = owner;
+            this.base = base;
+            final Object[] array = owner.vertices;
+            final int vertexCount = owner.vertexCount;
+            this.vertices = new AbstractList<V>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public V get(int index) {
+                    Preconditions.checkElementIndex(index, vertexCount);
+                    return (V) array[index];
+                }
+
+                @Override
+                public int size() {
+                    return vertexCount;
+                }
+            };
+            removedVertices = owner.removedVertices;
+            liveVertexCount = vertexCount - owner.removedCount;
+            arcCount = owner.arcCount;
+            tails = owner.tails;
+            heads = owner.heads;
+            weights = owner.weights;
+            deltaSize = owner.deltaSize;
+            version = ++owner.version;
+        }
+
+        /**
+         * @return increases with every update and compaction
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public int getVertexCount() {
+            return liveVertexCount;
+        }
+
+        public long getArcCount() {
+            return arcCount;
+        }
+
+        /**
+         * @return updates not yet merged into the base
+         */
+        public int getDeltaSize() {
+            return deltaSize;
+        }
+
+        /**
+         * @return id of <code>v</code> in this version, or -1
+         */
+        public int getId(V v) {
+            Preconditions.checkNotNull(v);
+            Integer id = owner.ids.get(v);
+            return id == null || id >= vertices.size() || removedVertices.get(id) ? -1 : id;
+        }
+
+        /**
+         * Base and log merged into one CSR, for the primitive algorithms. Ids are those of the graph, so removed
+         * vertices show up as isolated ones.
+         */
+        public CsrGraph<V> toCsrGraph() {
+            CsrGraph<V> result = merged;
+            if (result == null) {
+                merged = result = merge();
+            }
+            return result;
+        }
+
+        @Override
+        public Collection<V> getVertices() {
+            if (liveVertexCount == vertices.size()) {
+                return vertices;
+            }
+            return new AbstractCollection<V>() {
+                @Override
+                public Iterator<V> iterator() {
+                    return new Iterator<V>() {
+                        private int next = removedVertices.nextClearBit(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < vertices.size();
+                        }
+
+                        @Override
+                        public V next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            V v = vertices.get(next);
+                            next = removedVertices.nextClearBit(next + 1);
+                            return v;
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return liveVertexCount;
+                }
+            };
+        }
+
+        @Override
+        public Collection<DirectedEdge<V>> getEdges() {
+            return new AbstractCollection<DirectedEdge<V>>() {
+                @Override
+                public Iterator<DirectedEdge<V>> iterator() {
+                    final CsrGraph<V> csr = toCsrGraph();
+                    return new Iterator<DirectedEdge<V>>() {
+                        private final int[] offsets = csr.getOffsets(), targets = csr.getTargets(),
+                                ws = csr.getWeights();
+                        private int source, arc;
+
+                        @Override
+                        public boolean hasNext() {
+                            return arc < targets.length;
+                        }
+
+                        @Override
+                        public DirectedEdge<V> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            while (offsets[source + 1] <= arc) {
+                                ++source;
+                            }
+                            DirectedEdge<V> edge = new DirectedEdge<V>(vertices.get(source), vertices.get(targets[arc]), ws[arc]);
+                            ++arc;
+                            return edge;
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return (int) Math.min(Integer.MAX_VALUE, arcCount);
+                }
+            };
+        }
+
+        /**
+         * Find immediate neighbors of specified <code>Vertex</code>; empty if it is not part of this version.
+         */
+        @Override
+        public VertexWeightBeans<V> getNeighborsOf(V v) {
+            Preconditions.checkNotNull(v);
+            VertexWeightBeansImpl<V> vertexWeightBeans = new VertexWeightBeansImpl<V>();
+            int id = getId(v);
+            if (id >= 0) {
+                int[] row = liveRow(id);
+                for (int k = 0; k < row.length; k += 2) {
+                    vertexWeightBeans.add(vertices.get(row[k]), row[k + 1]);
+                }
+            }
+            return vertexWeightBeans;
+        }
+
+        /**
+         * Always throws; write through the owning {@link VersionedGraph}.
+         */
+        @Override
+        public void put(DirectedEdge<V> e) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        /**
+         * Always throws; write through the owning {@link VersionedGraph}.
+         */
+        @Override
+        public boolean removeEdge(DirectedEdge<V> e) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        /**
+         * Always throws; write through the owning {@link VersionedGraph}.
+         */
+        @Override
+        public boolean removeVertex(V v) {
+            throw new UnsupportedOperationException("Snapshot is read-only");
+        }
+
+        @Override
+        public Optional<DirectedEdge<V>> get(DirectedEdge<V> e) {
+            Preconditions.checkNotNull(e);
+            int tail = getId(e.getV1()), head = getId(e.getV2());
+            if (tail < 0 || head < 0) {
+                return Optional.absent();
+            }
+            // the last logged update of the arc wins over the base
+            Boolean logged = null;
+            long[] order = deltaOrder();
+            for (int p = firstDelta(order, tail); p < order.length && (int) (order[p] >>> 32) == tail; ++p) {
+                int i = (int) order[p];
+                if (heads[i] == head && weights[i] == e.getWeight()) {
+                    logged = tails[i] >= 0;
+                }
+            }
+            boolean found = logged != null ? logged : contains(base, tail, head, e.getWeight());
+            return found ? Optional.of(e) : Optional.<DirectedEdge<V>>absent();
+        }
+
+        static boolean contains(CsrGraph<?> csr, int tail, int head, int weight) {
+            if (tail >= csr.vertexCount() || head >= csr.vertexCount()) {
+                return false;
+            }
+            int[] offsets = csr.getOffsets(), targets = csr.getTargets(), ws = csr.getWeights();
+            int arc = csr.findArc(tail, head);
+            for (; arc >= 0 && arc < offsets[tail + 1] && targets[arc] == head; ++arc) {
+                if (ws[arc] == weight) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return live arcs of <code>v</code> as interleaved (target, weight) pairs
+         */
+        private int[] liveRow(int v) {
+            int from = 0, to = 0;
+            if (v < base.vertexCount()) {
+                from = base.getOffsets()[v];
+                to = base.getOffsets()[v + 1];
+            }
+            int[] targets = base.getTargets(), ws = base.getWeights();
+            long[] order = deltaOrder();
+            int p = firstDelta(order, v);
+            if (p == order.length || (int) (order[p] >>> 32) != v) {
+                int[] row = new int[2 * (to - from)];
+                for (int i = from, k = 0; i < to; ++i) {
+                    row[k++] = targets[i];
+                    row[k++] = ws[i];
+                }
+                return row;
+            }
+
+            // last logged update per (target, weight)
+            Map<Long, Boolean> logged = new LinkedHashMap<Long, Boolean>();
+            for (; p < order.length && (int) (order[p] >>> 32) == v; ++p) {
+                int i = (int) order[p];
+                logged.put(key(heads[i], weights[i]), tails[i] >= 0);
+            }
+            int[] row = new int[2 * (to - from + logged.size())];
+            int k = 0;
+            for (int i = from; i < to; ++i) {
+                if (!logged.containsKey(key(targets[i], ws[i]))) {
+                    row[k++] = targets[i];
+                    row[k++] = ws[i];
+                }
+            }
+            for (Map.Entry<Long, Boolean> entry : logged.entrySet()) {
+                if (entry.getValue()) {
+                    row[k++] = (int) (entry.getKey() >>> 32);
+                    row[k++] = (int) (long) entry.getKey();
+                }
+            }
+            return k == row.length ? row : Arrays.copyOf(row, k);
+        }
+
+        private static long key(int head, int weight) {
+            return ((long) head << 32) | (weight & 0xffffffffL);
+        }
+
+        /**
+         * @return logged updates as <code>(tail &lt;&lt; 32 | index)</code>, sorted, so that the updates of a
+         * vertex are one binary search away, in log order. Costs O(d log d) in the log size rather than O(n).
+         */
+        private long[] deltaOrder() {
+            long[] result = delta;
+            if (result == null) {
+                result = new long[deltaSize];
+                for (int i = 0; i < deltaSize; ++i) {
+                    int tail = tails[i] >= 0 ? tails[i] : ~tails[i];
+                    result[i] = ((long) tail << 32) | i;
+                }
+                Arrays.sort(result);
+                delta = result;
+            }
+            return result;
+        }
+
+        private static int firstDelta(long[] order, int tail) {
+            int pos = Arrays.binarySearch(order, (long) tail << 32);
+            return pos < 0 ? -pos - 1 : pos;
+        }
+
+        private CsrGraph<V> merge() {
+            int n = vertices.size();
+            int m = (int) arcCount;
+            int[] allTails = new int[m], allHeads = new int[m], allWeights = new int[m];
+            int k = 0;
+            for (int v = 0; v < n; ++v) {
+                int[] row = liveRow(v);
+                for (int i = 0; i < row.length; i += 2, ++k) {
+                    allTails[k] = v;
+                    allHeads[k] = row[i];
+                    allWeights[k] = row[i + 1];
+                }
+            }
+            return CsrGraph.fromArcs(new ArrayList<V>(vertices), allTails, allHeads, allWeights, m);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package vvakar.graph.connectivity;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * Partition of a snapshot's vertices into components: a label <code>0..count-1</code> per vertex id, plus sizes.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ComponentsBean<V extends Vertex> {
+    private final CsrGraph<V> csr;
+    private final int[] labels;
+    private final int[] sizes;
+
+    ComponentsBean(CsrGraph<V> csr, int[] labels, int[] sizes) {
+        this.csr = csr;
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    public int getCount() {
+        return sizes.length;
+    }
+
+    /**
+     * @return component label per vertex id of {@link #getGraph()}
+     */
+    public int[] getLabels() {
+        return labels;
+    }
+
+    /**
+     * @return vertex count per component label
+     */
+    public int[] getSizes() {
+        return sizes;
+    }
+
+    public int getLabel(V v) {
+        int id = csr.getId(v);
+        Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+        return labels[id];
+    }
+
+    public int getSize(V v) {
+        return sizes[getLabel(v)];
+    }
+
+    public boolean isConnected(V a, V b) {
+        return getLabel(a) == getLabel(b);
+    }
+
+    public CsrGraph<V> getGraph() {
+        return csr;
+    }
+}
@@ -0,0 +1,123 @@
+package vvakar.graph.connectivity;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.ConcurrentUnionFind;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Parallel;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Parallel connected components in the style of Afforest (Sutton et al.):
+ * <ol>
+ *     <li>link every vertex to its first few neighbors only, which already joins most of the giant component</li>
+ *     <li>sample vertices to find the most frequent component</li>
+ *     <li>link the remaining arcs, skipping every vertex already in the giant component</li>
+ * </ol>
+ * Linking is done by a shared {@link ConcurrentUnionFind} from all worker threads.
+ * Arcs are linked regardless of direction, so for a directed graph the result is its weakly connected components.
+ * Skipping is only sound when every arc has a reverse twin, so it is enabled for symmetric snapshots only.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConnectedComponents {
+    private static final int NEIGHBOR_ROUNDS = 2;
+    private static final int SAMPLES = 1024;
+
+    private ConnectedComponents() {}
+
+    public static <V extends Vertex, E extends Edge> ComponentsBean<V> compute(Graph<V, E> graph) {
+        return compute(CsrGraph.copyOf(graph));
+    }
+
+    public static <V extends Vertex> ComponentsBean<V> compute(final CsrGraph<V> csr) {
+        Preconditions.checkNotNull(csr);
+        final int n = csr.vertexCount();
+        final int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        final ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+
+        // 1. neighbor sampling
+        for (int round = 0; round < NEIGHBOR_ROUNDS; ++round) {
+            final int r = round;
+            Parallel.forRange(0, n, new Parallel.RangeTask() {
+                @Override
+                public void run(int from, int to) {
+                    for (int v = from; v < to; ++v) {
+                        int i = offsets[v] + r;
+                        if (i < offsets[v + 1]) {
+                            uf.union(v, targets[i]);
+                        }
+                    }
+                }
+            });
+        }
+
+        // 2. find the (probably) largest component
+        final int giant = csr.isSymmetric() && n > 0 ? sampleFrequentMember(uf, n) : -1;
+
+        // 3. finish the remaining arcs
+        Parallel.forRange(0, n, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int v = from; v < to; ++v) {
+                    if (giant >= 0 && uf.find(v) == uf.find(giant)) {
+                        continue;
+                    }
+                    for (int i = offsets[v] + NEIGHBOR_ROUNDS; i < offsets[v + 1]; ++i) {
+                        uf.union(v, targets[i]);
+                    }
+                }
+            }
+        });
+
+        final int[] labels = new int[n];
+        Parallel.forRange(0, n, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int v = from; v < to; ++v) {
+                    labels[v] = uf.find(v);
+                }
+            }
+        });
+
+        // renumber roots densely in order of first appearance
+        int[] rootLabel = new int[n];
+        Arrays.fill(rootLabel, -1);
+        int[] sizes = new int[uf.count()];
+        int count = 0;
+        for (int v = 0; v < n; ++v) {
+            int root = labels[v];
+            if (rootLabel[root] < 0) {
+                rootLabel[root] = count++;
+            }
+            labels[v] = rootLabel[root];
+            ++sizes[labels[v]];
+        }
+        return new ComponentsBean<V>(csr, labels, sizes);
+    }
+
+    private static int sampleFrequentMember(ConcurrentUnionFind uf, int n) {
+        Random random = new Random(n);
+        int[] roots = new int[SAMPLES], members = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; ++i) {
+            members[i] = random.nextInt(n);
+            roots[i] = uf.find(members[i]);
+        }
+        int best = 0, bestCount = 0;
+        for (int i = 0; i < SAMPLES; ++i) {
+            int count = 0;
+            for (int j = 0; j < SAMPLES; ++j) {
+                if (roots[j] == roots[i]) ++count;
+            }
+            if (count > bestCount) {
+                best = i;
+                bestCount = count;
+            }
+        }
+        return members[best];
+    }
+}
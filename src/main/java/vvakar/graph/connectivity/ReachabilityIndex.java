@@ -0,0 +1,287 @@
+package vvakar.graph.connectivity;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.traversal.DepthFirstSearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "Can A reach B" index in the style of GRAIL (Yildirim et al.). Strongly connected components are condensed
+ * into a DAG first; then every DAG node gets <code>k</code> interval labels <code>[low, post]</code> from
+ * <code>k</code> randomized DFS traversals, where <code>post</code> is the post-order rank and <code>low</code> the
+ * smallest rank among its descendants. If B can be reached from A, then B's interval nests inside A's in every
+ * traversal. So a single non-nested pair proves B is unreachable in O(k). The condensation's topological
+ * numbering gives a second O(1) negative cut. The remaining candidates are confirmed by a DFS that prunes every
+ * branch failing either test.
+ * <p>
+ * Queries are thread-safe. The index is a snapshot: later changes to the graph are not reflected.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ReachabilityIndex<V extends Vertex> {
+    public static final int DEFAULT_TRAVERSALS = 3;
+
+    private final CsrGraph<V> csr;
+    private final int[] component;
+    private final CsrGraph<V> dag;
+    private final int traversals;
+    /** low and post per traversal, interleaved: [2 * (t * c + node)] = low, [... + 1] = post */
+    private final int[] intervals;
+    private final long buildNanos;
+    private final AtomicLong labelAnswers = new AtomicLong();
+    private final AtomicLong searchAnswers = new AtomicLong();
+    private final ThreadLocal<int[][]> scratch = new ThreadLocal<int[][]>();
+    private final ThreadLocal<int[]> epoch = new ThreadLocal<int[]>();
+
+    private ReachabilityIndex(CsrGraph<V> csr, int traversals, long seed) {
+        long start = System.nanoTime();
+        this.csr = csr;
+        this.traversals = traversals;
+
+        ComponentsBean<V> scc = StronglyConnectedComponents.compute(csr);
+        component = scc.getLabels();
+        dag = condense(csr, component, scc.getCount());
+
+        int c = dag.vertexCount();
+        intervals = new int[2 * traversals * c];
+        Random random = new Random(seed);
+        for (int t = 0; t < traversals; ++t) {
+            label(t, random);
+        }
+        buildNanos = System.nanoTime() - start;
+    }
+
+    public static <V extends Vertex, E extends Edge> ReachabilityIndex<V> build(Graph<V, E> graph) {
+        return build(CsrGraph.copyOf(graph), DEFAULT_TRAVERSALS, 0);
+    }
+
+    /**
+     * @param traversals number of interval labels per node; more labels filter more queries but cost memory
+     */
+    public static <V extends Vertex> ReachabilityIndex<V> build(CsrGraph<V> csr, int traversals, long seed) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkArgument(traversals > 0, "need at least one traversal");
+        return new ReachabilityIndex<V>(csr, traversals, seed);
+    }
+
+    public boolean canReach(V from, V to) {
+        int u = csr.getId(from), v = csr.getId(to);
+        Preconditions.checkArgument(u >= 0, "Unknown vertex %s", from);
+        Preconditions.checkArgument(v >= 0, "Unknown vertex %s", to);
+        return canReach(u, v);
+    }
+
+    /**
+     * @param from vertex id of the indexed snapshot
+     * @param to   vertex id of the indexed snapshot
+     */
+    public boolean canReach(int from, int to) {
+        int a = component[from], b = component[to];
+        if (a == b) {
+            labelAnswers.incrementAndGet();
+            return true;
+        }
+        if (!mayReach(a, b)) {
+            labelAnswers.incrementAndGet();
+            return false;
+        }
+        searchAnswers.incrementAndGet();
+        return guidedSearch(a, b);
+    }
+
+    /**
+     * Necessary conditions only: condensation arcs always go from a higher component label to a lower one, and
+     * the target interval nests in every source interval.
+     */
+    private boolean mayReach(int a, int b) {
+        if (a < b) {
+            return false;
+        }
+        int c = dag.vertexCount();
+        for (int t = 0; t < traversals; ++t) {
+            int ia = 2 * (t * c + a), ib = 2 * (t * c + b);
+            if (intervals[ib] < intervals[ia] || intervals[ib + 1] > intervals[ia + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean guidedSearch(int a, int b) {
+        int c = dag.vertexCount();
+        int[][] arrays = scratch.get();
+        int[] stamp = epoch.get();
+        if (arrays == null) {
+            arrays = new int[][]{new int[c], new int[c]};
+            stamp = new int[1];
+            scratch.set(arrays);
+            epoch.set(stamp);
+        }
+        int[] stack = arrays[0], visited = arrays[1];
+        int mark = ++stamp[0];
+        if (mark == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            stamp[0] = mark = 1;
+        }
+
+        int[] offsets = dag.getOffsets(), targets = dag.getTargets();
+        int top = 0;
+        stack[top++] = a;
+        visited[a] = mark;
+        while (top > 0) {
+            int u = stack[--top];
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                int w = targets[i];
+                if (w == b) {
+                    return true;
+                }
+                if (visited[w] != mark && mayReach(w, b)) {
+                    visited[w] = mark;
+                    stack[top++] = w;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One randomized DFS over the condensation: random root order and random child order.
+     */
+    private void label(final int t, Random random) {
+        final int c = dag.vertexCount();
+        CsrGraph<V> shuffled = shuffleRows(dag, random);
+        final int[] offsets = shuffled.getOffsets(), targets = shuffled.getTargets();
+        int[] roots = new int[c];
+        for (int i = 0; i < c; ++i) {
+            roots[i] = i;
+        }
+        shuffle(roots, 0, c, random);
+
+        final int base = 2 * t * c;
+        DepthFirstSearch dfs = new DepthFirstSearch(shuffled);
+        DepthFirstSearch.Visitor visitor = new DepthFirstSearch.VisitorAdapter() {
+            private int rank;
+
+            @Override
+            public void finish(int v, int parent) {
+                int post = ++rank;
+                int low = post;
+                // on a DAG every successor finishes first
+                for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+                    low = Math.min(low, intervals[base + 2 * targets[i]]);
+                }
+                intervals[base + 2 * v] = low;
+                intervals[base + 2 * v + 1] = post;
+            }
+        };
+        for (int root : roots) {
+            dfs.run(root, visitor);
+        }
+    }
+
+    private static <V extends Vertex> CsrGraph<V> shuffleRows(CsrGraph<V> g, Random random) {
+        int[] targets = g.getTargets().clone();
+        int[] offsets = g.getOffsets();
+        for (int u = 0; u < g.vertexCount(); ++u) {
+            shuffle(targets, offsets[u], offsets[u + 1], random);
+        }
+        return new CsrGraph<V>(g.getVertices(), offsets, targets, g.getWeights());
+    }
+
+    private static void shuffle(int[] a, int from, int to, Random random) {
+        for (int i = to - 1; i > from; --i) {
+            int j = from + random.nextInt(i - from + 1);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+
+    /**
+     * Condensation DAG with one node per component (represented by one of its vertices) and no parallel arcs.
+     */
+    private static <V extends Vertex> CsrGraph<V> condense(CsrGraph<V> csr, int[] component, int count) {
+        List<V> representatives = new ArrayList<V>(count);
+        for (int i = 0; i < count; ++i) {
+            representatives.add(null);
+        }
+        for (int v = 0; v < csr.vertexCount(); ++v) {
+            if (representatives.get(component[v]) == null) {
+                representatives.set(component[v], csr.getVertex(v));
+            }
+        }
+
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        int m = 0;
+        int[] tails = new int[csr.arcCount()], heads = new int[csr.arcCount()];
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                int a = component[u], b = component[targets[i]];
+                if (a != b) {
+                    tails[m] = a;
+                    heads[m++] = b;
+                }
+            }
+        }
+        CsrGraph<V> multi = CsrGraph.fromArcs(representatives, tails, heads, new int[m], m);
+
+        int[] multiOffsets = multi.getOffsets(), multiTargets = multi.getTargets();
+        int[] dagOffsets = new int[count + 1];
+        int write = 0;
+        for (int a = 0; a < count; ++a) {
+            dagOffsets[a] = write;
+            for (int i = multiOffsets[a]; i < multiOffsets[a + 1]; ++i) {
+                if (write == dagOffsets[a] || multiTargets[write - 1] != multiTargets[i]) {
+                    multiTargets[write++] = multiTargets[i];
+                }
+            }
+        }
+        dagOffsets[count] = write;
+        return new CsrGraph<V>(representatives, dagOffsets, Arrays.copyOf(multiTargets, write), new int[write]);
+    }
+
+    public int getComponentCount() {
+        return dag.vertexCount();
+    }
+
+    public int getDagArcCount() {
+        return dag.arcCount();
+    }
+
+    /**
+     * @return approximate index footprint: component map, condensation and interval labels
+     */
+    public long getIndexSizeBytes() {
+        return 4L * (component.length + dag.getOffsets().length + 2L * dag.arcCount() + intervals.length);
+    }
+
+    public long getBuildMillis() {
+        return buildNanos / 1000000;
+    }
+
+    /**
+     * @return queries answered from the labels alone, versus by guided search
+     */
+    public long getLabelAnswerCount() {
+        return labelAnswers.get();
+    }
+
+    public long getSearchAnswerCount() {
+        return searchAnswers.get();
+    }
+
+    public String getReport() {
+        return String.format("vertices=%d components=%d dagArcs=%d traversals=%d indexBytes=%d buildMs=%d " +
+                        "labelAnswers=%d searchAnswers=%d",
+                csr.vertexCount(), getComponentCount(), getDagArcCount(), traversals, getIndexSizeBytes(),
+                getBuildMillis(), getLabelAnswerCount(), getSearchAnswerCount());
+    }
+}
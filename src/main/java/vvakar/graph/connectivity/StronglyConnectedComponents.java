@@ -0,0 +1,77 @@
+package vvakar.graph.connectivity;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.traversal.DepthFirstSearch;
+
+import java.util.Arrays;
+
+/**
+ * Tarjan's strongly connected components, driven by the iterative {@link DepthFirstSearch} so that deep graphs
+ * cannot overflow the thread stack. O(V + E).
+ * Components are labelled in the order Tarjan completes them, which is a reverse topological order of the
+ * condensation: every arc between two components goes from a higher label to a lower one.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class StronglyConnectedComponents {
+    private StronglyConnectedComponents() {}
+
+    public static <V extends Vertex, E extends Edge> ComponentsBean<V> compute(Graph<V, E> graph) {
+        return compute(CsrGraph.copyOf(graph));
+    }
+
+    public static <V extends Vertex> ComponentsBean<V> compute(CsrGraph<V> csr) {
+        Preconditions.checkNotNull(csr);
+        TarjanVisitor tarjan = new TarjanVisitor(csr.vertexCount());
+        new DepthFirstSearch(csr).runAll(tarjan);
+        return new ComponentsBean<V>(csr, tarjan.labels, Arrays.copyOf(tarjan.sizes, tarjan.count));
+    }
+
+    private static class TarjanVisitor implements DepthFirstSearch.Visitor {
+        private final int[] index, low, labels, stack, sizes;
+        private int counter, top, count;
+
+        private TarjanVisitor(int n) {
+            index = new int[n];
+            low = new int[n];
+            labels = new int[n];
+            stack = new int[n];
+            sizes = new int[n];
+            Arrays.fill(labels, -1);
+        }
+
+        @Override
+        public void discover(int v, int parent) {
+            index[v] = low[v] = counter++;
+            stack[top++] = v;
+        }
+
+        @Override
+        public void nonTreeArc(int u, int v) {
+            // discovered and not yet assigned means still on the Tarjan stack
+            if (labels[v] < 0) {
+                low[u] = Math.min(low[u], index[v]);
+            }
+        }
+
+        @Override
+        public void finish(int v, int parent) {
+            if (low[v] == index[v]) {
+                int w;
+                do {
+                    w = stack[--top];
+                    labels[w] = count;
+                    ++sizes[count];
+                } while (w != v);
+                ++count;
+            }
+            if (parent >= 0) {
+                low[parent] = Math.min(low[parent], low[v]);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package vvakar.graph.flow;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Dinic's max flow: repeat a BFS level graph from the source, then saturate it with a blocking flow found by
+ * depth-first advance/retreat along admissible arcs. Current-arc pointers make each phase O(VE), and there are at
+ * most V phases. The search is iterative, so long augmenting paths cannot overflow the thread stack.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class Dinic {
+    private Dinic() {}
+
+    /**
+     * Route a maximum flow from <code>s</code> to <code>t</code> on top of any flow already in <code>g</code>.
+     * @return value of the added flow
+     */
+    public static long maxFlow(ResidualGraph g, int s, int t) {
+        Preconditions.checkNotNull(g);
+        Preconditions.checkArgument(s != t, "source and sink must differ");
+        int[] level = new int[g.n];
+        int[] queue = new int[g.n];
+        int[] current = new int[g.n];
+        int[] path = new int[g.n];
+
+        long flow = 0;
+        while (buildLevels(g, s, t, level, queue)) {
+            System.arraycopy(g.offsets, 0, current, 0, g.n);
+            long pushed;
+            while ((pushed = augment(g, s, t, level, current, path)) > 0) {
+                flow += pushed;
+            }
+        }
+        return flow;
+    }
+
+    private static boolean buildLevels(ResidualGraph g, int s, int t, int[] level, int[] queue) {
+        Arrays.fill(level, -1);
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+        level[s] = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int a = g.offsets[u]; a < g.offsets[u + 1]; ++a) {
+                int v = g.heads[a];
+                if (level[v] < 0 && g.residual[a] > 0) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return level[t] >= 0;
+    }
+
+    /**
+     * Find one augmenting path in the level graph and saturate its bottleneck.
+     * @return amount pushed, 0 once the level graph is blocked
+     */
+    private static long augment(ResidualGraph g, int s, int t, int[] level, int[] current, int[] path) {
+        int depth = 0;
+        int u = s;
+        while (true) {
+            if (u == t) {
+                long bottleneck = Long.MAX_VALUE;
+                for (int k = 0; k < depth; ++k) {
+                    bottleneck = Math.min(bottleneck, g.residual[path[k]]);
+                }
+                for (int k = 0; k < depth; ++k) {
+                    g.push(path[k], bottleneck);
+                }
+                return bottleneck;
+            }
+
+            boolean advanced = false;
+            for (; current[u] < g.offsets[u + 1]; ++current[u]) {
+                int a = current[u];
+                int v = g.heads[a];
+                if (g.residual[a] > 0 && level[v] == level[u] + 1) {
+                    path[depth++] = a;
+                    u = v;
+                    advanced = true;
+                    break;
+                }
+            }
+
+            if (!advanced) {
+                if (u == s) {
+                    return 0;
+                }
+                level[u] = -1; // dead end, prune from this phase
+                int a = path[--depth];
+                u = g.heads[g.pair[a]];
+                ++current[u];
+            }
+        }
+    }
+}
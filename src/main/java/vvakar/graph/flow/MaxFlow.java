@@ -0,0 +1,88 @@
+package vvakar.graph.flow;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * Maximum flow / minimum cut where every edge weight is a capacity. Undirected edges carry capacity both ways.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MaxFlow {
+    public enum Algorithm { DINIC, PUSH_RELABEL }
+
+    private MaxFlow() {}
+
+    public static <V extends Vertex, E extends Edge> FlowBean<V> compute(Graph<V, E> graph, V source, V sink) {
+        return compute(CsrGraph.copyOf(graph), source, sink, Algorithm.PUSH_RELABEL);
+    }
+
+    public static <V extends Vertex> FlowBean<V> compute(CsrGraph<V> csr, V source, V sink, Algorithm algorithm) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkNotNull(algorithm);
+        int s = csr.getId(source), t = csr.getId(sink);
+        Preconditions.checkArgument(s >= 0, "Unknown vertex %s", source);
+        Preconditions.checkArgument(t >= 0, "Unknown vertex %s", sink);
+
+        ResidualGraph residual = new ResidualGraph(csr);
+        long value = algorithm == Algorithm.DINIC ? Dinic.maxFlow(residual, s, t) : PushRelabel.maxFlow(residual, s, t);
+        return new FlowBean<V>(csr, residual, value, residual.reachableFrom(s));
+    }
+
+    public static class FlowBean<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final ResidualGraph residual;
+        private final long value;
+        private final boolean[] sourceSide;
+
+        private FlowBean(CsrGraph<V> csr, ResidualGraph residual, long value, boolean[] sourceSide) {
+            this.csr = csr;
+            this.residual = residual;
+            this.value = value;
+            this.sourceSide = sourceSide;
+        }
+
+        public long getFlowValue() {
+            return value;
+        }
+
+        /**
+         * @return flow over arc index <code>arc</code> of {@link #getGraph()}
+         */
+        public long getFlow(int arc) {
+            return residual.getFlow(arc);
+        }
+
+        /**
+         * @return flow over the edge <code>from -> to</code>, 0 if there is none
+         */
+        public long getFlow(V from, V to) {
+            int u = csr.getId(from), v = csr.getId(to);
+            int arc = u < 0 || v < 0 ? -1 : csr.findArc(u, v);
+            return arc < 0 ? 0 : residual.getFlow(arc);
+        }
+
+        /**
+         * @return true if <code>v</code> is on the source side of the minimum cut
+         */
+        public boolean isOnSourceSide(V v) {
+            int id = csr.getId(v);
+            Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+            return sourceSide[id];
+        }
+
+        /**
+         * @return source side membership per vertex id of {@link #getGraph()}
+         */
+        public boolean[] getSourceSide() {
+            return sourceSide;
+        }
+
+        public CsrGraph<V> getGraph() {
+            return csr;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package vvakar.graph.flow;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+
+import java.util.Arrays;
+
+/**
+ * Primitive residual network for max-flow algorithms. Every arc of the source snapshot becomes a forward arc with
+ * the arc weight as capacity plus a zero-capacity reverse arc; <code>pair[a]</code> is the index of the twin of
+ * arc <code>a</code>, so pushing flow is two array updates. Arcs are grouped by tail in CSR form.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ResidualGraph {
+    final int n;
+    final int[] offsets;
+    final int[] heads;
+    final int[] pair;
+    final long[] capacity;
+    final long[] residual;
+    /** residual arc index of the forward arc for every snapshot arc */
+    final int[] forwardArc;
+
+    public ResidualGraph(CsrGraph<?> csr) {
+        Preconditions.checkNotNull(csr);
+        n = csr.vertexCount();
+        int[] csrOffsets = csr.getOffsets(), csrTargets = csr.getTargets(), csrWeights = csr.getWeights();
+        int m = csr.arcCount();
+
+        offsets = new int[n + 1];
+        for (int u = 0; u < n; ++u) {
+            offsets[u + 1] += csrOffsets[u + 1] - csrOffsets[u];
+            for (int i = csrOffsets[u]; i < csrOffsets[u + 1]; ++i) {
+                Preconditions.checkArgument(csrWeights[i] >= 0, "capacities must be non-negative");
+                ++offsets[csrTargets[i] + 1];
+            }
+        }
+        for (int u = 0; u < n; ++u) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        heads = new int[2 * m];
+        pair = new int[2 * m];
+        capacity = new long[2 * m];
+        forwardArc = new int[m];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int u = 0; u < n; ++u) {
+            for (int i = csrOffsets[u]; i < csrOffsets[u + 1]; ++i) {
+                int v = csrTargets[i];
+                int forward = cursor[u]++, backward = cursor[v]++;
+                heads[forward] = v;
+                heads[backward] = u;
+                pair[forward] = backward;
+                pair[backward] = forward;
+                capacity[forward] = csrWeights[i];
+                forwardArc[i] = forward;
+            }
+        }
+        residual = Arrays.copyOf(capacity, 2 * m);
+    }
+
+    public int vertexCount() {
+        return n;
+    }
+
+    /**
+     * @return number of residual arcs, twice the snapshot's arc count
+     */
+    public int arcCount() {
+        return heads.length;
+    }
+
+    /**
+     * @return flow currently routed over snapshot arc <code>csrArc</code>
+     */
+    public long getFlow(int csrArc) {
+        int a = forwardArc[csrArc];
+        return capacity[a] - residual[a];
+    }
+
+    /**
+     * Restore zero flow.
+     */
+    public void reset() {
+        System.arraycopy(capacity, 0, residual, 0, capacity.length);
+    }
+
+    /**
+     * @return vertices reachable from <code>s</code> over arcs with residual capacity: the source side of a
+     * minimum cut once a maximum flow has been routed
+     */
+    public boolean[] reachableFrom(int s) {
+        boolean[] seen = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+        seen[s] = true;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int a = offsets[u]; a < offsets[u + 1]; ++a) {
+                int v = heads[a];
+                if (!seen[v] && residual[a] > 0) {
+                    seen[v] = true;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return seen;
+    }
+
+    void push(int a, long amount) {
+        residual[a] -= amount;
+        residual[pair[a]] += amount;
+    }
+}
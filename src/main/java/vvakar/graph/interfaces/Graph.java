@@ -18,4 +18,16 @@ public interface Graph<V extends Vertex, E extends Edge> {
 
     Optional<E> get(E e);
 
+    /**
+     * Remove the edge equal to <code>e</code>.
+     * @return false if there was none
+     */
+    boolean removeEdge(E e);
+
+    /**
+     * Remove <code>v</code> together with every edge that starts or ends at it.
+     * @return false if <code>v</code> was not part of the graph
+     */
+    boolean removeVertex(V v);
+
 }
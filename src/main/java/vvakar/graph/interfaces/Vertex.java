@@ -8,6 +8,7 @@ import java.util.Collection;
  */
 public interface Vertex<E extends Edge> {
     void addEdge(E e);
+    void removeEdge(E e);
     Collection<E> getEdges();
     String getName();
 }
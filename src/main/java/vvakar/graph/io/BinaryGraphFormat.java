@@ -0,0 +1,30 @@
+package vvakar.graph.io;
+
+/**
+ * Layout of binary graph files, version 1. All fixed-width fields are big-endian; "varint" is unsigned LEB128 and
+ * signed values are zigzag-encoded first.
+ * <pre>
+ * header      magic "VGB1", version, flags (0), vertex count (ints), arc count (long)    then CRC32 (int)
+ * dictionary  per vertex in id order: varint length, UTF-8 name bytes                    then CRC32 (int)
+ * adjacency   per vertex in id order: varint degree, then per arc sorted by target:
+ *             varint gap (first arc: zigzag(target - source), then target - previous target),
+ *             varint zigzag(weight)                                                       then CRC32 (int)
+ * </pre>
+ * Each checksum covers its own section only.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+final class BinaryGraphFormat {
+    static final int MAGIC = 0x56474231; // "VGB1"
+    static final int VERSION = 1;
+
+    private BinaryGraphFormat() {}
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,193 @@
+package vvakar.graph.io;
+
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * Loads a {@link BinaryGraphFormat} file straight into a {@link CsrGraph}. Decoding runs over a raw byte buffer,
+ * so no per-arc objects or strings are created, and every section is verified against its checksum.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BinaryGraphReader {
+    private static final int BUFFER = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER];
+    private final CRC32 crc = new CRC32();
+    private int position, limit;
+    /** start of the bytes not yet added to the checksum */
+    private int checked;
+
+    private BinaryGraphReader(InputStream in) {
+        this.in = in;
+    }
+
+    public static CsrGraph<Vertex> read(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        try {
+            return read(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    public static CsrGraph<Vertex> read(InputStream in) throws IOException {
+        return new BinaryGraphReader(in).load();
+    }
+
+    private CsrGraph<Vertex> load() throws IOException {
+        if (readInt() != BinaryGraphFormat.MAGIC) {
+            throw new IOException("Not a binary graph file");
+        }
+        int version = readInt();
+        if (version != BinaryGraphFormat.VERSION) {
+            throw new IOException("Unsupported binary graph version " + version);
+        }
+        readInt(); // flags
+        int n = readInt();
+        long m = readLong();
+        verifySection("header");
+        if (n < 0 || m < 0 || m > Integer.MAX_VALUE) {
+            throw new IOException("Unsupported graph size: " + n + " vertices, " + m + " arcs");
+        }
+
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        for (int v = 0; v < n; ++v) {
+            int length = readVarint();
+            vertices.add(vertex(new String(readBytes(length), StandardCharsets.UTF_8)));
+        }
+        verifySection("dictionary");
+
+        int[] offsets = new int[n + 1], targets = new int[(int) m], weights = new int[(int) m];
+        int arc = 0;
+        for (int v = 0; v < n; ++v) {
+            int degree = readVarint();
+            if (degree < 0 || degree > m - arc) {
+                throw new IOException("Corrupt adjacency at vertex " + v);
+            }
+            int target = v;
+            for (int k = 0; k < degree; ++k) {
+                int gap = readVarint();
+                target = k == 0 ? v + BinaryGraphFormat.unzigzag(gap) : target + gap;
+                if (target < 0 || target >= n) {
+                    throw new IOException("Corrupt adjacency at vertex " + v);
+                }
+                targets[arc] = target;
+                weights[arc++] = BinaryGraphFormat.unzigzag(readVarint());
+            }
+            offsets[v + 1] = arc;
+        }
+        if (arc != m) {
+            throw new IOException("Expected " + m + " arcs, found " + arc);
+        }
+        verifySection("adjacency");
+        return new CsrGraph<Vertex>(vertices, offsets, targets, weights);
+    }
+
+    private void verifySection(String section) throws IOException {
+        ensure(4);
+        crc.update(buffer, checked, position - checked);
+        int expected = (int) crc.getValue();
+        int actual = ((buffer[position] & 0xff) << 24) | ((buffer[position + 1] & 0xff) << 16)
+                | ((buffer[position + 2] & 0xff) << 8) | (buffer[position + 3] & 0xff);
+        position += 4;
+        checked = position;
+        crc.reset();
+        if (actual != expected) {
+            throw new IOException("Checksum mismatch in " + section + " section");
+        }
+    }
+
+    /**
+     * Make at least <code>bytes</code> (at most {@link #BUFFER}) available from <code>position</code>.
+     */
+    private void ensure(int bytes) throws IOException {
+        if (limit - position >= bytes) {
+            return;
+        }
+        crc.update(buffer, checked, position - checked);
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        limit -= position;
+        position = checked = 0;
+        while (limit < bytes) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                throw new EOFException("Truncated binary graph file");
+            }
+            limit += read;
+        }
+    }
+
+    private int readInt() throws IOException {
+        ensure(4);
+        int value = ((buffer[position] & 0xff) << 24) | ((buffer[position + 1] & 0xff) << 16)
+                | ((buffer[position + 2] & 0xff) << 8) | (buffer[position + 3] & 0xff);
+        position += 4;
+        return value;
+    }
+
+    private long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xffffffffL);
+    }
+
+    private int readVarint() throws IOException {
+        if (limit - position >= 5) {
+            // fast path: the whole varint is buffered
+            byte[] b = buffer;
+            int p = position;
+            int value = b[p++];
+            if (value >= 0) {
+                position = p;
+                return value;
+            }
+            value &= 0x7f;
+            for (int shift = 7; shift < 35; shift += 7) {
+                byte next = b[p++];
+                value |= (next & 0x7f) << shift;
+                if (next >= 0) {
+                    position = p;
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (position == limit) {
+                ensure(1);
+            }
+            byte b = buffer[position++];
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            ensure(1);
+            int chunk = Math.min(length - copied, limit - position);
+            System.arraycopy(buffer, position, bytes, copied, chunk);
+            position += chunk;
+            copied += chunk;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,135 @@
+package vvakar.graph.io;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Streaming writer of the {@link BinaryGraphFormat}. The header and name dictionary are written up front; rows then
+ * follow one vertex at a time, so only the current row needs to be in memory.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BinaryGraphWriter implements Closeable {
+    private final CheckedOutputStream checked;
+    private final DataOutputStream out;
+    private final int vertexCount;
+    private final long arcCount;
+    private int rows;
+    private long arcs;
+    private boolean closed;
+
+    /**
+     * @param names    vertex names in id order
+     * @param arcCount total number of arcs that will be written
+     */
+    public BinaryGraphWriter(OutputStream stream, List<String> names, long arcCount) throws IOException {
+        Preconditions.checkNotNull(stream);
+        Preconditions.checkNotNull(names);
+        Preconditions.checkArgument(arcCount >= 0);
+        this.checked = new CheckedOutputStream(new BufferedOutputStream(stream, 1 << 16), new CRC32());
+        this.out = new DataOutputStream(checked);
+        this.vertexCount = names.size();
+        this.arcCount = arcCount;
+
+        out.writeInt(BinaryGraphFormat.MAGIC);
+        out.writeInt(BinaryGraphFormat.VERSION);
+        out.writeInt(0);
+        out.writeInt(vertexCount);
+        out.writeLong(arcCount);
+        endSection();
+
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            out.write(bytes);
+        }
+        endSection();
+    }
+
+    public static <V extends Vertex> void write(CsrGraph<V> csr, Path file) throws IOException {
+        List<String> names = new ArrayList<String>(csr.vertexCount());
+        for (V v : csr.getVertices()) {
+            names.add(v.getName());
+        }
+        BinaryGraphWriter writer = new BinaryGraphWriter(Files.newOutputStream(file), names, csr.arcCount());
+        try {
+            int[] offsets = csr.getOffsets();
+            for (int v = 0; v < csr.vertexCount(); ++v) {
+                writer.writeRow(csr.getTargets(), csr.getWeights(), offsets[v], offsets[v + 1]);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Write the out-arcs of the next vertex: <code>targets[from, to)</code>, sorted ascending, with their weights.
+     */
+    public void writeRow(int[] targets, int[] weights, int from, int to) throws IOException {
+        Preconditions.checkState(!closed, "already closed");
+        Preconditions.checkState(rows < vertexCount, "all %s rows already written", vertexCount);
+        writeVarint(to - from);
+        int previous = rows;
+        for (int i = from; i < to; ++i) {
+            Preconditions.checkElementIndex(targets[i], vertexCount);
+            if (i == from) {
+                writeVarint(BinaryGraphFormat.zigzag(targets[i] - rows));
+            } else {
+                Preconditions.checkArgument(targets[i] >= previous, "row %s is not sorted by target", rows);
+                writeVarint(targets[i] - previous);
+            }
+            previous = targets[i];
+            writeVarint(BinaryGraphFormat.zigzag(weights[i]));
+        }
+        ++rows;
+        arcs += to - from;
+    }
+
+    /**
+     * Finish the adjacency section. Fails if fewer rows or a different number of arcs than announced were written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (rows != vertexCount || arcs != arcCount) {
+                throw new IllegalStateException(String.format("wrote %d rows and %d arcs, expected %d and %d",
+                        rows, arcs, vertexCount, arcCount));
+            }
+            endSection();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void endSection() throws IOException {
+        int crc = (int) checked.getChecksum().getValue();
+        out.writeInt(crc);
+        checked.getChecksum().reset();
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
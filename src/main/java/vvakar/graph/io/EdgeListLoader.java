@@ -0,0 +1,495 @@
+package vvakar.graph.io;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Parallel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * Parallel loader for the text edge lists read by <code>Util.getDirectedGraph</code> ("vertices edges" header, then
+ * "tail head weight" per line), for files whose vertex names are non-negative integers.
+ * <ol>
+ *     <li>the file is cut into chunks at newline boundaries, and each chunk is memory-mapped and parsed at the byte
+ *     level by its own task into primitive arc arrays</li>
+ *     <li>vertex names are compacted to dense ids in ascending numeric order, through an array indexed by name, or
+ *     by sorting and merging the names when they are too sparse for one</li>
+ *     <li>arcs are counting-sorted into CSR rows in two parallel passes, with no atomics: first into up to 4096
+ *     blocks of consecutive tails, each chunk writing to its own precomputed slots; then within each block, whose
+ *     rows are small enough to stay in cache. Finally each row is sorted by target</li>
+ * </ol>
+ * No per-edge objects are created. Vertices are materialized lazily, on access, as
+ * <code>GraphFactory.vertex(name)</code>, so they compare equal to the vertices <code>Util</code> builds.
+ * The weight column is optional (default 1).
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgeListLoader {
+    private static final long MAX_CHUNK = 1 << 28;
+    /** at most 2^BLOCK_BITS vertex blocks for the two-pass counting sort */
+    private static final int BLOCK_BITS = 12;
+
+    private EdgeListLoader() {}
+
+    public static CsrGraph<Vertex> load(Path file) throws IOException {
+        return load(file, false);
+    }
+
+    /**
+     * @param symmetric also add every edge in the reverse direction, as <code>Util.getUndirectedGraph</code> does
+     */
+    public static CsrGraph<Vertex> load(Path file, boolean symmetric) throws IOException {
+        Preconditions.checkNotNull(file);
+        final Chunk[] chunks;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            chunks = split(channel);
+            for (Chunk chunk : chunks) {
+                chunk.buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+            }
+        } finally {
+            channel.close();
+        }
+
+        final IOException[] failure = new IOException[1];
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    try {
+                        chunks[c].parse();
+                    } catch (IOException e) {
+                        synchronized (failure) {
+                            failure[0] = e;
+                        }
+                    }
+                    chunks[c].buffer = null;
+                }
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return build(chunks, symmetric);
+    }
+
+    /**
+     * Chunk boundaries: roughly equal byte ranges, each moved forward to just past a newline. The header line
+     * belongs to no chunk.
+     */
+    private static Chunk[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long header = nextLineStart(channel, 0);
+        int count = (int) Math.max(4L * Parallel.parallelism(), (size + MAX_CHUNK - 1) / MAX_CHUNK);
+        count = (int) Math.max(1, Math.min(count, (size - header) / 4096 + 1));
+
+        long[] bounds = new long[count + 1];
+        bounds[0] = header;
+        for (int i = 1; i < count; ++i) {
+            long nominal = header + (size - header) * i / count;
+            bounds[i] = Math.max(bounds[i - 1], nextLineStart(channel, nominal - 1));
+        }
+        bounds[count] = size;
+
+        Chunk[] chunks = new Chunk[count];
+        for (int i = 0; i < count; ++i) {
+            chunks[i] = new Chunk(bounds[i], bounds[i + 1]);
+        }
+        return chunks;
+    }
+
+    /**
+     * @return position just after the first newline at or after <code>position</code>, or the file size
+     */
+    private static long nextLineStart(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long size = channel.size();
+        position = Math.max(0, position);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; ++i) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static CsrGraph<Vertex> build(final Chunk[] chunks, final boolean symmetric) {
+        int maxName = -1;
+        long total = 0;
+        for (Chunk chunk : chunks) {
+            maxName = Math.max(maxName, chunk.maxName);
+            total += chunk.arcs(symmetric);
+        }
+        Preconditions.checkArgument(total <= Integer.MAX_VALUE, "too many arcs for a CsrGraph: %s", total);
+        final int m = (int) total;
+
+        long occurrences = 0;
+        for (Chunk chunk : chunks) {
+            occurrences += 2L * chunk.size;
+        }
+        final int[] names = compact(chunks, maxName, occurrences);
+        final int n = names.length;
+
+        // pass 1: scatter arcs into blocks of consecutive tails; every chunk owns disjoint slots in each block
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1));
+        final int shift = Math.max(0, bits - BLOCK_BITS);
+        final int blocks = ((n - 1) >> shift) + 1;
+        final int[][] slot = new int[chunks.length][];
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    Chunk chunk = chunks[c];
+                    int[] histogram = new int[blocks];
+                    for (int i = 0; i < chunk.size; ++i) {
+                        int tail = chunk.tails[i], head = chunk.heads[i];
+                        ++histogram[tail >> shift];
+                        if (symmetric && tail != head) {
+                            ++histogram[head >> shift];
+                        }
+                    }
+                    slot[c] = histogram;
+                }
+            }
+        });
+        final int[] blockStart = new int[blocks + 1];
+        int position = 0;
+        for (int b = 0; b < blocks; ++b) {
+            blockStart[b] = position;
+            for (int c = 0; c < chunks.length; ++c) {
+                int count = slot[c][b];
+                slot[c][b] = position;
+                position += count;
+            }
+        }
+        blockStart[blocks] = position;
+
+        final int[] tails = new int[m], heads = new int[m], ws = new int[m];
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    Chunk chunk = chunks[c];
+                    int[] cursor = slot[c];
+                    for (int i = 0; i < chunk.size; ++i) {
+                        int tail = chunk.tails[i], head = chunk.heads[i], weight = chunk.weights[i];
+                        int at = cursor[tail >> shift]++;
+                        tails[at] = tail;
+                        heads[at] = head;
+                        ws[at] = weight;
+                        if (symmetric && tail != head) {
+                            at = cursor[head >> shift]++;
+                            tails[at] = head;
+                            heads[at] = tail;
+                            ws[at] = weight;
+                        }
+                    }
+                    chunk.release();
+                }
+            }
+        });
+
+        // pass 2: counting sort within each block, whose rows fit in cache, then sort every row by target
+        final int[] offsets = new int[n + 1];
+        final int[] targets = new int[m], weights = new int[m];
+        Parallel.forRange(0, blocks, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                long[] packed = new long[16];
+                for (int b = from; b < to; ++b) {
+                    int first = b << shift, last = Math.min(n, (b + 1) << shift);
+                    int[] cursor = new int[last - first + 1];
+                    for (int i = blockStart[b]; i < blockStart[b + 1]; ++i) {
+                        ++cursor[tails[i] - first + 1];
+                    }
+                    cursor[0] = blockStart[b];
+                    for (int v = first; v < last; ++v) {
+                        cursor[v - first + 1] += cursor[v - first];
+                        offsets[v] = cursor[v - first];
+                    }
+                    for (int i = blockStart[b]; i < blockStart[b + 1]; ++i) {
+                        int at = cursor[tails[i] - first]++;
+                        targets[at] = heads[i];
+                        weights[at] = ws[i];
+                    }
+
+                    for (int v = first; v < last; ++v) {
+                        int start = offsets[v], degree = (v + 1 < last ? offsets[v + 1] : blockStart[b + 1]) - start;
+                        if (degree < 2) continue;
+                        if (packed.length < degree) packed = new long[Math.max(degree, 2 * packed.length)];
+                        for (int k = 0; k < degree; ++k) {
+                            packed[k] = ((long) targets[start + k] << 32) | (weights[start + k] & 0xffffffffL);
+                        }
+                        Arrays.sort(packed, 0, degree);
+                        for (int k = 0; k < degree; ++k) {
+                            targets[start + k] = (int) (packed[k] >>> 32);
+                            weights[start + k] = (int) packed[k];
+                        }
+                    }
+                }
+            }
+        });
+        offsets[n] = m;
+        return new CsrGraph<Vertex>(new NameList(names), offsets, targets, weights);
+    }
+
+    /**
+     * Rewrite the names in every chunk to dense ids in ascending name order. Names are marked in an array indexed
+     * by name while that array is no larger than twice the name occurrences; sparser names, up to
+     * <code>Integer.MAX_VALUE</code>, are sorted and deduplicated per chunk, merged pairwise, and looked up by
+     * binary search.
+     * @return names by id
+     */
+    private static int[] compact(final Chunk[] chunks, int maxName, long occurrences) {
+        if (maxName < 2 * occurrences) {
+            return compactDense(chunks, maxName);
+        }
+
+        final int[][] sorted = new int[chunks.length][];
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    Chunk chunk = chunks[c];
+                    int[] all = new int[2 * chunk.size];
+                    System.arraycopy(chunk.tails, 0, all, 0, chunk.size);
+                    System.arraycopy(chunk.heads, 0, all, chunk.size, chunk.size);
+                    Arrays.sort(all);
+                    int unique = 0;
+                    for (int i = 0; i < all.length; ++i) {
+                        if (unique == 0 || all[i] != all[unique - 1]) {
+                            all[unique++] = all[i];
+                        }
+                    }
+                    sorted[c] = Arrays.copyOf(all, unique);
+                }
+            }
+        });
+        for (int width = 1; width < chunks.length; width *= 2) {
+            final int w = width;
+            Parallel.forRange(0, (chunks.length + 2 * w - 1) / (2 * w), 1, new Parallel.RangeTask() {
+                @Override
+                public void run(int from, int to) {
+                    for (int pair = from; pair < to; ++pair) {
+                        int a = 2 * w * pair, b = a + w;
+                        if (b < chunks.length) {
+                            sorted[a] = mergeUnique(sorted[a], sorted[b]);
+                            sorted[b] = null;
+                        }
+                    }
+                }
+            });
+        }
+
+        final int[] names = sorted[0];
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    Chunk chunk = chunks[c];
+                    for (int i = 0; i < chunk.size; ++i) {
+                        chunk.tails[i] = Arrays.binarySearch(names, chunk.tails[i]);
+                        chunk.heads[i] = Arrays.binarySearch(names, chunk.heads[i]);
+                    }
+                }
+            }
+        });
+        return names;
+    }
+
+    private static int[] compactDense(final Chunk[] chunks, int maxName) {
+        final int[] idOfName = new int[maxName + 1];
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    Chunk chunk = chunks[c];
+                    for (int i = 0; i < chunk.size; ++i) {
+                        // racy but benign: every writer stores the same value
+                        idOfName[chunk.tails[i]] = 1;
+                        idOfName[chunk.heads[i]] = 1;
+                    }
+                }
+            }
+        });
+        int n = 0;
+        for (int name = 0; name <= maxName; ++name) {
+            if (idOfName[name] != 0) {
+                idOfName[name] = ++n;
+            }
+        }
+        int[] names = new int[n];
+        for (int name = 0; name <= maxName; ++name) {
+            if (idOfName[name] != 0) {
+                names[--idOfName[name]] = name;
+            }
+        }
+        Parallel.forRange(0, chunks.length, 1, new Parallel.RangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int c = from; c < to; ++c) {
+                    Chunk chunk = chunks[c];
+                    for (int i = 0; i < chunk.size; ++i) {
+                        chunk.tails[i] = idOfName[chunk.tails[i]];
+                        chunk.heads[i] = idOfName[chunk.heads[i]];
+                    }
+                }
+            }
+        });
+        return names;
+    }
+
+    private static int[] mergeUnique(int[] a, int[] b) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                merged[k++] = b[j++];
+            } else {
+                merged[k++] = a[i++];
+                ++j;
+            }
+        }
+        while (i < a.length) merged[k++] = a[i++];
+        while (j < b.length) merged[k++] = b[j++];
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+
+    /**
+     * Arcs parsed from one byte range of the file.
+     */
+    private static class Chunk {
+        private final long start, end;
+        private MappedByteBuffer buffer;
+        private int[] tails, heads, weights;
+        private int size;
+        private int maxName = -1;
+
+        private Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private long arcs(boolean symmetric) {
+            if (!symmetric) {
+                return size;
+            }
+            long arcs = 0;
+            for (int i = 0; i < size; ++i) {
+                arcs += tails[i] == heads[i] ? 1 : 2;
+            }
+            return arcs;
+        }
+
+        private void release() {
+            tails = heads = weights = null;
+        }
+
+        private void parse() throws IOException {
+            // a line takes at least 4 bytes ("1 2\n")
+            int capacity = (int) Math.max(16, Math.min(1 << 24, (end - start) / 8));
+            tails = new int[capacity];
+            heads = new int[capacity];
+            weights = new int[capacity];
+
+            MappedByteBuffer b = buffer;
+            int limit = b.limit(), p = 0;
+            long[] field = new long[3];
+            while (p < limit) {
+                int fields = 0;
+                // parse one line
+                while (p < limit) {
+                    byte c = b.get(p);
+                    if (c == '\n') {
+                        ++p;
+                        break;
+                    }
+                    if (c == ' ' || c == '\t' || c == '\r') {
+                        ++p;
+                        continue;
+                    }
+                    boolean negative = c == '-';
+                    if (negative) ++p;
+                    long value = 0;
+                    int digits = 0;
+                    while (p < limit) {
+                        c = b.get(p);
+                        if (c < '0' || c > '9') break;
+                        value = value * 10 + (c - '0');
+                        if (value > Integer.MAX_VALUE + 1L) {
+                            throw new IOException("Number too large at byte " + (start + p));
+                        }
+                        ++digits;
+                        ++p;
+                    }
+                    if (digits == 0) {
+                        throw new IOException("Unexpected character '" + (char) c + "' at byte " + (start + p));
+                    }
+                    if (fields < 3) {
+                        field[fields] = negative ? -value : value;
+                    }
+                    ++fields;
+                }
+                if (fields == 0) {
+                    continue;
+                }
+                if (fields < 2 || field[0] < 0 || field[1] < 0 || field[0] > Integer.MAX_VALUE
+                        || field[1] > Integer.MAX_VALUE || (fields > 2 && field[2] > Integer.MAX_VALUE)) {
+                    throw new IOException("Expected \"tail head [weight]\" with non-negative integer vertices before byte "
+                            + (start + p));
+                }
+                if (size == tails.length) {
+                    tails = Arrays.copyOf(tails, 2 * size);
+                    heads = Arrays.copyOf(heads, 2 * size);
+                    weights = Arrays.copyOf(weights, 2 * size);
+                }
+                tails[size] = (int) field[0];
+                heads[size] = (int) field[1];
+                weights[size++] = fields > 2 ? (int) field[2] : 1;
+                maxName = Math.max(maxName, Math.max(tails[size - 1], heads[size - 1]));
+            }
+        }
+    }
+
+    /**
+     * Vertices by dense id, created on access from their integer names.
+     */
+    private static class NameList extends AbstractList<Vertex> implements RandomAccess {
+        private final int[] names;
+
+        private NameList(int[] names) {
+            this.names = names;
+        }
+
+        @Override
+        public Vertex get(int index) {
+            return vertex(String.valueOf(names[index]));
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package vvakar.graph.io;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * Converts the text edge lists read by <code>Util.getDirectedGraph</code> ("vertices edges" header, then
+ * "tail head weight" per line) to the {@link BinaryGraphFormat}. Vertex ids follow first appearance in the file.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class TextGraphConverter {
+    private TextGraphConverter() {}
+
+    /**
+     * @param symmetric also add every edge in the reverse direction, as <code>Util.getUndirectedGraph</code> does
+     */
+    public static void convert(Path text, Path binary, boolean symmetric) throws IOException {
+        BinaryGraphWriter.write(parse(text, symmetric), binary);
+    }
+
+    public static CsrGraph<Vertex> parse(Path text, boolean symmetric) throws IOException {
+        Preconditions.checkNotNull(text);
+        Map<String, Integer> ids = Maps.newHashMap();
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        int[] tails = new int[1024], heads = new int[1024], weights = new int[1024];
+        int m = 0;
+
+        BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.UTF_8);
+        try {
+            reader.readLine(); // vertices edges
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] vals = line.split(" ");
+                if (vals.length < 2) continue;
+                if (m + 2 > tails.length) {
+                    tails = Arrays.copyOf(tails, 2 * tails.length);
+                    heads = Arrays.copyOf(heads, 2 * heads.length);
+                    weights = Arrays.copyOf(weights, 2 * weights.length);
+                }
+                // tail head weight
+                int tail = idOf(vals[0], ids, vertices), head = idOf(vals[1], ids, vertices);
+                int weight = vals.length > 2 ? Integer.parseInt(vals[2]) : 1;
+                tails[m] = tail;
+                heads[m] = head;
+                weights[m++] = weight;
+                if (symmetric && tail != head) {
+                    tails[m] = head;
+                    heads[m] = tail;
+                    weights[m++] = weight;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+    }
+
+    private static int idOf(String name, Map<String, Integer> ids, List<Vertex> vertices) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = vertices.size();
+            ids.put(name, id);
+            vertices.add(vertex(name));
+        }
+        return id;
+    }
+}
@@ -0,0 +1,207 @@
+package vvakar.graph.matching;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Hopcroft-Karp maximum-cardinality bipartite matching, O(E sqrt V). Each phase layers the graph by a BFS from
+ * all free left vertices and then augments along a maximal set of vertex-disjoint shortest augmenting paths,
+ * found by an iterative DFS with per-vertex arc cursors. All state lives in <code>int[]</code> arrays.
+ * Edge direction and weight are ignored; the caller supplies the left side of the bipartition.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class HopcroftKarp {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int[] offsets, targets;
+    private final boolean[] isLeft;
+    private final int[] leftVertices;
+    private final int[] mate;
+    private final int[] dist;
+    private final int[] queue, current, stack, via;
+    private int limit;
+
+    private HopcroftKarp(CsrGraph<?> csr, boolean[] isLeft) {
+        offsets = csr.getOffsets();
+        targets = csr.getTargets();
+        this.isLeft = isLeft;
+        int n = csr.vertexCount(), leftCount = 0;
+        for (boolean b : isLeft) if (b) ++leftCount;
+        leftVertices = new int[leftCount];
+        for (int v = 0, k = 0; v < n; ++v) {
+            if (isLeft[v]) leftVertices[k++] = v;
+        }
+        mate = new int[n];
+        dist = new int[n];
+        queue = new int[n];
+        current = new int[n];
+        stack = new int[n];
+        via = new int[n];
+        Arrays.fill(mate, -1);
+    }
+
+    public static <V extends Vertex, E extends Edge> MatchingBean<V> compute(Graph<V, E> graph, Collection<V> left) {
+        return compute(CsrGraph.copyOf(graph).symmetrize(), left);
+    }
+
+    /**
+     * @param csr  symmetric snapshot, e.g. of a {@link vvakar.graph.components.SimpleUndirectedGraph}
+     * @param left one side of the bipartition; every edge must join it to the other side. Vertices without
+     *             edges (hence absent from the snapshot) cannot be matched and are skipped
+     */
+    public static <V extends Vertex> MatchingBean<V> compute(CsrGraph<V> csr, Collection<V> left) {
+        Preconditions.checkNotNull(csr);
+        Preconditions.checkNotNull(left);
+        boolean[] isLeft = new boolean[csr.vertexCount()];
+        for (V v : left) {
+            int id = csr.getId(v);
+            if (id >= 0) {
+                isLeft[id] = true;
+            }
+        }
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = csr.getOffsets()[u]; i < csr.getOffsets()[u + 1]; ++i) {
+                Preconditions.checkArgument(isLeft[u] != isLeft[csr.getTargets()[i]],
+                        "Edge %s - %s does not cross the partition", csr.getVertex(u), csr.getVertex(csr.getTargets()[i]));
+            }
+        }
+
+        HopcroftKarp hk = new HopcroftKarp(csr, isLeft);
+        int size = 0;
+        while (hk.layer()) {
+            for (int u : hk.leftVertices) {
+                hk.current[u] = hk.offsets[u];
+            }
+            for (int u : hk.leftVertices) {
+                if (hk.mate[u] < 0 && hk.augment(u)) {
+                    ++size;
+                }
+            }
+        }
+        return new MatchingBean<V>(csr, hk.mate, isLeft, size);
+    }
+
+    /**
+     * BFS from all free left vertices over alternating paths.
+     * @return true if some augmenting path exists
+     */
+    private boolean layer() {
+        int head = 0, tail = 0;
+        for (int u : leftVertices) {
+            if (mate[u] < 0) {
+                dist[u] = 0;
+                queue[tail++] = u;
+            } else {
+                dist[u] = INFINITY;
+            }
+        }
+        limit = INFINITY;
+        while (head < tail) {
+            int x = queue[head++];
+            if (dist[x] >= limit) {
+                continue;
+            }
+            for (int i = offsets[x]; i < offsets[x + 1]; ++i) {
+                int w = mate[targets[i]];
+                if (w < 0) {
+                    limit = Math.min(limit, dist[x] + 1);
+                } else if (dist[w] == INFINITY) {
+                    dist[w] = dist[x] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return limit != INFINITY;
+    }
+
+    /**
+     * Iterative DFS along the layers for a shortest augmenting path from free left vertex <code>root</code>.
+     */
+    private boolean augment(int root) {
+        int top = 0;
+        stack[0] = root;
+        while (top >= 0) {
+            int x = stack[top];
+            boolean advanced = false;
+            while (current[x] < offsets[x + 1]) {
+                int y = targets[current[x]++];
+                int w = mate[y];
+                if (w < 0 && dist[x] + 1 == limit) {
+                    via[top] = y;
+                    // flip the path: every left vertex on the stack takes the right vertex it went through
+                    for (int k = top; k >= 0; --k) {
+                        mate[stack[k]] = via[k];
+                        mate[via[k]] = stack[k];
+                    }
+                    return true;
+                } else if (w >= 0 && dist[w] == dist[x] + 1) {
+                    via[top] = y;
+                    stack[++top] = w;
+                    advanced = true;
+                    break;
+                }
+            }
+            if (!advanced) {
+                dist[x] = INFINITY; // no augmenting path through x in this phase
+                --top;
+            }
+        }
+        return false;
+    }
+
+    public static class MatchingBean<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final int[] mate;
+        private final boolean[] isLeft;
+        private final int size;
+
+        private MatchingBean(CsrGraph<V> csr, int[] mate, boolean[] isLeft, int size) {
+            this.csr = csr;
+            this.mate = mate;
+            this.isLeft = isLeft;
+            this.size = size;
+        }
+
+        /**
+         * @return number of matched pairs
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return partner of <code>v</code>, or null if unmatched
+         */
+        public V getMate(V v) {
+            int id = csr.getId(v);
+            Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+            return mate[id] < 0 ? null : csr.getVertex(mate[id]);
+        }
+
+        public boolean isMatched(V v) {
+            return getMate(v) != null;
+        }
+
+        /**
+         * @return matched pairs keyed by their left vertex
+         */
+        public Map<V, V> getPairs() {
+            Map<V, V> pairs = Maps.newHashMapWithExpectedSize(size);
+            for (int v = 0; v < mate.length; ++v) {
+                if (isLeft[v] && mate[v] >= 0) {
+                    pairs.put(csr.getVertex(v), csr.getVertex(mate[v]));
+                }
+            }
+            return pairs;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package vvakar.graph.mst;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimum spanning forest maintained under edge insertions.
+ * Edges are treated as undirected. Every tree edge is represented by its own node in a link-cut tree, so the
+ * heaviest edge on the tree path between the endpoints of a new edge can be found (and cut) in amortized
+ * O(log V). Inserting an edge therefore costs O(log V) instead of an O(E log V) rerun of {@link PrimsAlgo}.
+ * Self-edges never join the forest.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class DynamicMst<V extends Vertex, E extends Edge<V>> {
+    private static final int NIL = 0;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<V, Integer> vertexIds = Maps.newHashMap();
+    private final Map<E, Integer> treeEdgeIds = Maps.newHashMap();
+
+    // link-cut tree, one node per vertex and per tree edge; node 0 is the NIL sentinel
+    private int[] left = new int[INITIAL_CAPACITY];
+    private int[] right = new int[INITIAL_CAPACITY];
+    private int[] parent = new int[INITIAL_CAPACITY];
+    private boolean[] reversed = new boolean[INITIAL_CAPACITY];
+    private long[] weight = new long[INITIAL_CAPACITY];
+    private int[] maxNode = new int[INITIAL_CAPACITY];
+    private int[] splayStack = new int[INITIAL_CAPACITY];
+    private Object[] edgeOfNode = new Object[INITIAL_CAPACITY];
+    private int[] edgeEnd1 = new int[INITIAL_CAPACITY];
+    private int[] edgeEnd2 = new int[INITIAL_CAPACITY];
+
+    private int nodeCount = 1;
+    private int[] freeNodes = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+
+    private long totalWeight;
+
+    public DynamicMst() {
+        weight[NIL] = Long.MIN_VALUE;
+    }
+
+    /**
+     * Seed the forest with every edge currently in <code>graph</code>.
+     * @param graph not null
+     */
+    public DynamicMst(Graph<V, E> graph) {
+        this();
+        Preconditions.checkNotNull(graph);
+        for (V v : graph.getVertices()) {
+            idOf(v);
+        }
+        addAll(graph.getEdges());
+    }
+
+    public void addAll(Iterable<? extends E> edges) {
+        for (E e : edges) {
+            add(e);
+        }
+    }
+
+    /**
+     * Offer a new edge to the forest.
+     * @param e not null
+     * @return true if the edge became part of the minimum spanning forest
+     */
+    public boolean add(E e) {
+        Preconditions.checkNotNull(e);
+        int u = idOf(e.getV1());
+        int v = idOf(e.getV2());
+        if (u == v || treeEdgeIds.containsKey(e)) {
+            return false;
+        }
+
+        if (findRoot(u) == findRoot(v)) {
+            int heaviest = pathMax(u, v);
+            if (weight[heaviest] <= e.getWeight()) {
+                return false;
+            }
+            removeTreeEdge(heaviest);
+        }
+
+        int node = newNode(e.getWeight());
+        edgeOfNode[node] = e;
+        edgeEnd1[node] = u;
+        edgeEnd2[node] = v;
+        link(u, node);
+        link(node, v);
+        treeEdgeIds.put(e, node);
+        totalWeight += e.getWeight();
+        return true;
+    }
+
+    /**
+     * @return true if <code>e</code> is currently a tree edge
+     */
+    public boolean contains(E e) {
+        Preconditions.checkNotNull(e);
+        return treeEdgeIds.containsKey(e);
+    }
+
+    /**
+     * @return true if both vertices are known and belong to the same tree of the forest
+     */
+    public boolean isConnected(V a, V b) {
+        Preconditions.checkNotNull(a);
+        Preconditions.checkNotNull(b);
+        Integer u = vertexIds.get(a), v = vertexIds.get(b);
+        return u != null && v != null && (u.equals(v) || findRoot(u) == findRoot(v));
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int size() {
+        return treeEdgeIds.size();
+    }
+
+    /**
+     * @return snapshot of the current tree edges
+     */
+    public List<E> getEdges() {
+        return Lists.newArrayList(treeEdgeIds.keySet());
+    }
+
+    private void removeTreeEdge(int node) {
+        @SuppressWarnings("unchecked")
+        E e = (E) edgeOfNode[node];
+        cut(edgeEnd1[node], node);
+        cut(node, edgeEnd2[node]);
+        treeEdgeIds.remove(e);
+        totalWeight -= e.getWeight();
+        edgeOfNode[node] = null;
+
+        if (freeCount == freeNodes.length) {
+            freeNodes = Arrays.copyOf(freeNodes, freeCount * 2);
+        }
+        freeNodes[freeCount++] = node;
+    }
+
+    private int idOf(V v) {
+        Preconditions.checkNotNull(v);
+        Integer id = vertexIds.get(v);
+        if (id == null) {
+            id = newNode(Long.MIN_VALUE);
+            vertexIds.put(v, id);
+        }
+        return id;
+    }
+
+    private int newNode(long w) {
+        int node;
+        if (freeCount > 0) {
+            node = freeNodes[--freeCount];
+        } else {
+            if (nodeCount == left.length) {
+                grow(nodeCount * 2);
+            }
+            node = nodeCount++;
+        }
+        left[node] = right[node] = parent[node] = NIL;
+        reversed[node] = false;
+        weight[node] = w;
+        maxNode[node] = node;
+        return node;
+    }
+
+    private void grow(int capacity) {
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        reversed = Arrays.copyOf(reversed, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+        maxNode = Arrays.copyOf(maxNode, capacity);
+        splayStack = Arrays.copyOf(splayStack, capacity);
+        edgeOfNode = Arrays.copyOf(edgeOfNode, capacity);
+        edgeEnd1 = Arrays.copyOf(edgeEnd1, capacity);
+        edgeEnd2 = Arrays.copyOf(edgeEnd2, capacity);
+    }
+
+    /*
+     * Link-cut tree primitives.
+     */
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void pushDown(int x) {
+        if (reversed[x]) {
+            int tmp = left[x];
+            left[x] = right[x];
+            right[x] = tmp;
+            reversed[left[x]] ^= true;
+            reversed[right[x]] ^= true;
+            reversed[x] = false;
+        }
+    }
+
+    private void pull(int x) {
+        int best = x;
+        if (weight[maxNode[left[x]]] > weight[best]) best = maxNode[left[x]];
+        if (weight[maxNode[right[x]]] > weight[best]) best = maxNode[right[x]];
+        maxNode[x] = best;
+    }
+
+    private void rotate(int x) {
+        int y = parent[x], z = parent[y];
+        if (!isSplayRoot(y)) {
+            if (left[z] == y) left[z] = x;
+            else right[z] = x;
+        }
+        parent[x] = z;
+
+        if (left[y] == x) {
+            left[y] = right[x];
+            if (right[x] != NIL) parent[right[x]] = y;
+            right[x] = y;
+        } else {
+            right[y] = left[x];
+            if (left[x] != NIL) parent[left[x]] = y;
+            left[x] = y;
+        }
+        parent[y] = x;
+        pull(y);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        // apply pending reversals top-down before rotating
+        int top = 0;
+        splayStack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            splayStack[top++] = parent[y];
+        }
+        while (top > 0) {
+            pushDown(splayStack[--top]);
+        }
+
+        while (!isSplayRoot(x)) {
+            int y = parent[x];
+            if (!isSplayRoot(y)) {
+                int z = parent[y];
+                boolean zigZig = (left[y] == x) == (left[z] == y);
+                rotate(zigZig ? y : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        for (int last = NIL, y = x; y != NIL; last = y, y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        reversed[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        pushDown(x);
+        while (left[x] != NIL) {
+            x = left[x];
+            pushDown(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        parent[x] = y;
+    }
+
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // x is now the only node left of y on the preferred path
+        left[y] = NIL;
+        parent[x] = NIL;
+        pull(y);
+    }
+
+    private int pathMax(int x, int y) {
+        makeRoot(x);
+        access(y);
+        return maxNode[y];
+    }
+}
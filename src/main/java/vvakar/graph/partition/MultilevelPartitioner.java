@@ -0,0 +1,521 @@
+package vvakar.graph.partition;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * METIS-style multilevel k-way partitioner: balanced parts with few arcs between them.
+ * <ol>
+ *     <li>coarsen: contract a heavy-edge matching, level after level, until the graph is small or stops
+ *     shrinking. Merged vertices add up their weights and merged edges their multiplicities</li>
+ *     <li>initial partition: greedy graph growing on the coarsest graph, best of a few seeds</li>
+ *     <li>uncoarsen: project the parts back one level at a time. At each level, restore balance, then run
+ *     Fiduccia-Mattheyses passes: move boundary vertices best gain first, each at most once a pass, even downhill,
+ *     and keep the best prefix of the moves</li>
+ * </ol>
+ * Works on the undirected view; arc weights are ignored and each vertex counts one towards balance. Every level
+ * is primitive arrays, and each step is linear in its size apart from the FM heap.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MultilevelPartitioner {
+    public static final double DEFAULT_IMBALANCE = 0.03;
+    public static final int DEFAULT_PASSES = 4;
+    private static final int INITIAL_TRIALS = 4;
+
+    private final int k;
+    private final double imbalance;
+    private final int passes;
+    private final long seed;
+
+    public MultilevelPartitioner(int k) {
+        this(k, DEFAULT_IMBALANCE, DEFAULT_PASSES, 49);
+    }
+
+    /**
+     * @param imbalance how far the largest part may exceed the average, e.g. 0.03 for 3%
+     * @param passes    FM passes per level at most
+     */
+    public MultilevelPartitioner(int k, double imbalance, int passes, long seed) {
+        Preconditions.checkArgument(k > 0, "need at least one part");
+        Preconditions.checkArgument(imbalance >= 0, "imbalance cannot be negative");
+        Preconditions.checkArgument(passes >= 0);
+        this.k = k;
+        this.imbalance = imbalance;
+        this.passes = passes;
+        this.seed = seed;
+    }
+
+    public <V extends Vertex> PartitionBean<V> partition(CsrGraph<V> csr) {
+        Preconditions.checkNotNull(csr);
+        Random random = new Random(seed);
+        long start = System.currentTimeMillis();
+        List<Level> levels = new ArrayList<Level>();
+        levels.add(Level.of(csr));
+        int coarsenTo = Math.max(30 * k, 300);
+        Level level = levels.get(0);
+        long maxVertexWeight = (long) Math.ceil(1.5 * level.totalWeight / coarsenTo);
+        while (level.n > coarsenTo) {
+            Level coarse = level.coarsen(random, maxVertexWeight);
+            if (coarse.n > 0.95 * level.n) {
+                break; // matching stalled, e.g. around the hubs of a power-law graph
+            }
+            levels.add(coarse);
+            level = coarse;
+        }
+        long coarsened = System.currentTimeMillis();
+
+        int[] part = null;
+        long bestCut = Long.MAX_VALUE;
+        for (int trial = 0; trial < INITIAL_TRIALS; ++trial) {
+            int[] candidate = level.grow(k, random);
+            Refiner refiner = new Refiner(level, candidate);
+            refiner.balance();
+            refiner.refine(passes);
+            long cut = level.cut(candidate);
+            if (refiner.isBalanced() && cut < bestCut || part == null) {
+                part = candidate;
+                bestCut = cut;
+            }
+        }
+        long initial = System.currentTimeMillis();
+
+        for (int i = levels.size() - 2; i >= 0; --i) {
+            Level fine = levels.get(i);
+            int[] projected = new int[fine.n];
+            for (int v = 0; v < fine.n; ++v) {
+                projected[v] = part[fine.cmap[v]];
+            }
+            part = projected;
+            Refiner refiner = new Refiner(fine, part);
+            refiner.balance();
+            refiner.refine(passes);
+        }
+        long refined = System.currentTimeMillis();
+        return new PartitionBean<V>(csr, part, k, levels.size(), level.n, coarsened - start, initial - coarsened,
+                refined - initial);
+    }
+
+    /**
+     * @return arcs of <code>csr</code> whose ends lie in different parts
+     */
+    public static long edgeCut(CsrGraph<?> csr, int[] parts) {
+        Preconditions.checkArgument(parts.length == csr.vertexCount(), "need one part per vertex");
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        long cut = 0;
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                if (parts[u] != parts[targets[i]]) {
+                    ++cut;
+                }
+            }
+        }
+        return cut;
+    }
+
+    /**
+     * One graph of the hierarchy: symmetric, no self-loops, no parallel edges, weighted vertices and edges.
+     */
+    private static class Level {
+        final int n;
+        final int[] xadj, adj, ewgt, vwgt;
+        final long totalWeight;
+        /** vertex of the next coarser level that each vertex was merged into */
+        int[] cmap;
+
+        Level(int n, int[] xadj, int[] adj, int[] ewgt, int[] vwgt) {
+            this.n = n;
+            this.xadj = xadj;
+            this.adj = adj;
+            this.ewgt = ewgt;
+            this.vwgt = vwgt;
+            long total = 0;
+            for (int i = 0; i < n; ++i) total += vwgt[i];
+            totalWeight = total;
+        }
+
+        /**
+         * Undirected view of <code>csr</code>: each arc counts one towards the edge joining its ends.
+         */
+        static Level of(CsrGraph<?> csr) {
+            int n = csr.vertexCount();
+            int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+            int[] xadj = new int[n + 1];
+            for (int u = 0; u < n; ++u) {
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    if (targets[i] != u) {
+                        ++xadj[u + 1];
+                        ++xadj[targets[i] + 1];
+                    }
+                }
+            }
+            for (int u = 0; u < n; ++u) xadj[u + 1] += xadj[u];
+            int[] adj = new int[xadj[n]], ewgt = new int[xadj[n]];
+            int[] cursor = Arrays.copyOf(xadj, n);
+            for (int u = 0; u < n; ++u) {
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    int v = targets[i];
+                    if (v != u) {
+                        adj[cursor[u]++] = v;
+                        adj[cursor[v]++] = u;
+                    }
+                }
+            }
+            Arrays.fill(ewgt, 1);
+            int[] vwgt = new int[n];
+            Arrays.fill(vwgt, 1);
+            return merge(n, xadj, adj, ewgt, vwgt);
+        }
+
+        /**
+         * Merge parallel entries within each row, adding their weights, and compact in place.
+         */
+        static Level merge(int n, int[] xadj, int[] adj, int[] ewgt, int[] vwgt) {
+            int[] pos = new int[n];
+            Arrays.fill(pos, -1);
+            int write = 0;
+            for (int u = 0; u < n; ++u) {
+                int from = xadj[u], to = xadj[u + 1];
+                xadj[u] = write;
+                int rowStart = write;
+                for (int i = from; i < to; ++i) {
+                    int v = adj[i];
+                    if (pos[v] >= rowStart) {
+                        ewgt[pos[v]] += ewgt[i];
+                    } else {
+                        pos[v] = write;
+                        adj[write] = v;
+                        ewgt[write++] = ewgt[i];
+                    }
+                }
+            }
+            xadj[n] = write;
+            return new Level(n, xadj, adj, ewgt, vwgt);
+        }
+
+        /**
+         * Heavy-edge matching in random order, then contraction of each matched pair into one vertex.
+         */
+        Level coarsen(Random random, long maxVertexWeight) {
+            int[] match = new int[n];
+            Arrays.fill(match, -1);
+            int[] visit = new int[n];
+            for (int i = 0; i < n; ++i) visit[i] = i;
+            for (int i = n - 1; i > 0; --i) {
+                int j = random.nextInt(i + 1), tmp = visit[i];
+                visit[i] = visit[j];
+                visit[j] = tmp;
+            }
+            cmap = new int[n];
+            int[] members = new int[n];
+            int cn = 0;
+            for (int u : visit) {
+                if (match[u] >= 0) continue;
+                int best = u, heaviest = 0;
+                for (int i = xadj[u]; i < xadj[u + 1]; ++i) {
+                    int v = adj[i];
+                    if (match[v] < 0 && ewgt[i] > heaviest && vwgt[u] + vwgt[v] <= maxVertexWeight) {
+                        best = v;
+                        heaviest = ewgt[i];
+                    }
+                }
+                match[u] = best;
+                match[best] = u;
+                cmap[u] = cmap[best] = cn;
+                members[cn++] = u;
+            }
+
+            int[] cxadj = new int[cn + 1], cadj = new int[xadj[n]], cewgt = new int[xadj[n]], cvwgt = new int[cn];
+            int[] pos = new int[cn];
+            Arrays.fill(pos, -1);
+            int write = 0;
+            for (int c = 0; c < cn; ++c) {
+                cxadj[c] = write;
+                int u = members[c];
+                for (int w = u; ; w = match[u]) {
+                    cvwgt[c] += vwgt[w];
+                    for (int i = xadj[w]; i < xadj[w + 1]; ++i) {
+                        int cv = cmap[adj[i]];
+                        if (cv == c) continue;
+                        if (pos[cv] >= cxadj[c]) {
+                            cewgt[pos[cv]] += ewgt[i];
+                        } else {
+                            pos[cv] = write;
+                            cadj[write] = cv;
+                            cewgt[write++] = ewgt[i];
+                        }
+                    }
+                    if (w == match[u]) break;
+                }
+            }
+            cxadj[cn] = write;
+            return new Level(cn, cxadj, cadj, cewgt, cvwgt);
+        }
+
+        /**
+         * Greedy graph growing: fill parts one after the other breadth-first from random seeds, up to an even
+         * share of the weight each; the last part takes the rest.
+         */
+        int[] grow(int k, Random random) {
+            int[] part = new int[n];
+            Arrays.fill(part, -1);
+            int[] queue = new int[n + xadj[n]];
+            int assigned = 0;
+            for (int p = 0; p < k - 1 && assigned < n; ++p) {
+                long target = totalWeight * (p + 1) / k, weight = totalWeight * p / k;
+                int head = 0, tail = 0;
+                while (weight < target && assigned < n) {
+                    if (head == tail) {
+                        int s = random.nextInt(n);
+                        while (part[s] >= 0) s = s + 1 == n ? 0 : s + 1;
+                        queue[tail++] = s;
+                    }
+                    int u = queue[head++];
+                    if (part[u] >= 0) continue;
+                    part[u] = p;
+                    weight += vwgt[u];
+                    ++assigned;
+                    for (int i = xadj[u]; i < xadj[u + 1]; ++i) {
+                        if (part[adj[i]] < 0) queue[tail++] = adj[i];
+                    }
+                    if (tail > queue.length - n) {
+                        // compact the queue so that it cannot overflow
+                        System.arraycopy(queue, head, queue, 0, tail - head);
+                        tail -= head;
+                        head = 0;
+                    }
+                }
+            }
+            for (int v = 0; v < n; ++v) {
+                if (part[v] < 0) part[v] = k - 1;
+            }
+            return part;
+        }
+
+        /**
+         * @return weight of the edges between parts
+         */
+        long cut(int[] part) {
+            long cut = 0;
+            for (int u = 0; u < n; ++u) {
+                for (int i = xadj[u]; i < xadj[u + 1]; ++i) {
+                    if (part[u] != part[adj[i]]) cut += ewgt[i];
+                }
+            }
+            return cut / 2;
+        }
+    }
+
+    /**
+     * Balancing and Fiduccia-Mattheyses refinement of one level's parts, in place.
+     */
+    private class Refiner {
+        private final Level level;
+        private final int[] part;
+        private final long[] partWeight = new long[k];
+        private final long maxPartWeight;
+        private final int[] connection = new int[k];
+        private final int[] touched = new int[k];
+        private final boolean[] locked;
+        private final LongHeap heap = new LongHeap();
+        private int gain;
+
+        Refiner(Level level, int[] part) {
+            this.level = level;
+            this.part = part;
+            for (int v = 0; v < level.n; ++v) {
+                partWeight[part[v]] += level.vwgt[v];
+            }
+            maxPartWeight = (long) Math.ceil((1 + imbalance) * level.totalWeight / k);
+            locked = new boolean[level.n];
+        }
+
+        boolean isBalanced() {
+            for (long weight : partWeight) {
+                if (weight > maxPartWeight) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Move vertices out of overweight parts, to the part with room they are best connected to. Boundary
+         * vertices go first; if that is not enough, any vertex will do.
+         */
+        void balance() {
+            for (int sweep = 0; sweep < 2 && !isBalanced(); ++sweep) {
+                for (int v = 0; v < level.n; ++v) {
+                    int from = part[v];
+                    if (partWeight[from] <= maxPartWeight) continue;
+                    int to = bestMove(v, true);
+                    if (to < 0 && sweep == 1) {
+                        to = lightest();
+                    }
+                    if (to >= 0 && to != from && partWeight[to] + level.vwgt[v] <= maxPartWeight) {
+                        move(v, to);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Up to <code>passes</code> FM passes, stopping early once a pass gains under half a percent. A move only
+         * bumps its neighbors' heap keys by what their edges to the moved vertex can add to their gain, and the exact
+         * gain is taken when a key comes up. That way a move costs its own degree rather than the sum of its
+         * neighbors' degrees. Keys are upper bounds only while part weights stay put. A move that frees room in a
+         * full part can raise the gain of any vertex, neighbor or not, beyond its key, so the order is a heuristic and
+         * the vertex popped is not always the best move.
+         */
+        void refine(int passes) {
+            int limit = Math.max(64, Math.min(level.n / 64, 4096));
+            int[] moved = new int[level.n], movedFrom = new int[level.n], bound = new int[level.n];
+            long cut = level.cut(part);
+            for (int pass = 0; pass < passes; ++pass) {
+                heap.clear();
+                for (int v = 0; v < level.n; ++v) {
+                    boolean boundary = bestMove(v, false) >= 0;
+                    bound[v] = gain;
+                    if (boundary) heap.push(key(gain, v));
+                }
+                int count = 0, bestCount = 0, sinceBest = 0;
+                long delta = 0, bestDelta = 0;
+                while (!heap.isEmpty() && sinceBest < limit) {
+                    long entry = heap.pop();
+                    int v = (int) entry, expected = (int) (entry >> 32);
+                    if (locked[v] || expected != bound[v]) continue; // moved, or superseded by a later key
+                    int to = bestMove(v, false);
+                    if (to < 0) {
+                        bound[v] = gain;
+                        continue;
+                    }
+                    if (gain < expected) {
+                        bound[v] = gain;
+                        heap.push(key(gain, v));
+                        continue;
+                    }
+                    int from = part[v];
+                    moved[count] = v;
+                    movedFrom[count++] = from;
+                    move(v, to);
+                    locked[v] = true;
+                    delta -= gain;
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestCount = count;
+                        sinceBest = 0;
+                    } else {
+                        ++sinceBest;
+                    }
+                    for (int i = level.xadj[v]; i < level.xadj[v + 1]; ++i) {
+                        int u = level.adj[i];
+                        if (locked[u] || part[u] == to) continue; // gain can only have dropped
+                        bound[u] += part[u] == from ? 2 * level.ewgt[i] : level.ewgt[i];
+                        heap.push(key(bound[u], u));
+                    }
+                }
+                // keep the best prefix
+                for (int i = count - 1; i >= bestCount; --i) {
+                    move(moved[i], movedFrom[i]);
+                }
+                for (int i = 0; i < count; ++i) {
+                    locked[moved[i]] = false;
+                }
+                cut += bestDelta;
+                if (-bestDelta * 200 <= cut) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Best part with room for <code>v</code> among those it has edges into; sets {@link #gain}.
+         * @param anyGain if false, only vertices on the boundary qualify
+         * @return the part, or -1 if there is none
+         */
+        private int bestMove(int v, boolean anyGain) {
+            int from = part[v], touchedCount = 0;
+            for (int i = level.xadj[v]; i < level.xadj[v + 1]; ++i) {
+                int p = part[level.adj[i]];
+                if (connection[p] == 0) touched[touchedCount++] = p;
+                connection[p] += level.ewgt[i];
+            }
+            int internal = connection[from], best = -1, bestConnection = 0;
+            for (int t = 0; t < touchedCount; ++t) {
+                int p = touched[t];
+                if (p != from && partWeight[p] + level.vwgt[v] <= maxPartWeight
+                        && (connection[p] > bestConnection
+                        || connection[p] == bestConnection && best >= 0 && partWeight[p] < partWeight[best])) {
+                    best = p;
+                    bestConnection = connection[p];
+                }
+                connection[p] = 0;
+            }
+            connection[from] = 0;
+            gain = bestConnection - internal;
+            return best >= 0 || anyGain ? best : -1;
+        }
+
+        private int lightest() {
+            int best = 0;
+            for (int p = 1; p < k; ++p) {
+                if (partWeight[p] < partWeight[best]) best = p;
+            }
+            return best;
+        }
+
+        private void move(int v, int to) {
+            partWeight[part[v]] -= level.vwgt[v];
+            partWeight[to] += level.vwgt[v];
+            part[v] = to;
+        }
+
+        private long key(int gain, int v) {
+            return (long) gain << 32 | v;
+        }
+    }
+
+    /**
+     * Binary max-heap of primitive longs.
+     */
+    private static class LongHeap {
+        private long[] heap = new long[64];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void push(long value) {
+            if (size == heap.length) heap = Arrays.copyOf(heap, 2 * size);
+            int i = size++;
+            while (i > 0 && heap[(i - 1) >> 1] < value) {
+                heap[i] = heap[(i - 1) >> 1];
+                i = (i - 1) >> 1;
+            }
+            heap[i] = value;
+        }
+
+        long pop() {
+            long top = heap[0], last = heap[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] > heap[child]) ++child;
+                if (heap[child] <= last) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+}
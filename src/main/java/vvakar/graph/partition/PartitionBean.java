@@ -0,0 +1,128 @@
+package vvakar.graph.partition;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * Split of a snapshot's vertices into <code>k</code> parts: a part <code>0..k-1</code> per vertex id, plus quality
+ * and timing figures.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class PartitionBean<V extends Vertex> {
+    private final CsrGraph<V> csr;
+    private final int[] parts;
+    private final int[] sizes;
+    private final long edgeCut;
+    private final int levels;
+    private final int coarsestSize;
+    private final long coarsenMillis, initialMillis, refineMillis;
+
+    PartitionBean(CsrGraph<V> csr, int[] parts, int k, int levels, int coarsestSize, long coarsenMillis,
+                  long initialMillis, long refineMillis) {
+        this.csr = csr;
+        this.parts = parts;
+        this.sizes = new int[k];
+        for (int p : parts) {
+            ++sizes[p];
+        }
+        this.edgeCut = MultilevelPartitioner.edgeCut(csr, parts);
+        this.levels = levels;
+        this.coarsestSize = coarsestSize;
+        this.coarsenMillis = coarsenMillis;
+        this.initialMillis = initialMillis;
+        this.refineMillis = refineMillis;
+    }
+
+    public int getPartCount() {
+        return sizes.length;
+    }
+
+    /**
+     * @return part per vertex id of {@link #getGraph()}
+     */
+    public int[] getParts() {
+        return parts;
+    }
+
+    public int getPart(V v) {
+        int id = csr.getId(v);
+        Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+        return parts[id];
+    }
+
+    /**
+     * @return vertex count per part
+     */
+    public int[] getSizes() {
+        return sizes;
+    }
+
+    /**
+     * @return arcs whose ends lie in different parts
+     */
+    public long getEdgeCut() {
+        return edgeCut;
+    }
+
+    /**
+     * @return share of arcs cut; hash partitioning cuts about <code>(k - 1) / k</code>
+     */
+    public double getCutFraction() {
+        return csr.arcCount() == 0 ? 0 : (double) edgeCut / csr.arcCount();
+    }
+
+    /**
+     * @return largest part over the average part, 1 when perfectly balanced
+     */
+    public double getImbalance() {
+        int largest = 0;
+        for (int size : sizes) {
+            largest = Math.max(largest, size);
+        }
+        return parts.length == 0 ? 1 : (double) largest * sizes.length / parts.length;
+    }
+
+    /**
+     * @return vertex ids grouped by part, so that {@link vvakar.graph.components.GraphReordering#permute} makes
+     * each part a contiguous id range, as range-partitioned engines expect
+     */
+    public int[] getOrder() {
+        int[] start = new int[sizes.length + 1];
+        for (int p = 0; p < sizes.length; ++p) {
+            start[p + 1] = start[p] + sizes[p];
+        }
+        int[] order = new int[parts.length];
+        for (int v = 0; v < parts.length; ++v) {
+            order[start[parts[v]]++] = v;
+        }
+        return order;
+    }
+
+    public CsrGraph<V> getGraph() {
+        return csr;
+    }
+
+    /**
+     * @return graphs in the hierarchy, the input included
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    public int getCoarsestSize() {
+        return coarsestSize;
+    }
+
+    public long getMillis() {
+        return coarsenMillis + initialMillis + refineMillis;
+    }
+
+    public String getReport() {
+        return String.format("vertices=%d arcs=%d parts=%d edgeCut=%d cutFraction=%.4f imbalance=%.3f levels=%d " +
+                        "coarsest=%d coarsenMs=%d initialMs=%d refineMs=%d",
+                csr.vertexCount(), csr.arcCount(), getPartCount(), edgeCut, getCutFraction(), getImbalance(), levels,
+                coarsestSize, coarsenMillis, initialMillis, refineMillis);
+    }
+}
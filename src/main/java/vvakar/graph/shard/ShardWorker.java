@@ -0,0 +1,365 @@
+package vvakar.graph.shard;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Process that owns one shard of a {@link ShardedGraph}, started by {@link ShardedRuntime}:
+ * <code>java vvakar.graph.shard.ShardWorker &lt;graph directory&gt; &lt;shard&gt; &lt;coordinator host&gt;
+ * &lt;coordinator port&gt;</code>
+ * <p>
+ * The worker loads its shard into local CSR arrays, then connects to the coordinator and to every other worker. It
+ * only ever holds its own vertices and arcs. In each superstep it relaxes its frontier. Messages to its own vertices
+ * go straight into the next inbox; messages to other shards are batched per shard and sent over that shard's socket.
+ * A reader thread per inbound socket drains batches as they arrive, so two workers writing to each other can never
+ * block one another. Each worker sends every other worker exactly one batch per superstep, empty or not, and the
+ * next superstep only starts once the coordinator has heard from everyone. So the batches of different supersteps
+ * never mix.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShardWorker {
+    private static final int BUFFER = 1 << 16;
+
+    private final int shard;
+    private final int shards;
+    private final int[] globals;
+    /** local CSR: out-arcs of local vertex u are [offsets[u], offsets[u + 1]) */
+    private final int[] offsets, targetShards, targetLocals, weights;
+
+    private final double[] values, inbox, messages;
+    private final boolean[] queued;
+    private int[] frontier, next;
+    private int frontierSize, nextSize;
+    private ShardedRuntime.Algorithm algorithm;
+
+    private final Outbox[] outboxes;
+    private final DataOutputStream[] peers;
+    private final BlockingQueue<Batch> batches = new LinkedBlockingQueue<Batch>();
+    private volatile boolean closing;
+
+    public static void main(String[] args) throws IOException {
+        Preconditions.checkArgument(args.length == 4, "usage: ShardWorker <graph directory> <shard> <host> <port>");
+        ShardedGraph graph = ShardedGraph.open(Paths.get(args[0]));
+        new ShardWorker(graph, Integer.parseInt(args[1])).serve(args[2], Integer.parseInt(args[3]));
+    }
+
+    public ShardWorker(ShardedGraph graph, int shard) throws IOException {
+        Preconditions.checkElementIndex(shard, graph.getShardCount(), "shard");
+        this.shard = shard;
+        this.shards = graph.getShardCount();
+        this.globals = graph.readVertices(shard);
+        int n = globals.length;
+
+        // counting sort by local source, straight from the file in two passes
+        Path file = graph.arcFile(shard);
+        int m = (int) (Files.size(file) / ShardedGraph.ARC_RECORD);
+        offsets = new int[n + 1];
+        DataInputStream in = open(file);
+        try {
+            for (int i = 0; i < m; ++i) {
+                ++offsets[in.readInt() + 1];
+                in.skipBytes(ShardedGraph.ARC_RECORD - 4);
+            }
+        } finally {
+            in.close();
+        }
+        for (int u = 0; u < n; ++u) {
+            offsets[u + 1] += offsets[u];
+        }
+        targetShards = new int[m];
+        targetLocals = new int[m];
+        weights = new int[m];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        in = open(file);
+        try {
+            for (int i = 0; i < m; ++i) {
+                int slot = cursor[in.readInt()]++;
+                targetShards[slot] = in.readInt();
+                targetLocals[slot] = in.readInt();
+                weights[slot] = in.readInt();
+            }
+        } finally {
+            in.close();
+        }
+
+        values = new double[n];
+        inbox = new double[n];
+        messages = new double[n];
+        queued = new boolean[n];
+        frontier = new int[n];
+        next = new int[n];
+        outboxes = new Outbox[shards];
+        for (int q = 0; q < shards; ++q) {
+            outboxes[q] = new Outbox();
+        }
+        peers = new DataOutputStream[shards];
+    }
+
+    public int getVertexCount() {
+        return globals.length;
+    }
+
+    public int getArcCount() {
+        return weights.length;
+    }
+
+    /**
+     * Join the coordinator at <code>host:port</code> and obey it until it says to shut down. Peers are accepted only
+     * on the interface that reaches the coordinator, and each must name a distinct other shard.
+     */
+    public void serve(String host, int port) throws IOException {
+        ServerSocket server = null;
+        Socket coordinator = null;
+        Socket[] sockets = new Socket[2 * shards];
+        try {
+            coordinator = connect(host, port);
+            server = new ServerSocket(0, shards, coordinator.getLocalAddress());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(coordinator.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(coordinator.getOutputStream()));
+            out.writeInt(shard);
+            out.writeInt(server.getLocalPort());
+            out.flush();
+
+            String[] hosts = new String[shards];
+            int[] ports = new int[shards];
+            for (int q = 0; q < shards; ++q) {
+                hosts[q] = in.readUTF();
+                ports[q] = in.readInt();
+            }
+            // connecting does not wait for the peer to accept, so every worker can dial out first
+            for (int q = 0; q < shards; ++q) {
+                if (q == shard) continue;
+                sockets[q] = connect(hosts[q], ports[q]);
+                peers[q] = new DataOutputStream(new BufferedOutputStream(sockets[q].getOutputStream(), BUFFER));
+                peers[q].writeInt(shard);
+                peers[q].flush();
+            }
+            boolean[] joined = new boolean[shards];
+            for (int i = 0; i < shards - 1; ++i) {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                sockets[shards + i] = socket;
+                DataInputStream peer = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER));
+                socket.setSoTimeout(ShardedRuntime.TIMEOUT_MILLIS);
+                int q = peer.readInt();
+                socket.setSoTimeout(0);
+                if (q < 0 || q >= shards || q == shard || joined[q]) {
+                    throw new IOException("Unexpected peer " + q + " from " + socket.getRemoteSocketAddress());
+                }
+                joined[q] = true;
+                startReader(q, peer);
+            }
+            out.writeByte(ShardedRuntime.READY);
+            out.flush();
+
+            while (true) {
+                byte op = in.readByte();
+                if (op == ShardedRuntime.RUN) {
+                    start(ShardedRuntime.Algorithm.values()[in.readInt()], in.readInt());
+                } else if (op == ShardedRuntime.STEP) {
+                    long[] sent = superstep();
+                    out.writeLong(sent[0]);
+                    out.writeLong(sent[1]);
+                    out.writeInt(nextSize);
+                    out.flush();
+                } else if (op == ShardedRuntime.COLLECT) {
+                    out.writeInt(values.length);
+                    for (double value : values) {
+                        out.writeDouble(value);
+                    }
+                    out.flush();
+                } else if (op == ShardedRuntime.SHUTDOWN) {
+                    return;
+                } else {
+                    throw new IOException("Unknown operation " + op);
+                }
+            }
+        } finally {
+            closing = true;
+            for (Socket socket : sockets) {
+                if (socket != null) socket.close();
+            }
+            if (coordinator != null) coordinator.close();
+            if (server != null) server.close();
+        }
+    }
+
+    /**
+     * Reset the vertex values and seed the source, if it is one of ours.
+     * @param source global vertex id
+     */
+    private void start(ShardedRuntime.Algorithm algorithm, int source) {
+        this.algorithm = algorithm;
+        Arrays.fill(values, Double.POSITIVE_INFINITY);
+        Arrays.fill(queued, false);
+        nextSize = 0;
+        for (int u = 0; u < globals.length; ++u) {
+            if (globals[u] == source) {
+                receive(u, 0);
+            }
+        }
+    }
+
+    /**
+     * Relax the frontier, then exchange boundary messages with every other shard.
+     * @return messages sent in total and to other shards
+     */
+    private long[] superstep() throws IOException {
+        int[] swap = frontier;
+        frontier = next;
+        next = swap;
+        frontierSize = nextSize;
+        nextSize = 0;
+        for (int i = 0; i < frontierSize; ++i) {
+            int u = frontier[i];
+            messages[i] = inbox[u];
+            queued[u] = false;
+        }
+
+        long sent = 0, remote = 0;
+        for (int i = 0; i < frontierSize; ++i) {
+            int u = frontier[i];
+            double distance = messages[i];
+            if (distance >= values[u]) continue;
+            values[u] = distance;
+            for (int a = offsets[u]; a < offsets[u + 1]; ++a) {
+                double candidate = distance + algorithm.cost(weights[a]);
+                if (targetShards[a] == shard) {
+                    receive(targetLocals[a], candidate);
+                } else {
+                    outboxes[targetShards[a]].add(targetLocals[a], candidate);
+                    ++remote;
+                }
+                ++sent;
+            }
+        }
+
+        for (int q = 0; q < shards; ++q) {
+            if (q == shard) continue;
+            Outbox outbox = outboxes[q];
+            DataOutputStream peer = peers[q];
+            peer.writeInt(outbox.size);
+            for (int i = 0; i < outbox.size; ++i) {
+                peer.writeInt(outbox.targets[i]);
+                peer.writeDouble(outbox.messages[i]);
+            }
+            peer.flush();
+            outbox.size = 0;
+        }
+        for (int i = 0; i < shards - 1; ++i) {
+            Batch batch;
+            try {
+                batch = batches.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for peers", e);
+            }
+            if (batch.failure != null) {
+                throw new IOException("Lost connection to a peer", batch.failure);
+            }
+            for (int j = 0; j < batch.size; ++j) {
+                receive(batch.targets[j], batch.messages[j]);
+            }
+        }
+        return new long[]{sent, remote};
+    }
+
+    /**
+     * Combine a message into the next inbox with min, dropping it if it cannot improve the vertex.
+     */
+    private void receive(int u, double message) {
+        if (message >= values[u]) {
+            return;
+        }
+        if (!queued[u]) {
+            queued[u] = true;
+            inbox[u] = message;
+            next[nextSize++] = u;
+        } else if (message < inbox[u]) {
+            inbox[u] = message;
+        }
+    }
+
+    private void startReader(final int peer, final DataInputStream in) {
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        int size = in.readInt();
+                        Batch batch = new Batch(size);
+                        for (int i = 0; i < size; ++i) {
+                            batch.targets[i] = in.readInt();
+                            batch.messages[i] = in.readDouble();
+                        }
+                        batches.add(batch);
+                    }
+                } catch (IOException e) {
+                    if (!closing) {
+                        Batch failed = new Batch(0);
+                        failed.failure = e instanceof EOFException ? new IOException("Shard " + peer + " went away", e) : e;
+                        batches.add(failed);
+                    }
+                }
+            }
+        }, "shard-" + shard + "-reader-" + peer);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private static Socket connect(String host, int port) throws IOException {
+        Socket socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        return socket;
+    }
+
+    private static DataInputStream open(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER));
+    }
+
+    /**
+     * Growable (local target, message) pairs bound for one shard.
+     */
+    private static class Outbox {
+        private int[] targets = new int[16];
+        private double[] messages = new double[16];
+        private int size;
+
+        private void add(int target, double message) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, 2 * size);
+                messages = Arrays.copyOf(messages, 2 * size);
+            }
+            targets[size] = target;
+            messages[size++] = message;
+        }
+    }
+
+    private static class Batch {
+        private final int size;
+        private final int[] targets;
+        private final double[] messages;
+        private IOException failure;
+
+        private Batch(int size) {
+            this.size = size;
+            this.targets = new int[size];
+            this.messages = new double[size];
+        }
+    }
+}
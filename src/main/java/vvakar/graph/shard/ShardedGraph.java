@@ -0,0 +1,229 @@
+package vvakar.graph.shard;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.partition.PartitionBean;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * On-disk graph cut into shards, each loaded by one {@link ShardWorker} process. Vertices are global ids
+ * <code>0..n-1</code>. Each shard owns an arbitrary subset of them and numbers it locally <code>0..size-1</code>.
+ * Shard p holds the out-arcs of its vertices, with every target already resolved to (owning shard, local id). A
+ * worker therefore needs nothing global, and the coordinator never loads an arc.
+ * <p>
+ * Directory layout: <code>meta.bin</code> (vertex count, arc count, shard count), and per shard
+ * <code>vertices-p.bin</code> (global id of each local vertex, in local order) and <code>arcs-p.bin</code>
+ * (unordered 16-byte records <code>(local source, target shard, target local id, weight)</code>).
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShardedGraph {
+    static final int ARC_RECORD = 16;
+    private static final String META = "meta.bin";
+    private static final int BUFFER = 1 << 16;
+
+    private final Path directory;
+    private final int vertexCount;
+    private final long arcCount;
+    private final int shards;
+
+    private ShardedGraph(Path directory, int vertexCount, long arcCount, int shards) {
+        this.directory = directory;
+        this.vertexCount = vertexCount;
+        this.arcCount = arcCount;
+        this.shards = shards;
+    }
+
+    public static ShardedGraph open(Path directory) throws IOException {
+        DataInputStream in = new DataInputStream(Files.newInputStream(directory.resolve(META)));
+        try {
+            return new ShardedGraph(directory, in.readInt(), in.readLong(), in.readInt());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Shard <code>csr</code> along a partition, typically one from
+     * {@link vvakar.graph.partition.MultilevelPartitioner}, so that few arcs cross shards.
+     */
+    public static ShardedGraph create(Path directory, PartitionBean<?> partition) throws IOException {
+        return create(directory, partition.getGraph(), partition.getParts(), partition.getPartCount());
+    }
+
+    /**
+     * @param parts owning shard per vertex id of <code>csr</code>
+     */
+    public static ShardedGraph create(Path directory, CsrGraph<?> csr, int[] parts, int shards) throws IOException {
+        Preconditions.checkArgument(parts.length == csr.vertexCount(), "need one shard per vertex");
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+        Writer writer = new Writer(directory, parts, shards);
+        try {
+            for (int u = 0; u < csr.vertexCount(); ++u) {
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    writer.addArc(u, targets[i], weights[i]);
+                }
+            }
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+        return writer.finish();
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public long getArcCount() {
+        return arcCount;
+    }
+
+    public int getShardCount() {
+        return shards;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return global id of each of the shard's vertices, in local order
+     */
+    public int[] readVertices(int shard) throws IOException {
+        Preconditions.checkElementIndex(shard, shards);
+        Path file = vertexFile(shard);
+        int[] globals = new int[(int) (Files.size(file) / 4)];
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER));
+        try {
+            for (int i = 0; i < globals.length; ++i) {
+                globals[i] = in.readInt();
+            }
+        } finally {
+            in.close();
+        }
+        return globals;
+    }
+
+    Path vertexFile(int shard) {
+        return directory.resolve("vertices-" + shard + ".bin");
+    }
+
+    Path arcFile(int shard) {
+        return directory.resolve("arcs-" + shard + ".bin");
+    }
+
+    /**
+     * Streaming builder: arcs go straight to their source's shard file, so any edge source can feed it without
+     * holding the arcs. Memory is two ints per vertex for the shard map.
+     */
+    public static class Writer implements Closeable {
+        private final Path directory;
+        private final int[] parts;
+        private final int[] local;
+        private final int shards;
+        private final DataOutputStream[] files;
+        private long arcs;
+        private boolean finished;
+
+        /**
+         * @param parts owning shard per global vertex id
+         */
+        public Writer(Path directory, int[] parts, int shards) throws IOException {
+            Preconditions.checkArgument(shards > 0, "need at least one shard");
+            Files.createDirectories(directory);
+            this.directory = directory;
+            this.parts = parts;
+            this.shards = shards;
+            this.local = new int[parts.length];
+            int[] sizes = new int[shards];
+            for (int v = 0; v < parts.length; ++v) {
+                Preconditions.checkElementIndex(parts[v], shards, "shard");
+                local[v] = sizes[parts[v]]++;
+            }
+
+            files = new DataOutputStream[shards];
+            ShardedGraph graph = new ShardedGraph(directory, parts.length, 0, shards);
+            DataOutputStream[] vertexFiles = new DataOutputStream[shards];
+            try {
+                for (int p = 0; p < shards; ++p) {
+                    vertexFiles[p] = open(graph.vertexFile(p));
+                    files[p] = open(graph.arcFile(p));
+                }
+                for (int v = 0; v < parts.length; ++v) {
+                    vertexFiles[parts[v]].writeInt(v);
+                }
+            } catch (IOException e) {
+                finished = true;
+                closeAll(files);
+                throw e;
+            } finally {
+                closeAll(vertexFiles);
+            }
+        }
+
+        public void addArc(int source, int target, int weight) throws IOException {
+            Preconditions.checkState(!finished, "already finished");
+            Preconditions.checkElementIndex(source, parts.length);
+            Preconditions.checkElementIndex(target, parts.length);
+            DataOutputStream out = files[parts[source]];
+            out.writeInt(local[source]);
+            out.writeInt(parts[target]);
+            out.writeInt(local[target]);
+            out.writeInt(weight);
+            ++arcs;
+        }
+
+        /**
+         * Flush the shards and write the metadata.
+         */
+        public ShardedGraph finish() throws IOException {
+            close();
+            DataOutputStream meta = new DataOutputStream(Files.newOutputStream(directory.resolve(META)));
+            try {
+                meta.writeInt(parts.length);
+                meta.writeLong(arcs);
+                meta.writeInt(shards);
+            } finally {
+                meta.close();
+            }
+            return new ShardedGraph(directory, parts.length, arcs, shards);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            closeAll(files);
+        }
+
+        private static DataOutputStream open(Path file) throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER));
+        }
+
+        private static void closeAll(DataOutputStream[] streams) throws IOException {
+            IOException failure = null;
+            for (DataOutputStream stream : streams) {
+                if (stream == null) continue;
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
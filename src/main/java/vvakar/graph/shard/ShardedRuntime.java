@@ -0,0 +1,317 @@
+package vvakar.graph.shard;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of a {@link ShardedGraph} spread over one {@link ShardWorker} process per shard, for graphs that do
+ * not fit one heap. Workers hold the arcs. The coordinator holds only sockets until a run's results are collected,
+ * one value per vertex.
+ * <p>
+ * A run is a sequence of bulk synchronous supersteps. The coordinator tells every worker to step. Each worker
+ * relaxes its frontier and trades boundary messages with the other workers directly, then reports back. The run
+ * ends once no frontier is left or after <code>maxSupersteps</code>, and the coordinator collects the values.
+ * <p>
+ * Everything speaks TCP, and a worker needs only its shard files and the coordinator's address. Tests run it all on
+ * localhost; spreading workers over machines only takes starting them there instead of through {@link #launch}.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShardedRuntime implements Closeable {
+    static final byte READY = 1, RUN = 2, STEP = 3, COLLECT = 4, SHUTDOWN = 5;
+    public static final int TIMEOUT_MILLIS = 60000;
+
+    /**
+     * Vertex programs every worker knows. Both propagate the least distance from a source with a min combiner,
+     * and differ only in what an arc costs.
+     */
+    public enum Algorithm {
+        /** hop count */
+        BFS {
+            @Override
+            double cost(int weight) {
+                return 1;
+            }
+        },
+        /** sum of arc weights; negative arcs are fine, a negative cycle runs until maxSupersteps */
+        SSSP {
+            @Override
+            double cost(int weight) {
+                return weight;
+            }
+        };
+
+        abstract double cost(int weight);
+    }
+
+    private final ShardedGraph graph;
+    private final List<Process> processes;
+    private final Socket[] sockets;
+    private final DataInputStream[] in;
+    private final DataOutputStream[] out;
+    private boolean closed;
+
+    /**
+     * Start one worker JVM per shard on this host, with this JVM's class path, and wait until they are all
+     * connected to each other.
+     * @param jvmOptions extra worker JVM options, e.g. <code>-Xmx4g</code>
+     */
+    public static ShardedRuntime launch(ShardedGraph graph, String... jvmOptions) throws IOException {
+        Preconditions.checkNotNull(graph);
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ServerSocket server = new ServerSocket(0, graph.getShardCount(), InetAddress.getLoopbackAddress());
+        List<Process> processes = new ArrayList<Process>();
+        try {
+            for (int p = 0; p < graph.getShardCount(); ++p) {
+                List<String> command = new ArrayList<String>();
+                command.add(java);
+                command.addAll(Arrays.asList(jvmOptions));
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add(ShardWorker.class.getName());
+                command.add(graph.getDirectory().toAbsolutePath().toString());
+                command.add(String.valueOf(p));
+                command.add(server.getInetAddress().getHostAddress());
+                command.add(String.valueOf(server.getLocalPort()));
+                processes.add(new ProcessBuilder(command).inheritIO().start());
+            }
+            return new ShardedRuntime(graph, server, processes);
+        } catch (IOException e) {
+            for (Process process : processes) {
+                process.destroy();
+            }
+            throw e;
+        } finally {
+            server.close();
+        }
+    }
+
+    private ShardedRuntime(ShardedGraph graph, ServerSocket server, List<Process> processes) throws IOException {
+        this.graph = graph;
+        this.processes = processes;
+        int shards = graph.getShardCount();
+        sockets = new Socket[shards];
+        in = new DataInputStream[shards];
+        out = new DataOutputStream[shards];
+        try {
+            String[] hosts = new String[shards];
+            int[] ports = new int[shards];
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            server.setSoTimeout(1000);
+            for (int connected = 0; connected < shards; ) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    checkAlive(deadline);
+                    continue;
+                }
+                socket.setTcpNoDelay(true);
+                DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                int p = input.readInt();
+                Preconditions.checkState(p >= 0 && p < shards && sockets[p] == null, "Unexpected shard %s", p);
+                sockets[p] = socket;
+                in[p] = input;
+                out[p] = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                hosts[p] = socket.getInetAddress().getHostAddress();
+                ports[p] = input.readInt();
+                ++connected;
+            }
+            for (int p = 0; p < shards; ++p) {
+                for (int q = 0; q < shards; ++q) {
+                    out[p].writeUTF(hosts[q]);
+                    out[p].writeInt(ports[q]);
+                }
+                out[p].flush();
+            }
+            for (int p = 0; p < shards; ++p) {
+                sockets[p].setSoTimeout(TIMEOUT_MILLIS);
+                if (in[p].readByte() != READY) {
+                    throw new IOException("Shard " + p + " failed to connect to its peers");
+                }
+                sockets[p].setSoTimeout(0);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public int getShardCount() {
+        return graph.getShardCount();
+    }
+
+    public ShardedGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Run <code>algorithm</code> from <code>source</code>. Runs on one runtime take turns.
+     * @param source global vertex id
+     * @param maxSupersteps upper bound on supersteps
+     */
+    public synchronized ResultBean run(Algorithm algorithm, int source, int maxSupersteps) throws IOException {
+        Preconditions.checkState(!closed, "runtime is closed");
+        Preconditions.checkNotNull(algorithm);
+        Preconditions.checkElementIndex(source, graph.getVertexCount(), "source");
+        Preconditions.checkArgument(maxSupersteps >= 0);
+        long start = System.currentTimeMillis();
+        int shards = graph.getShardCount();
+        for (int p = 0; p < shards; ++p) {
+            out[p].writeByte(RUN);
+            out[p].writeInt(algorithm.ordinal());
+            out[p].writeInt(source);
+        }
+
+        int supersteps = 0;
+        long messages = 0, remote = 0;
+        boolean done = maxSupersteps == 0;
+        while (!done) {
+            for (int p = 0; p < shards; ++p) {
+                out[p].writeByte(STEP);
+                out[p].flush();
+            }
+            long frontier = 0;
+            for (int p = 0; p < shards; ++p) {
+                try {
+                    messages += in[p].readLong();
+                    remote += in[p].readLong();
+                    frontier += in[p].readInt();
+                } catch (IOException e) {
+                    throw failed(p, e);
+                }
+            }
+            ++supersteps;
+            done = frontier == 0 || supersteps >= maxSupersteps;
+        }
+
+        double[] values = new double[graph.getVertexCount()];
+        for (int p = 0; p < shards; ++p) {
+            out[p].writeByte(COLLECT);
+            out[p].flush();
+        }
+        for (int p = 0; p < shards; ++p) {
+            int[] globals = graph.readVertices(p);
+            try {
+                int size = in[p].readInt();
+                if (size != globals.length) {
+                    throw new IOException("reported " + size + " vertices, expected " + globals.length);
+                }
+                for (int global : globals) {
+                    values[global] = in[p].readDouble();
+                }
+            } catch (IOException e) {
+                throw failed(p, e);
+            }
+        }
+        return new ResultBean(values, supersteps, messages, remote, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Ask the workers to exit, and kill those that do not within the timeout.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int p = 0; p < sockets.length; ++p) {
+            if (sockets[p] == null) continue;
+            try {
+                out[p].writeByte(SHUTDOWN);
+                out[p].flush();
+            } catch (IOException e) {
+                // the worker is gone already
+            }
+            sockets[p].close();
+        }
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        for (Process process : processes) {
+            try {
+                long left = deadline - System.currentTimeMillis();
+                if (!process.waitFor(Math.max(0, left), TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static IOException failed(int p, IOException cause) {
+        return new IOException("Shard " + p + " worker failed", cause);
+    }
+
+    private void checkAlive(long deadline) throws IOException {
+        for (int p = 0; p < processes.size(); ++p) {
+            if (!processes.get(p).isAlive()) {
+                throw new IOException("Shard " + p + " worker exited with " + processes.get(p).exitValue());
+            }
+        }
+        if (System.currentTimeMillis() > deadline) {
+            throw new IOException("Workers did not connect within " + TIMEOUT_MILLIS + " ms");
+        }
+    }
+
+    public static class ResultBean {
+        private final double[] values;
+        private final int supersteps;
+        private final long messages;
+        private final long remoteMessages;
+        private final long millis;
+
+        private ResultBean(double[] values, int supersteps, long messages, long remoteMessages, long millis) {
+            this.values = values;
+            this.supersteps = supersteps;
+            this.messages = messages;
+            this.remoteMessages = remoteMessages;
+            this.millis = millis;
+        }
+
+        /**
+         * @return distance per global vertex id, positive infinity where unreached
+         */
+        public double[] getValues() {
+            return values;
+        }
+
+        public int getSupersteps() {
+            return supersteps;
+        }
+
+        public long getMessageCount() {
+            return messages;
+        }
+
+        /**
+         * @return messages that crossed shards, the ones a better partition saves
+         */
+        public long getRemoteMessageCount() {
+            return remoteMessages;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package vvakar.graph.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader of fixed-size binary records through one large direct buffer.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+class BlockReader implements Closeable {
+    static final int BLOCK_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int recordSize;
+    private boolean eof;
+
+    BlockReader(Path file, int recordSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.recordSize = recordSize;
+        this.buffer = ByteBuffer.allocateDirect(BLOCK_SIZE - BLOCK_SIZE % recordSize);
+        buffer.flip();
+    }
+
+    /**
+     * @return the buffer positioned at the next whole records, or null at end of file
+     */
+    ByteBuffer next() throws IOException {
+        buffer.compact();
+        while (!eof && buffer.position() < recordSize) {
+            eof = channel.read(buffer) < 0;
+        }
+        while (!eof && buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) eof = true;
+            else if (read == 0) break;
+        }
+        buffer.flip();
+        if (buffer.remaining() < recordSize) {
+            if (buffer.hasRemaining()) {
+                throw new IOException("Truncated record at end of file");
+            }
+            return null;
+        }
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
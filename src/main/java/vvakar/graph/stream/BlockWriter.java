@@ -0,0 +1,57 @@
+package vvakar.graph.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only writer of binary records, flushed in blocks.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+class BlockWriter implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long written;
+
+    BlockWriter(Path file, int blockSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(blockSize);
+    }
+
+    /**
+     * @return buffer with room for at least <code>bytes</code> more
+     */
+    ByteBuffer reserve(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+        written += bytes;
+        return buffer;
+    }
+
+    long getBytesWritten() {
+        return written;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package vvakar.graph.stream;
+
+/**
+ * Edge-centric computation run by {@link EdgeStreamEngine}. Each iteration streams every arc through
+ * {@link #scatter}, folds the resulting updates per target with {@link #gather}, then gives each vertex its new value
+ * through {@link #apply}. Vertex state is a single double per vertex.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public abstract class EdgeProgram {
+    public abstract double initialValue(int vertex, int vertexCount);
+
+    /**
+     * @return update for <code>target</code>, or <code>Double.NaN</code> to send nothing
+     */
+    public abstract double scatter(int source, int target, int weight, double sourceValue, int sourceOutDegree);
+
+    /**
+     * @return starting value of a gather accumulator
+     */
+    public abstract double identity();
+
+    public abstract double gather(double accumulator, double update);
+
+    /**
+     * @param hasUpdates whether any update reached <code>vertex</code> this iteration
+     * @return the new value of <code>vertex</code>
+     */
+    public abstract double apply(int vertex, double value, double accumulator, boolean hasUpdates);
+
+    /**
+     * If true, only vertices whose value changed in the previous iteration (all of them in the first one) are
+     * scattered from. The arcs of the others are still read, but they are skipped without a call.
+     */
+    public boolean isSelective() {
+        return true;
+    }
+
+    /**
+     * Decides whether the vertex counts as changed; the run converges once no vertex changes.
+     */
+    public boolean isChanged(double oldValue, double newValue) {
+        return Double.compare(oldValue, newValue) != 0;
+    }
+
+    /**
+     * Called before each scatter phase with the current state; may precompute global values.
+     */
+    public void beforeIteration(int iteration, double[] values, int[] outDegrees) {
+    }
+}
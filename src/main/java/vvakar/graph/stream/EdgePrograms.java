@@ -0,0 +1,150 @@
+package vvakar.graph.stream;
+
+/**
+ * Standard {@link EdgeProgram}s. Unreached vertices keep <code>Double.POSITIVE_INFINITY</code>.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgePrograms {
+    private EdgePrograms() {}
+
+    /**
+     * Hop distance from <code>source</code>.
+     */
+    public static EdgeProgram breadthFirst(int source) {
+        return new MinDistance(source, false);
+    }
+
+    /**
+     * Weighted distance from <code>source</code>, one relaxation round per iteration. Run for at most n iterations;
+     * a result that has not converged by then means a negative cycle.
+     */
+    public static EdgeProgram bellmanFord(int source) {
+        return new MinDistance(source, true);
+    }
+
+    /**
+     * Min-label propagation: every vertex ends up with the smallest id that can reach it, i.e. the smallest id of
+     * its connected component when the graph was imported as symmetric.
+     */
+    public static EdgeProgram components() {
+        return new EdgeProgram() {
+            @Override
+            public double initialValue(int vertex, int vertexCount) {
+                return vertex;
+            }
+
+            @Override
+            public double scatter(int source, int target, int weight, double sourceValue, int sourceOutDegree) {
+                // a label is never above its own id, so a larger one cannot improve the target
+                return sourceValue < target ? sourceValue : Double.NaN;
+            }
+
+            @Override
+            public double identity() {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            @Override
+            public double gather(double accumulator, double update) {
+                return Math.min(accumulator, update);
+            }
+
+            @Override
+            public double apply(int vertex, double value, double accumulator, boolean hasUpdates) {
+                return Math.min(value, accumulator);
+            }
+        };
+    }
+
+    /**
+     * PageRank with the same formulation as {@link vvakar.graph.analytics.PageRank}: rank of vertices without
+     * out-arcs is spread uniformly. A vertex counts as changed while its rank moves by more than
+     * <code>tolerance / n</code>.
+     */
+    public static EdgeProgram pageRank(final double damping, final double tolerance) {
+        return new EdgeProgram() {
+            private int n;
+            private double dangling;
+
+            @Override
+            public double initialValue(int vertex, int vertexCount) {
+                return 1.0 / vertexCount;
+            }
+
+            @Override
+            public void beforeIteration(int iteration, double[] values, int[] outDegrees) {
+                n = values.length;
+                dangling = 0;
+                for (int v = 0; v < n; ++v) {
+                    if (outDegrees[v] == 0) dangling += values[v];
+                }
+            }
+
+            @Override
+            public double scatter(int source, int target, int weight, double sourceValue, int sourceOutDegree) {
+                return sourceValue / sourceOutDegree;
+            }
+
+            @Override
+            public double identity() {
+                return 0;
+            }
+
+            @Override
+            public double gather(double accumulator, double update) {
+                return accumulator + update;
+            }
+
+            @Override
+            public double apply(int vertex, double value, double accumulator, boolean hasUpdates) {
+                return (1 - damping) / n + damping * (accumulator + dangling / n);
+            }
+
+            @Override
+            public boolean isSelective() {
+                return false;
+            }
+
+            @Override
+            public boolean isChanged(double oldValue, double newValue) {
+                return Math.abs(oldValue - newValue) > tolerance / n;
+            }
+        };
+    }
+
+    private static class MinDistance extends EdgeProgram {
+        private final int source;
+        private final boolean weighted;
+
+        private MinDistance(int source, boolean weighted) {
+            this.source = source;
+            this.weighted = weighted;
+        }
+
+        @Override
+        public double initialValue(int vertex, int vertexCount) {
+            return vertex == source ? 0 : Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public double scatter(int source, int target, int weight, double sourceValue, int sourceOutDegree) {
+            return sourceValue == Double.POSITIVE_INFINITY ? Double.NaN : sourceValue + (weighted ? weight : 1);
+        }
+
+        @Override
+        public double identity() {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public double gather(double accumulator, double update) {
+            return Math.min(accumulator, update);
+        }
+
+        @Override
+        public double apply(int vertex, double value, double accumulator, boolean hasUpdates) {
+            return Math.min(value, accumulator);
+        }
+    }
+}
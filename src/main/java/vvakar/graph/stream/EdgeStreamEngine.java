@@ -0,0 +1,209 @@
+package vvakar.graph.stream;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * X-Stream style edge-centric engine for graphs whose arcs do not fit in memory. Each iteration has two phases:
+ * <ol>
+ *     <li>scatter: stream every edge partition sequentially and run the program on each arc. Updates are appended
+ *     to the update file of the target's partition through one small buffer per partition</li>
+ *     <li>gather: for each partition, stream its update file into accumulators for the partition's vertices, then
+ *     apply the accumulators to the vertex values</li>
+ * </ol>
+ * All disk access is sequential and goes through large blocks. Memory is O(V): vertex values, accumulators, change
+ * flags and out-degrees, about 22 bytes per vertex, plus O(partitions) buffers. Arcs and updates never sit in
+ * memory as a whole.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgeStreamEngine {
+    private static final int UPDATE_RECORD = 12;
+    private static final int UPDATE_BUFFER = 1 << 16;
+
+    private final EdgeStreamGraph graph;
+    private final int[] outDegrees;
+
+    public EdgeStreamEngine(EdgeStreamGraph graph) throws IOException {
+        Preconditions.checkNotNull(graph);
+        this.graph = graph;
+        this.outDegrees = graph.readOutDegrees();
+    }
+
+    /**
+     * Iterate until no vertex changes or <code>maxIterations</code> is reached. Update files live in the graph
+     * directory during the run and are removed afterwards.
+     */
+    public ResultBean run(EdgeProgram program, int maxIterations) throws IOException {
+        Preconditions.checkNotNull(program);
+        Preconditions.checkArgument(maxIterations >= 0);
+        int n = graph.getVertexCount();
+        int partitions = graph.getPartitionCount();
+
+        double[] values = new double[n];
+        for (int v = 0; v < n; ++v) {
+            values[v] = program.initialValue(v, n);
+        }
+        boolean[] changed = new boolean[n];
+        Arrays.fill(changed, true);
+        double[] accumulators = new double[n];
+        boolean[] hasUpdates = new boolean[n];
+
+        long updates = 0, bytes = 0;
+        int iterations = 0;
+        boolean converged = n == 0;
+        try {
+            while (!converged && iterations < maxIterations) {
+                program.beforeIteration(iterations, values, outDegrees);
+
+                BlockWriter[] out = new BlockWriter[partitions];
+                try {
+                    for (int p = 0; p < partitions; ++p) {
+                        out[p] = new BlockWriter(updateFile(p), UPDATE_BUFFER);
+                    }
+                    for (int p = 0; p < partitions; ++p) {
+                        bytes += scatter(program, p, values, changed, out);
+                    }
+                } finally {
+                    for (BlockWriter writer : out) {
+                        if (writer != null) writer.close();
+                    }
+                }
+                for (BlockWriter writer : out) {
+                    updates += writer.getBytesWritten() / UPDATE_RECORD;
+                }
+
+                boolean any = false;
+                for (int p = 0; p < partitions; ++p) {
+                    bytes += gather(program, p, values, changed, accumulators, hasUpdates);
+                    for (int v = graph.partitionStart(p); v < graph.partitionEnd(p); ++v) {
+                        any |= changed[v];
+                    }
+                }
+                ++iterations;
+                converged = !any;
+            }
+        } finally {
+            for (int p = 0; p < partitions; ++p) {
+                Files.deleteIfExists(updateFile(p));
+            }
+        }
+        return new ResultBean(values, iterations, converged, updates, bytes);
+    }
+
+    /**
+     * @return bytes read
+     */
+    private long scatter(EdgeProgram program, int p, double[] values, boolean[] changed, BlockWriter[] out) throws IOException {
+        boolean selective = program.isSelective();
+        long bytes = 0;
+        BlockReader reader = new BlockReader(graph.edgeFile(p), EdgeStreamGraph.EDGE_RECORD);
+        try {
+            ByteBuffer buffer;
+            while ((buffer = reader.next()) != null) {
+                bytes += buffer.remaining();
+                while (buffer.remaining() >= EdgeStreamGraph.EDGE_RECORD) {
+                    int source = buffer.getInt(), target = buffer.getInt(), weight = buffer.getInt();
+                    if (selective && !changed[source]) {
+                        continue;
+                    }
+                    double update = program.scatter(source, target, weight, values[source], outDegrees[source]);
+                    if (!Double.isNaN(update)) {
+                        out[graph.partitionOf(target)].reserve(UPDATE_RECORD).putInt(target).putDouble(update);
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return bytes;
+    }
+
+    /**
+     * Fold partition p's updates and apply them, leaving the change flags of its vertices set for the next scatter.
+     * @return bytes read
+     */
+    private long gather(EdgeProgram program, int p, double[] values, boolean[] changed, double[] accumulators,
+                        boolean[] hasUpdates) throws IOException {
+        int from = graph.partitionStart(p), to = graph.partitionEnd(p);
+        Arrays.fill(accumulators, from, to, program.identity());
+        Arrays.fill(hasUpdates, from, to, false);
+
+        long bytes = 0;
+        BlockReader reader = new BlockReader(updateFile(p), UPDATE_RECORD);
+        try {
+            ByteBuffer buffer;
+            while ((buffer = reader.next()) != null) {
+                bytes += buffer.remaining();
+                while (buffer.remaining() >= UPDATE_RECORD) {
+                    int target = buffer.getInt();
+                    accumulators[target] = program.gather(accumulators[target], buffer.getDouble());
+                    hasUpdates[target] = true;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        for (int v = from; v < to; ++v) {
+            double value = program.apply(v, values[v], accumulators[v], hasUpdates[v]);
+            changed[v] = program.isChanged(values[v], value);
+            values[v] = value;
+        }
+        return bytes;
+    }
+
+    private Path updateFile(int partition) {
+        return graph.getDirectory().resolve("updates-" + partition + ".bin");
+    }
+
+    public static class ResultBean {
+        private final double[] values;
+        private final int iterations;
+        private final boolean converged;
+        private final long updates;
+        private final long bytesRead;
+
+        private ResultBean(double[] values, int iterations, boolean converged, long updates, long bytesRead) {
+            this.values = values;
+            this.iterations = iterations;
+            this.converged = converged;
+            this.updates = updates;
+            this.bytesRead = bytesRead;
+        }
+
+        /**
+         * @return final value per vertex id
+         */
+        public double[] getValues() {
+            return values;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        /**
+         * @return false if the run stopped at the iteration limit with vertices still changing
+         */
+        public boolean isConverged() {
+            return converged;
+        }
+
+        public long getUpdateCount() {
+            return updates;
+        }
+
+        /**
+         * @return bytes streamed from edge and update files
+         */
+        public long getBytesRead() {
+            return bytesRead;
+        }
+    }
+}
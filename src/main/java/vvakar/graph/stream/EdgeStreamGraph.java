@@ -0,0 +1,260 @@
+package vvakar.graph.stream;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-disk edge list split into streaming partitions for {@link EdgeStreamEngine}. Vertices are ids
+ * <code>0..n-1</code> cut into equal contiguous ranges. Partition p holds, unordered, every arc whose source lies
+ * in range p as 12-byte records <code>(source, target, weight)</code>. Nothing but the metadata is kept in memory.
+ * <p>
+ * Directory layout: <code>meta.bin</code> (vertex count, arc count, partition count), <code>degrees.bin</code>
+ * (out-degree per vertex), <code>edges-p.bin</code> per partition and, for imported text graphs,
+ * <code>vertices.txt</code> with the original vertex names in id order.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgeStreamGraph {
+    static final int EDGE_RECORD = 12;
+    private static final String META = "meta.bin", DEGREES = "degrees.bin", NAMES = "vertices.txt";
+
+    private final Path directory;
+    private final int vertexCount;
+    private final long arcCount;
+    private final int partitions;
+    private final int partitionSize;
+
+    private EdgeStreamGraph(Path directory, int vertexCount, long arcCount, int partitions) {
+        this.directory = directory;
+        this.vertexCount = vertexCount;
+        this.arcCount = arcCount;
+        this.partitions = partitions;
+        this.partitionSize = partitionSize(vertexCount, partitions);
+    }
+
+    public static EdgeStreamGraph open(Path directory) throws IOException {
+        DataInputStream in = new DataInputStream(Files.newInputStream(directory.resolve(META)));
+        try {
+            return new EdgeStreamGraph(directory, in.readInt(), in.readLong(), in.readInt());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Convert a text edge list in the format read by <code>Util.getDirectedGraph</code> (a "vertices edges" header,
+     * then "tail head weight" per line) in two streaming passes: the first assigns dense ids, the second writes
+     * arcs. Only the name dictionary is held in memory.
+     * @param symmetric also write every edge in the reverse direction
+     */
+    public static EdgeStreamGraph importText(Path text, Path directory, int partitions, boolean symmetric) throws IOException {
+        Map<String, Integer> ids = Maps.newHashMap();
+        List<String> names = new ArrayList<String>();
+        BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.UTF_8);
+        try {
+            reader.readLine(); // vertices edges
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] vals = line.split(" ");
+                if (vals.length < 2) continue;
+                for (int i = 0; i < 2; ++i) {
+                    if (!ids.containsKey(vals[i])) {
+                        ids.put(vals[i], names.size());
+                        names.add(vals[i]);
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        Files.createDirectories(directory);
+        BufferedWriter nameWriter = Files.newBufferedWriter(directory.resolve(NAMES), StandardCharsets.UTF_8);
+        try {
+            for (String name : names) {
+                nameWriter.write(name);
+                nameWriter.newLine();
+            }
+        } finally {
+            nameWriter.close();
+        }
+
+        Writer writer = new Writer(directory, names.size(), partitions);
+        reader = Files.newBufferedReader(text, StandardCharsets.UTF_8);
+        try {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] vals = line.split(" ");
+                if (vals.length < 2) continue;
+                // tail head weight
+                int tail = ids.get(vals[0]), head = ids.get(vals[1]);
+                int weight = vals.length > 2 ? Integer.parseInt(vals[2]) : 1;
+                writer.addArc(tail, head, weight);
+                if (symmetric && tail != head) {
+                    writer.addArc(head, tail, weight);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return writer.finish();
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public long getArcCount() {
+        return arcCount;
+    }
+
+    public int getPartitionCount() {
+        return partitions;
+    }
+
+    public int partitionOf(int vertex) {
+        return vertex / partitionSize;
+    }
+
+    public int partitionStart(int partition) {
+        return (int) Math.min((long) partition * partitionSize, vertexCount);
+    }
+
+    public int partitionEnd(int partition) {
+        return partitionStart(partition + 1);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    Path edgeFile(int partition) {
+        return directory.resolve("edges-" + partition + ".bin");
+    }
+
+    public int[] readOutDegrees() throws IOException {
+        int[] degrees = new int[vertexCount];
+        BlockReader reader = new BlockReader(directory.resolve(DEGREES), 4);
+        try {
+            int v = 0;
+            ByteBuffer buffer;
+            while ((buffer = reader.next()) != null) {
+                while (buffer.remaining() >= 4) {
+                    degrees[v++] = buffer.getInt();
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return degrees;
+    }
+
+    /**
+     * @return original vertex names by id; only available for graphs created by {@link #importText}
+     */
+    public List<String> readVertexNames() throws IOException {
+        return Files.readAllLines(directory.resolve(NAMES), StandardCharsets.UTF_8);
+    }
+
+    private static int partitionSize(int vertexCount, int partitions) {
+        return Math.max(1, (vertexCount + partitions - 1) / partitions);
+    }
+
+    /**
+     * Streaming builder: arcs go straight to their partition file through a small buffer per partition.
+     */
+    public static class Writer implements Closeable {
+        private static final int BUFFER = 1 << 16;
+
+        private final Path directory;
+        private final int vertexCount;
+        private final int partitions;
+        private final int partitionSize;
+        private final BlockWriter[] files;
+        private final int[] degrees;
+        private long arcs;
+        private boolean finished;
+
+        public Writer(Path directory, int vertexCount, int partitions) throws IOException {
+            Preconditions.checkArgument(vertexCount >= 0);
+            Preconditions.checkArgument(partitions > 0, "need at least one partition");
+            Files.createDirectories(directory);
+            this.directory = directory;
+            this.vertexCount = vertexCount;
+            this.partitions = partitions;
+            this.partitionSize = partitionSize(vertexCount, partitions);
+            this.degrees = new int[vertexCount];
+            files = new BlockWriter[partitions];
+            for (int p = 0; p < partitions; ++p) {
+                files[p] = new BlockWriter(directory.resolve("edges-" + p + ".bin"), BUFFER);
+            }
+        }
+
+        public void addArc(int source, int target, int weight) throws IOException {
+            Preconditions.checkState(!finished, "already finished");
+            Preconditions.checkElementIndex(source, vertexCount);
+            Preconditions.checkElementIndex(target, vertexCount);
+            files[source / partitionSize].reserve(EDGE_RECORD).putInt(source).putInt(target).putInt(weight);
+            ++degrees[source];
+            ++arcs;
+        }
+
+        /**
+         * Flush partitions and write the metadata.
+         */
+        public EdgeStreamGraph finish() throws IOException {
+            close();
+            DataOutputStream meta = new DataOutputStream(Files.newOutputStream(directory.resolve(META)));
+            try {
+                meta.writeInt(vertexCount);
+                meta.writeLong(arcs);
+                meta.writeInt(partitions);
+            } finally {
+                meta.close();
+            }
+            BlockWriter degreeFile = new BlockWriter(directory.resolve(DEGREES), BUFFER);
+            try {
+                for (int d : degrees) {
+                    degreeFile.reserve(4).putInt(d);
+                }
+            } finally {
+                degreeFile.close();
+            }
+            return new EdgeStreamGraph(directory, vertexCount, arcs, partitions);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            IOException failure = null;
+            for (BlockWriter file : files) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package vvakar.graph.traversal;
+
+import com.google.common.base.Preconditions;
+import vvakar.graph.components.CsrGraph;
+
+import java.util.Arrays;
+
+/**
+ * Depth-first search over a {@link CsrGraph} with an explicit <code>int[]</code> stack, so path depth is bounded
+ * by the vertex count rather than the thread stack. Reports discover/finish events and non-tree arcs to a
+ * {@link Visitor}. All state is allocated once per engine; {@link #reset()} makes it reusable.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class DepthFirstSearch {
+    private static final byte UNSEEN = 0, ON_PATH = 1, FINISHED = 2;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] stack;
+    private final int[] nextArc;
+    private final byte[] state;
+
+    public DepthFirstSearch(CsrGraph<?> csr) {
+        Preconditions.checkNotNull(csr);
+        offsets = csr.getOffsets();
+        targets = csr.getTargets();
+        stack = new int[csr.vertexCount()];
+        nextArc = new int[csr.vertexCount()];
+        state = new byte[csr.vertexCount()];
+    }
+
+    /**
+     * Receives traversal events. Vertices are finished in post-order.
+     */
+    public interface Visitor {
+        /**
+         * @param parent tree parent, or -1 for a search root
+         */
+        void discover(int v, int parent);
+
+        /**
+         * Arc <code>u -> v</code> where <code>v</code> was already discovered: back arc if
+         * {@link #isOnPath(int) v is on the current path}, forward or cross arc otherwise.
+         */
+        void nonTreeArc(int u, int v);
+
+        /**
+         * @param parent tree parent, or -1 for a search root
+         */
+        void finish(int v, int parent);
+    }
+
+    /**
+     * No-op {@link Visitor} to extend.
+     */
+    public static class VisitorAdapter implements Visitor {
+        @Override
+        public void discover(int v, int parent) {}
+
+        @Override
+        public void nonTreeArc(int u, int v) {}
+
+        @Override
+        public void finish(int v, int parent) {}
+    }
+
+    /**
+     * Search from every not yet discovered vertex, in id order.
+     */
+    public void runAll(Visitor visitor) {
+        for (int v = 0; v < state.length; ++v) {
+            if (state[v] == UNSEEN) {
+                run(v, visitor);
+            }
+        }
+    }
+
+    /**
+     * Search from <code>root</code> unless it was already discovered.
+     */
+    public void run(int root, Visitor visitor) {
+        Preconditions.checkNotNull(visitor);
+        if (state[root] != UNSEEN) {
+            return;
+        }
+
+        int top = 0;
+        stack[top] = root;
+        nextArc[top] = offsets[root];
+        state[root] = ON_PATH;
+        visitor.discover(root, -1);
+
+        while (top >= 0) {
+            int u = stack[top];
+            int i = nextArc[top];
+            if (i < offsets[u + 1]) {
+                nextArc[top] = i + 1;
+                int v = targets[i];
+                if (state[v] == UNSEEN) {
+                    ++top;
+                    stack[top] = v;
+                    nextArc[top] = offsets[v];
+                    state[v] = ON_PATH;
+                    visitor.discover(v, u);
+                } else {
+                    visitor.nonTreeArc(u, v);
+                }
+            } else {
+                state[u] = FINISHED;
+                --top;
+                visitor.finish(u, top >= 0 ? stack[top] : -1);
+            }
+        }
+    }
+
+    public boolean isDiscovered(int v) {
+        return state[v] != UNSEEN;
+    }
+
+    /**
+     * @return true if <code>v</code> is discovered but not finished, i.e. on the current DFS path
+     */
+    public boolean isOnPath(int v) {
+        return state[v] == ON_PATH;
+    }
+
+    public void reset() {
+        Arrays.fill(state, UNSEEN);
+    }
+}
@@ -0,0 +1,277 @@
+package vvakar.graph.traversal;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import vvakar.graph.components.AbstractGraph;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.IndexedMinHeap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-source paths that pick the cheapest correct algorithm for the graph at hand:
+ * <ul>
+ *     <li>all weights 1: breadth-first search, O(V + E)</li>
+ *     <li>acyclic: relaxation in topological order, O(V + E); also the only mode offering longest paths</li>
+ *     <li>no negative weights: Dijkstra, O(E log V)</li>
+ *     <li>otherwise: Bellman-Ford, O(VE)</li>
+ * </ul>
+ * The primitive snapshot and its classification are cached until the next modification of the graph
+ * (tracked through {@link AbstractGraph#getModCount()}; other graph implementations are re-planned on every call).
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShortestPathPlanner<V extends Vertex, E extends Edge> {
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    public enum Algorithm { BREADTH_FIRST, DAG_RELAXATION, DIJKSTRA, BELLMAN_FORD }
+
+    private final Graph<V, E> graph;
+    private Plan<V> plan;
+
+    public ShortestPathPlanner(Graph<V, E> graph) {
+        Preconditions.checkNotNull(graph);
+        this.graph = graph;
+    }
+
+    /**
+     * @return algorithm that {@link #getShortestPaths} will use for the current state of the graph
+     */
+    public Algorithm getAlgorithm() {
+        return plan().algorithm;
+    }
+
+    public boolean isAcyclic() {
+        return plan().topologicalOrder != null;
+    }
+
+    public PathsBean<V> getShortestPaths(V start) {
+        Plan<V> p = plan();
+        int s = idOf(p, start);
+        int n = p.csr.vertexCount();
+        long[] dist = new long[n];
+        int[] pred = new int[n];
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(pred, -1);
+        dist[s] = 0;
+
+        switch (p.algorithm) {
+            case BREADTH_FIRST:
+                breadthFirst(p.csr, s, dist, pred);
+                break;
+            case DAG_RELAXATION:
+                topologicalRelaxation(p.csr, p.topologicalOrder, dist, pred, false);
+                break;
+            case DIJKSTRA:
+                dijkstra(p.csr, s, dist, pred);
+                break;
+            default:
+                bellmanFord(p.csr, dist, pred);
+        }
+        return new PathsBean<V>(p.csr, s, dist, pred, p.algorithm);
+    }
+
+    /**
+     * Longest (critical) paths from <code>start</code>, O(V + E).
+     * @throws RuntimeException if the graph has a cycle
+     */
+    public PathsBean<V> getLongestPaths(V start) {
+        Plan<V> p = plan();
+        if (p.topologicalOrder == null) {
+            throw new RuntimeException("Longest paths need an acyclic graph");
+        }
+        int s = idOf(p, start);
+        int n = p.csr.vertexCount();
+        long[] dist = new long[n];
+        int[] pred = new int[n];
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(pred, -1);
+        dist[s] = 0;
+        topologicalRelaxation(p.csr, p.topologicalOrder, dist, pred, true);
+        return new PathsBean<V>(p.csr, s, dist, pred, Algorithm.DAG_RELAXATION);
+    }
+
+    private int idOf(Plan<V> p, V v) {
+        Preconditions.checkNotNull(v);
+        int id = p.csr.getId(v);
+        Preconditions.checkArgument(id >= 0, "Unknown vertex %s", v);
+        return id;
+    }
+
+    private synchronized Plan<V> plan() {
+        int modCount = graph instanceof AbstractGraph ? ((AbstractGraph) graph).getModCount() : -1;
+        if (plan == null || modCount < 0 || plan.modCount != modCount) {
+            plan = new Plan<V>(CsrGraph.copyOf(graph), modCount);
+        }
+        return plan;
+    }
+
+    private static class Plan<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final int modCount;
+        private final int[] topologicalOrder;
+        private final Algorithm algorithm;
+
+        private Plan(CsrGraph<V> csr, int modCount) {
+            this.csr = csr;
+            this.modCount = modCount;
+            this.topologicalOrder = TopologicalSort.trySort(csr);
+
+            boolean unit = true, negative = false;
+            for (int w : csr.getWeights()) {
+                unit &= w == 1;
+                negative |= w < 0;
+            }
+            if (unit) {
+                algorithm = Algorithm.BREADTH_FIRST;
+            } else if (topologicalOrder != null) {
+                algorithm = Algorithm.DAG_RELAXATION;
+            } else if (!negative) {
+                algorithm = Algorithm.DIJKSTRA;
+            } else {
+                algorithm = Algorithm.BELLMAN_FORD;
+            }
+        }
+    }
+
+    private static void breadthFirst(CsrGraph<?> csr, int s, long[] dist, int[] pred) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        int[] queue = new int[csr.vertexCount()];
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                int v = targets[i];
+                if (dist[v] == UNREACHABLE) {
+                    dist[v] = dist[u] + 1;
+                    pred[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+    }
+
+    private static void topologicalRelaxation(CsrGraph<?> csr, int[] order, long[] dist, int[] pred, boolean longest) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+        for (int u : order) {
+            if (dist[u] == UNREACHABLE) {
+                continue;
+            }
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                int v = targets[i];
+                long candidate = dist[u] + weights[i];
+                if (dist[v] == UNREACHABLE || (longest ? candidate > dist[v] : candidate < dist[v])) {
+                    dist[v] = candidate;
+                    pred[v] = u;
+                }
+            }
+        }
+    }
+
+    private static void dijkstra(CsrGraph<?> csr, int s, long[] dist, int[] pred) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+        IndexedMinHeap heap = new IndexedMinHeap(csr.vertexCount());
+        boolean[] settled = new boolean[csr.vertexCount()];
+        heap.offer(s, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[u] = true;
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                int v = targets[i];
+                long candidate = dist[u] + weights[i];
+                if (!settled[v] && candidate < dist[v]) {
+                    dist[v] = candidate;
+                    pred[v] = u;
+                    heap.offer(v, candidate);
+                }
+            }
+        }
+    }
+
+    private static void bellmanFord(CsrGraph<?> csr, long[] dist, int[] pred) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets(), weights = csr.getWeights();
+        int n = csr.vertexCount();
+        boolean changed = true;
+        for (int pass = 0; pass < n && changed; ++pass) {
+            changed = false;
+            for (int u = 0; u < n; ++u) {
+                if (dist[u] == UNREACHABLE) {
+                    continue;
+                }
+                for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                    int v = targets[i];
+                    long candidate = dist[u] + weights[i];
+                    if (candidate < dist[v]) {
+                        dist[v] = candidate;
+                        pred[v] = u;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        if (changed) {
+            throw new RuntimeException("Negative-weight cycle detected!");
+        }
+    }
+
+    /**
+     * Distances and predecessors from one start vertex.
+     */
+    public static class PathsBean<V extends Vertex> {
+        private final CsrGraph<V> csr;
+        private final int start;
+        private final long[] distances;
+        private final int[] predecessors;
+        private final Algorithm algorithm;
+
+        private PathsBean(CsrGraph<V> csr, int start, long[] distances, int[] predecessors, Algorithm algorithm) {
+            this.csr = csr;
+            this.start = start;
+            this.distances = distances;
+            this.predecessors = predecessors;
+            this.algorithm = algorithm;
+        }
+
+        public V getStart() {
+            return csr.getVertex(start);
+        }
+
+        /**
+         * @return total path weight, or {@link #UNREACHABLE}
+         */
+        public long getDistance(V v) {
+            int id = csr.getId(v);
+            return id < 0 ? UNREACHABLE : distances[id];
+        }
+
+        public boolean isReachable(V v) {
+            return getDistance(v) != UNREACHABLE;
+        }
+
+        /**
+         * @return vertices from the start to <code>end</code> inclusive, empty if unreachable
+         */
+        public List<V> getPath(V end) {
+            int id = csr.getId(end);
+            if (id < 0 || distances[id] == UNREACHABLE) {
+                return Collections.emptyList();
+            }
+            List<V> path = Lists.newArrayList();
+            for (int v = id; v >= 0; v = predecessors[v]) {
+                path.add(csr.getVertex(v));
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+    }
+}
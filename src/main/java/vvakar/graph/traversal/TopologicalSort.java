@@ -0,0 +1,75 @@
+package vvakar.graph.traversal;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Edge;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.List;
+
+/**
+ * Topological order via reverse DFS finish order on the iterative {@link DepthFirstSearch}. O(V + E).
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class TopologicalSort {
+    private TopologicalSort() {}
+
+    /**
+     * @return vertices such that every edge points from an earlier to a later one
+     * @throws RuntimeException if the graph has a cycle
+     */
+    public static <V extends Vertex, E extends Edge> List<V> sort(Graph<V, E> graph) {
+        CsrGraph<V> csr = CsrGraph.copyOf(graph);
+        int[] order = sort(csr);
+        List<V> retval = Lists.newArrayListWithCapacity(order.length);
+        for (int v : order) {
+            retval.add(csr.getVertex(v));
+        }
+        return retval;
+    }
+
+    /**
+     * @return vertex ids such that every arc points from an earlier to a later one
+     * @throws RuntimeException if the graph has a cycle
+     */
+    public static int[] sort(CsrGraph<?> csr) {
+        int[] order = trySort(csr);
+        if (order == null) {
+            throw new RuntimeException("Cycle detected, graph has no topological order");
+        }
+        return order;
+    }
+
+    public static boolean isAcyclic(CsrGraph<?> csr) {
+        return trySort(csr) != null;
+    }
+
+    /**
+     * @return topological order, or null if the graph has a cycle
+     */
+    static int[] trySort(CsrGraph<?> csr) {
+        Preconditions.checkNotNull(csr);
+        final int[] order = new int[csr.vertexCount()];
+        final DepthFirstSearch dfs = new DepthFirstSearch(csr);
+        final boolean[] cyclic = new boolean[1];
+        dfs.runAll(new DepthFirstSearch.VisitorAdapter() {
+            private int position = order.length;
+
+            @Override
+            public void nonTreeArc(int u, int v) {
+                if (dfs.isOnPath(v)) {
+                    cyclic[0] = true;
+                }
+            }
+
+            @Override
+            public void finish(int v, int parent) {
+                order[--position] = v;
+            }
+        });
+        return cyclic[0] ? null : order;
+    }
+}
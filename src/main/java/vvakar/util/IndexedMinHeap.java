@@ -0,0 +1,122 @@
+package vvakar.util;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over the ints <code>0..capacity-1</code> keyed by <code>long</code> priorities, with
+ * O(log n) decrease-key. Lets Dijkstra-style loops run without allocating an object per relaxation.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] position;
+    private final long[] keys;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        Preconditions.checkArgument(capacity >= 0);
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    public long getKey(int item) {
+        Preconditions.checkArgument(contains(item));
+        return keys[item];
+    }
+
+    /**
+     * Insert <code>item</code>, or lower its key if it is already queued with a larger one.
+     * @return true if the heap changed
+     */
+    public boolean offer(int item, long key) {
+        if (position[item] < 0) {
+            keys[item] = key;
+            heap[size] = item;
+            position[item] = size;
+            siftUp(size++);
+            return true;
+        } else if (key < keys[item]) {
+            keys[item] = key;
+            siftUp(position[item]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return item with the smallest key, removed from the heap
+     */
+    public int poll() {
+        Preconditions.checkState(size > 0, "heap is empty");
+        int top = heap[0];
+        position[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if (keys[p] <= key) {
+                break;
+            }
+            heap[i] = p;
+            position[p] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                ++child;
+            }
+            int c = heap[child];
+            if (key <= keys[c]) {
+                break;
+            }
+            heap[i] = c;
+            position[c] = i;
+            i = child;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+}
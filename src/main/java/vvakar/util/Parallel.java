@@ -0,0 +1,72 @@
+package vvakar.util;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Minimal data-parallel loop helper on top of the common fork/join pool.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class Parallel {
+    private static final int DEFAULT_GRAIN = 1 << 12;
+
+    private Parallel() {}
+
+    /**
+     * Body of a parallel loop, invoked once per disjoint sub-range <code>[from, to)</code>.
+     */
+    public interface RangeTask {
+        void run(int from, int to);
+    }
+
+    public static int parallelism() {
+        return ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    public static void forRange(int from, int to, RangeTask task) {
+        forRange(from, to, DEFAULT_GRAIN, task);
+    }
+
+    /**
+     * Run <code>task</code> over <code>[from, to)</code>, split into chunks of at least <code>grain</code>
+     * indexes. Returns once every chunk has completed.
+     */
+    public static void forRange(int from, int to, int grain, RangeTask task) {
+        Preconditions.checkNotNull(task);
+        Preconditions.checkArgument(grain > 0);
+        if (to - from <= grain) {
+            if (from < to) {
+                task.run(from, to);
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new RangeAction(from, to, grain, task));
+        }
+    }
+
+    private static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to, grain;
+        private final RangeTask task;
+
+        private RangeAction(int from, int to, int grain, RangeTask task) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                task.run(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeAction(from, mid, grain, task), new RangeAction(mid, to, grain, task));
+            }
+        }
+    }
+}
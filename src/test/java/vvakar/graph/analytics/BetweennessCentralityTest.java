@@ -0,0 +1,86 @@
+package vvakar.graph.analytics;
+
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.components.SimpleUndirectedGraph;
+import vvakar.graph.components.UndirectedEdge;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BetweennessCentralityTest {
+    private static final double EPSILON = 1e-9;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+
+    @Test
+    public void testStar() {
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        graph.put(new UndirectedEdge<Vertex>(v1, v2, 1));
+        graph.put(new UndirectedEdge<Vertex>(v1, v3, 1));
+        graph.put(new UndirectedEdge<Vertex>(v1, v4, 1));
+        graph.put(new UndirectedEdge<Vertex>(v1, v5, 1));
+
+        BetweennessCentrality.CentralityBean<Vertex> bc = BetweennessCentrality.compute(graph);
+        assertEquals(6, bc.getCentrality(v1), EPSILON);
+        assertEquals(0, bc.getCentrality(v2), EPSILON);
+        assertTrue(bc.isExact());
+        assertEquals(0, bc.getErrorBound(0.05), EPSILON);
+    }
+
+    @Test
+    public void testDirectedPath() {
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2));
+        graph.put(directedEdge(v2, v3));
+        graph.put(directedEdge(v3, v4));
+
+        BetweennessCentrality.CentralityBean<Vertex> bc = BetweennessCentrality.compute(graph);
+        assertEquals(0, bc.getCentrality(v1), EPSILON);
+        assertEquals(2, bc.getCentrality(v2), EPSILON);
+        assertEquals(2, bc.getCentrality(v3), EPSILON);
+    }
+
+    @Test
+    public void testWeightedSplitsPaths() {
+        /*
+            v1 -1-> v2 -1-> v4,  v1 -1-> v3 -1-> v4,  v1 -5-> v4
+         */
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2, 1));
+        graph.put(directedEdge(v2, v4, 1));
+        graph.put(directedEdge(v1, v3, 1));
+        graph.put(directedEdge(v3, v4, 1));
+        graph.put(directedEdge(v1, v4, 5));
+
+        BetweennessCentrality.CentralityBean<Vertex> bc = BetweennessCentrality.compute(graph);
+        assertEquals(0.5, bc.getCentrality(v2), EPSILON);
+        assertEquals(0.5, bc.getCentrality(v3), EPSILON);
+
+        BetweennessCentrality.CentralityBean<Vertex> hops = BetweennessCentrality.compute(CsrGraph.copyOf(graph), false);
+        assertEquals(0, hops.getCentrality(v2), EPSILON);
+    }
+
+    @Test
+    public void testApproximateWithinBound() throws Exception {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(Util.getDirectedGraph("graph1.txt"));
+        BetweennessCentrality.CentralityBean<Vertex> exact = BetweennessCentrality.compute(csr, false);
+        BetweennessCentrality.CentralityBean<Vertex> approx = BetweennessCentrality.approximate(csr, false, 200, 33);
+        assertFalse(approx.isExact());
+        assertEquals(200, approx.getSampleCount());
+
+        double bound = approx.getErrorBound(0.01);
+        for (int v = 0; v < csr.vertexCount(); ++v) {
+            assertEquals(exact.getCentralities()[v], approx.getCentralities()[v], bound);
+        }
+    }
+}
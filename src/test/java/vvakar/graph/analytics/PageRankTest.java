@@ -0,0 +1,84 @@
+package vvakar.graph.analytics;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class PageRankTest {
+    private static final double EPSILON = 1e-6;
+    SimpleDirectedGraph<Vertex> graph;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4");
+
+    @Before
+    public void before() {
+        /*
+            v1 <-> v2 -> v3 -> v1,  v4 -> v3
+         */
+        graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2));
+        graph.put(directedEdge(v2, v1));
+        graph.put(directedEdge(v2, v3));
+        graph.put(directedEdge(v3, v1));
+        graph.put(directedEdge(v4, v3));
+    }
+
+    @Test
+    public void testEmpty() {
+        PageRank.RankBean<Vertex> ranks = PageRank.compute(new SimpleDirectedGraph<Vertex>());
+        assertEquals(0, ranks.getRanks().length);
+    }
+
+    @Test
+    public void testRanksSumToOne() {
+        PageRank.RankBean<Vertex> ranks = PageRank.compute(graph);
+        assertEquals(1.0, sum(ranks.getRanks()), EPSILON);
+        assertTrue(ranks.getResidual() <= PageRank.DEFAULT_TOLERANCE);
+        assertTrue(ranks.getRank(v1) > ranks.getRank(v2));
+        assertTrue(ranks.getRank(v2) > ranks.getRank(v3));
+        assertEquals(0.15 / 4, ranks.getRank(v4), EPSILON);
+    }
+
+    @Test
+    public void testDanglingVertices() {
+        SimpleDirectedGraph<Vertex> star = new SimpleDirectedGraph<Vertex>();
+        star.put(directedEdge(v1, v2));
+        star.put(directedEdge(v1, v3));
+        PageRank.RankBean<Vertex> ranks = PageRank.compute(star);
+        assertEquals(1.0, sum(ranks.getRanks()), EPSILON);
+        assertEquals(ranks.getRank(v2), ranks.getRank(v3), EPSILON);
+    }
+
+    @Test
+    public void testPersonalized() {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(graph);
+        PageRank.RankBean<Vertex> ranks = PageRank.personalized(csr, ImmutableList.of(v4), 0.85, 1e-9, 200);
+        assertEquals(1.0, sum(ranks.getRanks()), EPSILON);
+        assertEquals(0.15, ranks.getRank(v4), EPSILON);
+    }
+
+    @Test
+    public void testHw1() throws Exception {
+        PageRank.RankBean<Vertex> ranks = PageRank.compute(Util.getDirectedGraph("graph1.txt"));
+        assertEquals(1.0, sum(ranks.getRanks()), EPSILON);
+        System.out.println("Iterations: " + ranks.getIterations());
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double v : values) total += v;
+        return total;
+    }
+}
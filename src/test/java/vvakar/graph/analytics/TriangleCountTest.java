@@ -0,0 +1,103 @@
+package vvakar.graph.analytics;
+
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleUndirectedGraph;
+import vvakar.graph.components.UndirectedEdge;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class TriangleCountTest {
+    private static final double EPSILON = 1e-9;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+
+    @Test
+    public void testEmpty() {
+        TriangleCount.TrianglesBean<Vertex> triangles = TriangleCount.compute(new SimpleUndirectedGraph<Vertex>());
+        assertEquals(0, triangles.getTriangleCount());
+        assertEquals(0, triangles.getTransitivity(), EPSILON);
+    }
+
+    @Test
+    public void testCliquePlusTail() {
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        Vertex[] clique = {v1, v2, v3, v4};
+        for (int i = 0; i < clique.length; ++i) {
+            for (int j = i + 1; j < clique.length; ++j) {
+                graph.put(new UndirectedEdge<Vertex>(clique[i], clique[j], 1));
+            }
+        }
+        graph.put(new UndirectedEdge<Vertex>(v4, v5, 1));
+
+        TriangleCount.TrianglesBean<Vertex> triangles = TriangleCount.compute(graph);
+        assertEquals(4, triangles.getTriangleCount());
+        assertEquals(3, triangles.getTriangleCount(v1));
+        assertEquals(3, triangles.getTriangleCount(v4));
+        assertEquals(0, triangles.getTriangleCount(v5));
+        assertEquals(1.0, triangles.getClusteringCoefficient(v1), EPSILON);
+        assertEquals(0.5, triangles.getClusteringCoefficient(v4), EPSILON);
+        assertEquals(0, triangles.getClusteringCoefficient(v5), EPSILON);
+        assertEquals(3.0 * 4 / (3 * 3 + 6), triangles.getTransitivity(), EPSILON);
+    }
+
+    @Test
+    public void testRandomMatchesBruteForce() {
+        Random random = new Random(32);
+        int n = 300, m = 6000;
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("" + i));
+        }
+        int[] tails = new int[m], heads = new int[m], weights = new int[m];
+        boolean[][] adjacent = new boolean[n][n];
+        for (int i = 0; i < m; ++i) {
+            // vertex 0 is a hub, so galloping intersections get exercised
+            tails[i] = i % 4 == 0 ? 0 : random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            if (tails[i] != heads[i]) {
+                adjacent[tails[i]][heads[i]] = adjacent[heads[i]][tails[i]] = true;
+            }
+        }
+
+        long expected = 0;
+        long[] expectedPerVertex = new long[n];
+        for (int a = 0; a < n; ++a)
+            for (int b = a + 1; b < n; ++b)
+                if (adjacent[a][b])
+                    for (int c = b + 1; c < n; ++c)
+                        if (adjacent[a][c] && adjacent[b][c]) {
+                            ++expected;
+                            ++expectedPerVertex[a];
+                            ++expectedPerVertex[b];
+                            ++expectedPerVertex[c];
+                        }
+
+        TriangleCount.TrianglesBean<Vertex> triangles =
+                TriangleCount.compute(CsrGraph.fromArcs(vertices, tails, heads, weights, m));
+        assertEquals(expected, triangles.getTriangleCount());
+        for (int v = 0; v < n; ++v) {
+            assertEquals(expectedPerVertex[v], triangles.getTriangleCount(vertices.get(v)));
+        }
+    }
+
+    @Test
+    public void testGallopingIntersection() {
+        int[] a = {3, 7, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25,
+                26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51,
+                52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70};
+        int[] out = new int[2];
+        assertEquals(2, TriangleCount.intersect(a, 0, 2, 2, a.length, out));
+        assertEquals(3, out[0]);
+        assertEquals(7, out[1]);
+    }
+}
@@ -0,0 +1,143 @@
+package vvakar.graph.bsp;
+
+import org.junit.Test;
+import vvakar.graph.analytics.PageRank;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.connectivity.ComponentsBean;
+import vvakar.graph.connectivity.ConnectedComponents;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BspEngineTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testLabelPropagation() {
+        CsrGraph<Vertex> csr = randomGraph(2000, 1500, new Random(37)).symmetrize();
+        BspEngine.ResultBean<Vertex> result = new BspEngine<Vertex>(csr, 4).run(new LabelPropagation(), Combiner.MIN, Integer.MAX_VALUE);
+
+        ComponentsBean<Vertex> expected = ConnectedComponents.compute(csr);
+        double[] labels = result.getValues();
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int v = u + 1; v < Math.min(csr.vertexCount(), u + 50); ++v) {
+                assertEquals(expected.getLabels()[u] == expected.getLabels()[v], labels[u] == labels[v]);
+            }
+            assertTrue(labels[u] <= u);
+        }
+    }
+
+    @Test
+    public void testShortestPaths() {
+        CsrGraph<Vertex> csr = randomGraph(500, 3000, new Random(7));
+        BspEngine.ResultBean<Vertex> result = new BspEngine<Vertex>(csr, 3).run(new SingleSourceShortestPaths(0), Combiner.MIN, Integer.MAX_VALUE);
+
+        // plain Bellman-Ford for reference
+        int n = csr.vertexCount();
+        double[] distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        distance[0] = 0;
+        for (int round = 0; round < n; ++round) {
+            for (int u = 0; u < n; ++u) {
+                for (int i = csr.getOffsets()[u]; i < csr.getOffsets()[u + 1]; ++i) {
+                    int v = csr.getTargets()[i];
+                    distance[v] = Math.min(distance[v], distance[u] + csr.getWeights()[i]);
+                }
+            }
+        }
+        for (int v = 0; v < n; ++v) {
+            assertEquals(distance[v], result.getValues()[v], 0);
+        }
+        assertTrue(result.getMessageCount() > 0);
+    }
+
+    @Test
+    public void testPageRank() {
+        CsrGraph<Vertex> csr = randomGraph(300, 900, new Random(31));
+        BspEngine.ResultBean<Vertex> result = new BspEngine<Vertex>(csr, 4).run(new PageRankProgram(0.85, 20), Combiner.SUM, 100);
+        PageRank.RankBean<Vertex> expected = PageRank.compute(csr, 0.85, 0, 20);
+
+        assertEquals(21, result.getSupersteps());
+        double sum = 0;
+        for (int v = 0; v < csr.vertexCount(); ++v) {
+            assertEquals(expected.getRanks()[v], result.getValues()[v], EPSILON);
+            sum += result.getValues()[v];
+        }
+        assertEquals(1.0, sum, EPSILON);
+    }
+
+    @Test
+    public void testMaxSupersteps() {
+        CsrGraph<Vertex> csr = randomGraph(100, 300, new Random(1));
+        VertexProgram neverHalts = new VertexProgram() {
+            @Override
+            public double initialValue(int vertex) {
+                return 0;
+            }
+
+            @Override
+            public void compute(BspEngine.Context context, int vertex) {
+                context.setValue(context.getSuperstep());
+            }
+        };
+        BspEngine.ResultBean<Vertex> result = new BspEngine<Vertex>(csr, 2).run(neverHalts, Combiner.SUM, 5);
+        assertEquals(5, result.getSupersteps());
+        assertEquals(4.0, result.getValues()[99], 0);
+    }
+
+    @Test
+    public void testFailurePropagates() {
+        CsrGraph<Vertex> csr = randomGraph(100, 300, new Random(1));
+        VertexProgram failing = new VertexProgram() {
+            @Override
+            public double initialValue(int vertex) {
+                return 0;
+            }
+
+            @Override
+            public void compute(BspEngine.Context context, int vertex) {
+                if (vertex == 42 && context.getSuperstep() == 1) {
+                    throw new IllegalStateException("boom");
+                }
+            }
+        };
+        try {
+            new BspEngine<Vertex>(csr, 4).run(failing, Combiner.SUM, 10);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("boom", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        CsrGraph<Vertex> csr = randomGraph(0, 0, new Random(1));
+        assertEquals(0, new BspEngine<Vertex>(csr).run(new LabelPropagation(), Combiner.MIN, 10).getSupersteps());
+    }
+
+    private static CsrGraph<Vertex> randomGraph(int n, int m, Random random) {
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("v" + i));
+        }
+        int[] tails = new int[m], heads = new int[m], weights = new int[m];
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            weights[i] = 1 + random.nextInt(10);
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+    }
+}
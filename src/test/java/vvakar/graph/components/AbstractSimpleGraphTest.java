@@ -52,4 +52,34 @@ public abstract class AbstractSimpleGraphTest {
         graph.put(e);
         graph.put(e);
     }
+
+    @Test
+    @SuppressWarnings("unchecked") // graph is raw so subclasses can bind any edge type
+    public void testRemoveEdge() {
+        graph.put(e);
+        assertTrue(graph.removeEdge(e));
+        assertFalse(graph.get(e).isPresent());
+        assertTrue(graph.getEdges().isEmpty());
+        assertTrue(graph.getNeighborsOf(v1).isEmpty());
+        assertTrue(graph.getNeighborsOf(v2).isEmpty());
+        assertTrue(v1.getEdges().isEmpty());
+        assertEquals(2, graph.getVertices().size());
+        assertFalse(graph.removeEdge(e));
+
+        graph.put(e); // no longer a duplicate
+        assertEquals(e, graph.get(e).get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked") // graph is raw so subclasses can bind any edge type
+    public void testRemoveVertex() {
+        graph.put(e);
+        assertTrue(graph.removeVertex(v2));
+        assertFalse(graph.get(e).isPresent());
+        assertTrue(graph.getEdges().isEmpty());
+        assertTrue(graph.getNeighborsOf(v1).isEmpty());
+        assertTrue(v1.getEdges().isEmpty());
+        assertEquals(1, graph.getVertices().size());
+        assertFalse(graph.removeVertex(v2));
+    }
 }
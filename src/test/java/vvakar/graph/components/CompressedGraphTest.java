@@ -0,0 +1,187 @@
+package vvakar.graph.components;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.traversal.BreadthFirstIterator;
+import vvakar.util.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class CompressedGraphTest {
+    SimpleDirectedGraph<Vertex> original;
+    CsrGraph<Vertex> csr;
+
+    @Before
+    public void before() throws Exception {
+        original = Util.getDirectedGraph("graph1.txt");
+        csr = CsrGraph.copyOf(original);
+    }
+
+    @Test
+    public void testCodes() {
+        Random random = new Random(7);
+        long[] values = new long[10000];
+        BitWriter out = new BitWriter();
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextInt(4) == 0 ? random.nextLong() >>> 1 : random.nextInt(1 << random.nextInt(31));
+            if (values[i] == Long.MAX_VALUE) values[i] = 0; // gamma codes x + 1
+            switch (i % 3) {
+                case 0: out.writeGamma(values[i]); break;
+                case 1: out.writeZeta(values[i] >>> 31, 3); break;
+                default: out.writeBits(values[i], 63);
+            }
+        }
+        BitReader in = new BitReader(out.toArray(), 0);
+        for (int i = 0; i < values.length; ++i) {
+            switch (i % 3) {
+                case 0: assertEquals(values[i], in.readGamma()); break;
+                case 1: assertEquals(values[i] >>> 31, in.readZeta(3)); break;
+                default: assertEquals(values[i], in.readBits(63));
+            }
+        }
+        assertEquals(out.size(), in.position());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (int window : new int[]{0, 1, CompressedGraph.DEFAULT_WINDOW}) {
+            CompressedGraph<Vertex> compressed = CompressedGraph.compress(csr, window, CompressedGraph.DEFAULT_MAX_CHAIN);
+            assertEquals(csr.vertexCount(), compressed.getVertexCount());
+            long arcs = 0;
+            for (int v = 0; v < csr.vertexCount(); ++v) {
+                int[] expected = distinctRow(csr, v);
+                assertArrayEquals(expected, compressed.successorArray(v));
+                assertEquals(expected.length, compressed.degree(v));
+                arcs += expected.length;
+            }
+            assertEquals(arcs, compressed.getArcCount());
+            assertEquals(arcs, compressed.getEdges().size());
+        }
+    }
+
+    @Test
+    public void testGraphView() {
+        CompressedGraph<Vertex> compressed = CompressedGraph.compress(csr);
+        int edges = 0;
+        for (DirectedEdge<Vertex> e : compressed.getEdges()) {
+            assertTrue(csr.findArc(csr.getId(e.getV1()), csr.getId(e.getV2())) >= 0);
+            assertTrue(compressed.get(e).isPresent());
+            ++edges;
+        }
+        assertEquals(compressed.getArcCount(), edges);
+
+        Vertex start = original.getVertices().iterator().next();
+        Set<Vertex> expected = new HashSet<Vertex>(), actual = new HashSet<Vertex>();
+        for (BreadthFirstIterator<Vertex, DirectedEdge<Vertex>> it =
+                     new BreadthFirstIterator<Vertex, DirectedEdge<Vertex>>(original, start); it.hasNext(); ) {
+            expected.add(it.next());
+        }
+        for (BreadthFirstIterator<Vertex, DirectedEdge<Vertex>> it =
+                     new BreadthFirstIterator<Vertex, DirectedEdge<Vertex>>(compressed, start); it.hasNext(); ) {
+            actual.add(it.next());
+        }
+        assertEquals(expected, actual);
+
+        Vertex stranger = vertex("no such vertex");
+        assertFalse(compressed.get(new DirectedEdge<Vertex>(start, stranger, 1)).isPresent());
+        assertTrue(compressed.getNeighborsOf(stranger).isEmpty());
+        try {
+            compressed.put(new DirectedEdge<Vertex>(start, stranger, 1));
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // read-only
+        }
+    }
+
+    @Test
+    public void testVisitor() {
+        CompressedGraph<Vertex> compressed = CompressedGraph.compress(csr);
+        final List<Integer> visited = new ArrayList<Integer>();
+        final int v = 17;
+        compressed.forEachSuccessor(v, new CompressedGraph.SuccessorVisitor() {
+            @Override
+            public void visit(int source, int target) {
+                assertEquals(v, source);
+                visited.add(target);
+            }
+        });
+        int[] expected = distinctRow(csr, v);
+        assertEquals(expected.length, visited.size());
+        for (int i = 0; i < expected.length; ++i) {
+            assertEquals(expected[i], (int) visited.get(i));
+        }
+    }
+
+    /**
+     * Local, clustered successor lists, as in a crawl-ordered web graph, should land within the 2-4 bits per arc
+     * range.
+     */
+    @Test
+    public void testLocality() {
+        Random random = new Random(42);
+        int n = 50000;
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[40 * n];
+        int m = 0;
+        for (int v = 0; v < n; ++v) {
+            vertices.add(vertex("v" + v));
+            // a site of 32 pages linking to most of each other, plus a few links outside
+            int site = v & ~31;
+            Set<Integer> row = new HashSet<Integer>();
+            for (int u = site; u < Math.min(n, site + 32); ++u) {
+                if (u != v && random.nextInt(10) != 0) row.add(u);
+            }
+            for (int k = random.nextInt(3); k > 0; --k) {
+                row.add(random.nextInt(n));
+            }
+            int[] sorted = new int[row.size()];
+            int i = 0;
+            for (int u : row) sorted[i++] = u;
+            Arrays.sort(sorted);
+            System.arraycopy(sorted, 0, targets, m, sorted.length);
+            m += sorted.length;
+            offsets[v + 1] = m;
+        }
+        int[] weights = new int[m];
+        Arrays.fill(weights, 1);
+        CsrGraph<Vertex> local = new CsrGraph<Vertex>(vertices, offsets, Arrays.copyOf(targets, m), weights);
+
+        CompressedGraph<Vertex> compressed = CompressedGraph.compress(local);
+        CompressedGraph<Vertex> gapsOnly = CompressedGraph.compress(local, 0, 0);
+        assertTrue(compressed.getReport(), compressed.getBitsPerArc() < 4);
+        assertTrue(compressed.getBitsPerArc() < gapsOnly.getBitsPerArc());
+
+        CsrGraph<Vertex> restored = compressed.toCsrGraph();
+        assertArrayEquals(local.getOffsets(), restored.getOffsets());
+        assertArrayEquals(local.getTargets(), restored.getTargets());
+    }
+
+    private static int[] distinctRow(CsrGraph<?> csr, int v) {
+        int[] offsets = csr.getOffsets(), targets = csr.getTargets();
+        List<Integer> row = new ArrayList<Integer>();
+        for (int i = offsets[v]; i < offsets[v + 1]; ++i) {
+            if (row.isEmpty() || row.get(row.size() - 1) != targets[i]) row.add(targets[i]);
+        }
+        int[] result = new int[row.size()];
+        for (int i = 0; i < result.length; ++i) result[i] = row.get(i);
+        return result;
+    }
+}
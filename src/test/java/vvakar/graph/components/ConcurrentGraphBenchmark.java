@@ -0,0 +1,82 @@
+package vvakar.graph.components;
+
+import com.google.common.base.Optional;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBeans;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manual benchmark, not picked up by the test run: ingestion throughput of a {@link SimpleDirectedGraph} behind an
+ * external lock against a {@link ConcurrentDirectedGraph}.
+ * <code>java vvakar.graph.components.ConcurrentGraphBenchmark [vertices] [edges] [threads]</code>
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConcurrentGraphBenchmark {
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 2000000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        Vertex[] vertices = new Vertex[n];
+        for (int i = 0; i < n; ++i) {
+            vertices[i] = GraphFactory.vertex("v" + i);
+        }
+        for (int round = 0; round < 2; ++round) {
+            final SimpleDirectedGraph<Vertex> simple = new SimpleDirectedGraph<Vertex>();
+            Graph<Vertex, DirectedEdge<Vertex>> locked = new Graph<Vertex, DirectedEdge<Vertex>>() {
+                // the external lock callers need today
+                public synchronized Collection<Vertex> getVertices() { return simple.getVertices(); }
+                public synchronized Collection<DirectedEdge<Vertex>> getEdges() { return simple.getEdges(); }
+                public synchronized VertexWeightBeans<Vertex> getNeighborsOf(Vertex v) { return simple.getNeighborsOf(v); }
+                public synchronized void put(DirectedEdge<Vertex> e) { simple.put(e); }
+                public synchronized boolean removeEdge(DirectedEdge<Vertex> e) { return simple.removeEdge(e); }
+                public synchronized boolean removeVertex(Vertex v) { return simple.removeVertex(v); }
+                public synchronized Optional<DirectedEdge<Vertex>> get(DirectedEdge<Vertex> e) { return simple.get(e); }
+            };
+            report("locked SimpleDirectedGraph", ingest(locked, vertices, m, threads), m, threads);
+            report("ConcurrentDirectedGraph", ingest(new ConcurrentDirectedGraph<Vertex>(), vertices, m, threads), m, threads);
+        }
+    }
+
+    /**
+     * @return nanoseconds to put <code>m</code> random edges, split across <code>threads</code>
+     */
+    private static long ingest(final Graph<Vertex, DirectedEdge<Vertex>> graph, final Vertex[] vertices, int m,
+                               int threads) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final int share = m / threads;
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; ++t) {
+            final int seed = t;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < share; ++i) {
+                        DirectedEdge<Vertex> e = new DirectedEdge<Vertex>(vertices[random.nextInt(vertices.length)],
+                                vertices[random.nextInt(vertices.length)], 1);
+                        try {
+                            graph.put(e);
+                        } catch (IllegalArgumentException duplicate) {
+                            // expected now and then
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String name, long nanos, int m, int threads) {
+        System.out.printf("%-28s threads=%d %8.1f ms %10.0f puts/s%n", name, threads, nanos / 1e6, m * 1e9 / nanos);
+    }
+}
@@ -0,0 +1,179 @@
+package vvakar.graph.components;
+
+import org.junit.Test;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConcurrentGraphTest {
+    private static final int THREADS = 8;
+    private static final int VERTICES = 300;
+    private static final int EDGES_PER_THREAD = 5000;
+
+    /**
+     * Every thread puts edges drawn from the same small pool, so most puts race with an equal edge. Exactly one put
+     * per distinct edge must succeed.
+     */
+    @Test
+    public void testConcurrentPutsRejectDuplicates() throws Exception {
+        final ConcurrentDirectedGraph<Vertex> graph = new ConcurrentDirectedGraph<Vertex>();
+        final AtomicInteger accepted = new AtomicInteger(), rejected = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; ++t) {
+            final int seed = t % 2; // pairs of threads replay the same sequence
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random(seed);
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < EDGES_PER_THREAD; ++i) {
+                        int a = random.nextInt(VERTICES), b = random.nextInt(VERTICES);
+                        try {
+                            graph.put(new DirectedEdge<Vertex>(vertex("v" + a), vertex("v" + b), a % 3));
+                            accepted.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // replay sequentially into the single-threaded graph
+        SimpleDirectedGraph<Vertex> expected = new SimpleDirectedGraph<Vertex>();
+        for (int seed = 0; seed < 2; ++seed) {
+            Random random = new Random(seed);
+            for (int i = 0; i < EDGES_PER_THREAD; ++i) {
+                int a = random.nextInt(VERTICES), b = random.nextInt(VERTICES);
+                DirectedEdge<Vertex> e = new DirectedEdge<Vertex>(vertex("v" + a), vertex("v" + b), a % 3);
+                if (!expected.get(e).isPresent()) expected.put(e);
+            }
+        }
+
+        assertEquals(THREADS * EDGES_PER_THREAD, accepted.get() + rejected.get());
+        assertEquals(expected.getEdges().size(), accepted.get());
+        assertEquals(expected.getEdges().size(), graph.getEdges().size());
+        assertEquals(accepted.get(), graph.getModCount());
+        assertEquals(expected.getVertices().size(), graph.getVertices().size());
+
+        int vertexEdges = 0;
+        for (Vertex v : graph.getVertices()) {
+            assertEquals(neighbors(expected, v), neighbors(graph, v));
+            vertexEdges += v.getEdges().size();
+        }
+        assertEquals(accepted.get(), vertexEdges);
+    }
+
+    /**
+     * Threads put and remove edges from a pool of a few, so puts race with removals of the same edge. Afterwards
+     * each start vertex must hold exactly the graph's edges, and removing every vertex must leave nothing behind.
+     */
+    @Test
+    public void testPutsRaceRemovals() throws Exception {
+        final ConcurrentDirectedGraph<Vertex> graph = new ConcurrentDirectedGraph<Vertex>();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; ++t) {
+            final int seed = t;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random(seed);
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < EDGES_PER_THREAD; ++i) {
+                        DirectedEdge<Vertex> e = new DirectedEdge<Vertex>(vertex("v" + random.nextInt(4)),
+                                vertex("v" + random.nextInt(4)), 1);
+                        if (random.nextBoolean()) {
+                            graph.removeEdge(e);
+                        } else {
+                            try {
+                                graph.put(e);
+                            } catch (IllegalArgumentException duplicate) {
+                                // lost to an equal edge
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        for (Vertex v : graph.getVertices()) {
+            Set<DirectedEdge<Vertex>> expected = new HashSet<DirectedEdge<Vertex>>();
+            for (DirectedEdge<Vertex> e : graph.getEdges()) {
+                if (e.getV1().equals(v)) expected.add(e);
+            }
+            assertEquals(expected.size(), v.getEdges().size());
+            for (DirectedEdge<Vertex> e : expected) {
+                assertTrue(v.getEdges().contains(e));
+            }
+            assertEquals(expected.size(), graph.getNeighborsOf(v).size());
+        }
+        List<Vertex> vertices = new ArrayList<Vertex>(graph.getVertices());
+        for (Vertex v : vertices) {
+            graph.removeVertex(v);
+        }
+        assertTrue(graph.getEdges().isEmpty());
+        for (Vertex v : vertices) {
+            assertTrue(v.getEdges().isEmpty());
+            assertTrue(graph.getNeighborsOf(v).isEmpty());
+        }
+    }
+
+    @Test
+    public void testCanonicalVertices() {
+        ConcurrentUndirectedGraph<Vertex> graph = new ConcurrentUndirectedGraph<Vertex>();
+        Vertex a = vertex("a");
+        graph.put(new UndirectedEdge<Vertex>(a, vertex("b"), 1));
+        UndirectedEdge<Vertex> e = new UndirectedEdge<Vertex>(vertex("b"), vertex("a"), 2);
+        graph.put(e);
+        assertSame(a, e.getV2());
+        assertEquals(2, graph.getVertices().size());
+        assertEquals(1, graph.getNeighborsOf(a).size());
+        assertEquals(1, graph.getNeighborsOf(vertex("b")).size());
+    }
+
+    private static Map<Vertex, Integer> neighbors(Graph<Vertex, ?> graph, Vertex v) {
+        Map<Vertex, Integer> result = new HashMap<Vertex, Integer>();
+        for (VertexWeightBean<Vertex> bean : graph.getNeighborsOf(v)) {
+            result.put(bean.getVertex(), bean.getWeight());
+        }
+        return result;
+    }
+}
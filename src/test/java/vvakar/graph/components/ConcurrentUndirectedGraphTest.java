@@ -0,0 +1,16 @@
+package vvakar.graph.components;
+
+import org.junit.Before;
+import vvakar.graph.interfaces.Vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConcurrentUndirectedGraphTest extends AbstractSimpleGraphTest {
+    @Before
+    public void before() {
+        graph = new ConcurrentUndirectedGraph<Vertex>();
+        e = new UndirectedEdge<Vertex>(v1, v2);
+    }
+}
@@ -0,0 +1,86 @@
+package vvakar.graph.components;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.interfaces.Vertex;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class CsrGraphTest {
+    SimpleDirectedGraph<Vertex> directed;
+    SimpleUndirectedGraph<Vertex> undirected;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3");
+
+    @Before
+    public void before() {
+        directed = new SimpleDirectedGraph<Vertex>();
+        directed.put(directedEdge(v1, v3, 7));
+        directed.put(directedEdge(v1, v2, 3));
+        directed.put(directedEdge(v3, v2, 1));
+
+        undirected = new SimpleUndirectedGraph<Vertex>();
+        undirected.put(new UndirectedEdge<Vertex>(v1, v2, 4));
+        undirected.put(new UndirectedEdge<Vertex>(v2, v3, 5));
+    }
+
+    @Test
+    public void testEmpty() {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(new SimpleDirectedGraph<Vertex>());
+        assertEquals(0, csr.vertexCount());
+        assertEquals(0, csr.arcCount());
+        assertTrue(csr.isSymmetric());
+    }
+
+    @Test
+    public void testDirected() {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(directed);
+        assertEquals(3, csr.vertexCount());
+        assertEquals(3, csr.arcCount());
+        int a = csr.getId(v1), b = csr.getId(v2), c = csr.getId(v3);
+        assertEquals(2, csr.degree(a));
+        assertEquals(0, csr.degree(b));
+        assertEquals(3, csr.getWeights()[csr.findArc(a, b)]);
+        assertEquals(7, csr.getWeights()[csr.findArc(a, c)]);
+        assertEquals(-1, csr.findArc(b, a));
+        assertEquals(-1, csr.getId(vertex("nope")));
+        assertFalse(csr.isSymmetric());
+
+        // rows sorted by target
+        int[] targets = csr.getTargets();
+        for (int v = 0; v < csr.vertexCount(); ++v) {
+            for (int i = csr.getOffsets()[v] + 1; i < csr.getOffsets()[v + 1]; ++i) {
+                assertTrue(targets[i - 1] <= targets[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testUndirectedStoresBothDirections() {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(undirected);
+        assertEquals(4, csr.arcCount());
+        assertTrue(csr.isSymmetric());
+        assertEquals(5, csr.getWeights()[csr.findArc(csr.getId(v3), csr.getId(v2))]);
+    }
+
+    @Test
+    public void testTransposeAndSymmetrize() {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(directed);
+        CsrGraph<Vertex> t = csr.transpose();
+        assertEquals(2, t.degree(csr.getId(v2)));
+        assertEquals(1, t.getWeights()[t.findArc(csr.getId(v2), csr.getId(v3))]);
+
+        CsrGraph<Vertex> s = csr.symmetrize();
+        assertEquals(6, s.arcCount());
+        assertTrue(s.isSymmetric());
+        assertArrayEquals(new int[]{0, 2, 4, 6}, s.getOffsets());
+    }
+}
@@ -0,0 +1,208 @@
+package vvakar.graph.components;
+
+import org.junit.Test;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+import vvakar.util.Util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class DynamicGraphTest {
+
+    /**
+     * Random inserts and deletes against a map of arc multiplicities. Vertex 0 is a hub, so its block crosses
+     * the index threshold both ways.
+     */
+    @Test
+    public void testRandomChurn() {
+        int n = 50;
+        DynamicGraph<Vertex> graph = new DynamicGraph<Vertex>();
+        for (int i = 0; i < n; ++i) {
+            graph.addVertex(vertex("v" + i));
+        }
+        Map<List<Integer>, Integer> model = new HashMap<List<Integer>, Integer>();
+        Random random = new Random(3);
+        for (int op = 0; op < 200000; ++op) {
+            int u = random.nextInt(4) == 0 ? 0 : random.nextInt(n);
+            int v = random.nextInt(u == 0 ? 400 : 20) % n, w = random.nextInt(3);
+            List<Integer> key = key(u, v, w);
+            Integer count = model.get(key);
+            // grow for the first half, then shrink
+            boolean insert = random.nextInt(100) < (op < 100000 ? 60 : 35);
+            if (insert) {
+                graph.addArc(u, v, w);
+                model.put(key, count == null ? 1 : count + 1);
+            } else {
+                assertEquals(count != null, graph.removeArc(u, v, w));
+                if (count != null) {
+                    if (count == 1) model.remove(key);
+                    else model.put(key, count - 1);
+                }
+            }
+            if (op % 1000 == 0) {
+                assertMatches(model, graph);
+            }
+        }
+        assertMatches(model, graph);
+
+        // the hub too: its in-arcs come from every block
+        for (int x : new int[]{0, 7, 13}) {
+            assertTrue(graph.removeVertex(vertex("v" + x)));
+            for (Iterator<List<Integer>> it = model.keySet().iterator(); it.hasNext(); ) {
+                List<Integer> key = it.next();
+                if (key.get(0) == x || key.get(1) == x) it.remove();
+            }
+        }
+        assertEquals(n - 3, graph.vertexCount());
+        assertMatches(model, graph);
+    }
+
+    @Test
+    public void testGraphView() throws Exception {
+        SimpleDirectedGraph<Vertex> original = Util.getDirectedGraph("graph1.txt");
+        DynamicGraph<Vertex> graph = new DynamicGraph<Vertex>();
+        for (DirectedEdge<Vertex> e : original.getEdges()) {
+            graph.put(new DirectedEdge<Vertex>(e.getV1(), e.getV2(), e.getWeight()));
+        }
+        assertEquals(original.getEdges().size(), graph.getEdges().size());
+        assertEquals(original.getVertices().size(), graph.getVertices().size());
+        for (DirectedEdge<Vertex> e : original.getEdges()) {
+            assertTrue(graph.get(e).isPresent());
+        }
+        for (Vertex v : original.getVertices()) {
+            assertEquals(original.getNeighborsOf(v).size(), graph.getNeighborsOf(v).size());
+        }
+
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(original), frozen = DynamicGraph.copyOf(csr).toCsrGraph();
+        assertArrayEquals(csr.getOffsets(), frozen.getOffsets());
+        assertArrayEquals(csr.getTargets(), frozen.getTargets());
+        assertArrayEquals(csr.getWeights(), frozen.getWeights());
+
+        DirectedEdge<Vertex> e = original.getEdges().iterator().next();
+        graph.put(new DirectedEdge<Vertex>(e.getV1(), e.getV2(), e.getWeight()));
+        assertEquals(original.getEdges().size(), graph.arcCount());
+        assertTrue(graph.removeArc(graph.getId(e.getV1()), graph.getId(e.getV2()), e.getWeight()));
+        assertFalse(graph.get(e).isPresent());
+    }
+
+    /**
+     * What is left after removing vertices must match a simple graph with the same removals. Other vertices keep
+     * their ids, and new vertices take the freed ones.
+     */
+    @Test
+    public void testRemoveVertex() throws Exception {
+        SimpleDirectedGraph<Vertex> original = Util.getDirectedGraph("graph1.txt");
+        DynamicGraph<Vertex> graph = new DynamicGraph<Vertex>();
+        for (DirectedEdge<Vertex> e : original.getEdges()) {
+            graph.put(new DirectedEdge<Vertex>(e.getV1(), e.getV2(), e.getWeight()));
+        }
+        Map<Vertex, Integer> idsBefore = new HashMap<Vertex, Integer>();
+        for (Vertex v : graph.getVertices()) {
+            idsBefore.put(v, graph.getId(v));
+        }
+        List<Vertex> victims = new ArrayList<Vertex>(original.getVertices()).subList(0, 100);
+        Set<Integer> freed = new HashSet<Integer>();
+        for (Vertex v : new ArrayList<Vertex>(victims)) {
+            freed.add(graph.getId(v));
+            assertTrue(original.removeVertex(v));
+            assertTrue(graph.removeVertex(v));
+            assertFalse(graph.removeVertex(v));
+        }
+        assertEquals(original.getVertices().size(), graph.vertexCount());
+        assertEquals(original.getVertices().size(), graph.getVertices().size());
+        assertEquals(original.getEdges().size(), graph.arcCount());
+        assertEquals(original.getEdges().size(), graph.toCsrGraph().arcCount());
+        long inArcs = 0;
+        for (Vertex v : original.getVertices()) {
+            assertEquals(idsBefore.get(v), Integer.valueOf(graph.getId(v)));
+            assertEquals(v, graph.getVertex(graph.getId(v)));
+            assertEquals(names(original, v), names(graph, v));
+            inArcs += graph.inDegree(graph.getId(v));
+        }
+        assertEquals(graph.arcCount(), inArcs);
+
+        assertTrue(freed.contains(graph.addVertex(vertex("newcomer"))));
+        assertEquals(original.getVertices().size() + 1, graph.vertexCount());
+    }
+
+    /**
+     * Built one arc at a time, blocks are at most half empty, so memory stays within 2x of a CSR together with the
+     * sources of its transpose, the static layout that can also find in-arcs.
+     */
+    @Test
+    public void testMemory() {
+        Random random = new Random(11);
+        int n = 20000, m = 16 * n;
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        DynamicGraph<Vertex> graph = new DynamicGraph<Vertex>();
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("v" + i));
+            graph.addVertex(vertices.get(i));
+        }
+        for (int i = 0; i < m; ++i) {
+            graph.addArc(random.nextInt(n), random.nextInt(n), 1);
+        }
+        long csrBytes = 2 * 4L * (n + 1) + 8L * m + 4L * m;
+        assertTrue(graph.getMemoryBytes() + " vs " + csrBytes, graph.getMemoryBytes() < 2 * csrBytes);
+    }
+
+    private static void assertMatches(Map<List<Integer>, Integer> model, DynamicGraph<Vertex> graph) {
+        Map<List<Integer>, Integer> actual = new HashMap<List<Integer>, Integer>();
+        long arcs = 0;
+        for (int u = 0; u < graph.idCount(); ++u) {
+            for (int k = 0; k < graph.degree(u); ++k) {
+                List<Integer> key = key(u, graph.getTarget(u, k), graph.getWeight(u, k));
+                Integer count = actual.get(key);
+                actual.put(key, count == null ? 1 : count + 1);
+                ++arcs;
+            }
+        }
+        assertEquals(model, actual);
+        assertEquals(arcs, graph.arcCount());
+        int[] inDegrees = new int[graph.idCount()];
+        for (Map.Entry<List<Integer>, Integer> entry : model.entrySet()) {
+            inDegrees[entry.getKey().get(1)] += entry.getValue();
+        }
+        for (int v = 0; v < graph.idCount(); ++v) {
+            assertEquals(inDegrees[v], graph.inDegree(v));
+        }
+        for (List<Integer> key : model.keySet()) {
+            assertTrue(graph.hasArc(key.get(0), key.get(1), key.get(2)));
+            assertTrue(graph.hasArc(key.get(0), key.get(1)));
+        }
+    }
+
+    private static Set<String> names(Graph<Vertex, ?> graph, Vertex v) {
+        Set<String> result = new HashSet<String>();
+        for (VertexWeightBean<Vertex> bean : graph.getNeighborsOf(v)) {
+            result.add(bean.getVertex().getName());
+        }
+        return result;
+    }
+
+    private static List<Integer> key(int u, int v, int w) {
+        List<Integer> key = new ArrayList<Integer>(3);
+        key.add(u);
+        key.add(v);
+        key.add(w);
+        return key;
+    }
+}
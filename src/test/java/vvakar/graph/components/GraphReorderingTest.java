@@ -0,0 +1,124 @@
+package vvakar.graph.components;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.analytics.PageRank;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class GraphReorderingTest {
+    CsrGraph<Vertex> csr;
+
+    @Before
+    public void before() throws Exception {
+        csr = CsrGraph.copyOf(Util.getDirectedGraph("graph1.txt"));
+    }
+
+    @Test
+    public void testSameGraph() {
+        for (GraphReordering.Strategy strategy : GraphReordering.Strategy.values()) {
+            GraphReordering.ReorderingBean<Vertex> bean = GraphReordering.reorder(csr, strategy);
+            CsrGraph<Vertex> reordered = bean.getGraph();
+            assertEquals(csr.vertexCount(), reordered.vertexCount());
+            assertEquals(arcs(csr), arcs(reordered));
+            for (int v = 0; v < csr.vertexCount(); ++v) {
+                assertEquals(v, bean.toOriginalId(bean.toNewId(v)));
+                assertSame(csr.getVertex(v), reordered.getVertex(bean.toNewId(v)));
+                assertEquals(bean.toNewId(v), reordered.getId(csr.getVertex(v)));
+            }
+        }
+    }
+
+    @Test
+    public void testDegreeOrder() {
+        CsrGraph<Vertex> reordered = GraphReordering.reorder(csr, GraphReordering.Strategy.DEGREE).getGraph();
+        CsrGraph<Vertex> in = reordered.transpose();
+        for (int v = 1; v < reordered.vertexCount(); ++v) {
+            assertTrue(reordered.degree(v - 1) + in.degree(v - 1) >= reordered.degree(v) + in.degree(v));
+        }
+    }
+
+    /**
+     * A grid with shuffled ids: RCM must bring the bandwidth back to about one row, and Gorder must beat the
+     * shuffle on gaps.
+     */
+    @Test
+    public void testRestoresLocality() {
+        int side = 60, n = side * side;
+        Integer[] shuffle = new Integer[n];
+        for (int i = 0; i < n; ++i) shuffle[i] = i;
+        Collections.shuffle(Arrays.asList(shuffle), new Random(3));
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        for (int i = 0; i < n; ++i) vertices.add(vertex("v" + i));
+        int[] tails = new int[4 * n], heads = new int[4 * n], weights = new int[4 * n];
+        int m = 0;
+        for (int r = 0; r < side; ++r) {
+            for (int c = 0; c < side; ++c) {
+                int u = shuffle[r * side + c];
+                if (c + 1 < side) {
+                    int v = shuffle[r * side + c + 1];
+                    tails[m] = u; heads[m++] = v;
+                    tails[m] = v; heads[m++] = u;
+                }
+                if (r + 1 < side) {
+                    int v = shuffle[(r + 1) * side + c];
+                    tails[m] = u; heads[m++] = v;
+                    tails[m] = v; heads[m++] = u;
+                }
+            }
+        }
+        CsrGraph<Vertex> grid = CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+        assertTrue(GraphReordering.bandwidth(grid) > n / 2);
+
+        CsrGraph<Vertex> rcm = GraphReordering.reorder(grid, GraphReordering.Strategy.RCM).getGraph();
+        assertTrue(GraphReordering.bandwidth(rcm) + "", GraphReordering.bandwidth(rcm) <= 2 * side);
+
+        CsrGraph<Vertex> gorder = GraphReordering.reorder(grid, GraphReordering.Strategy.GORDER).getGraph();
+        assertTrue(GraphReordering.averageLogGap(gorder) < GraphReordering.averageLogGap(grid) / 2);
+    }
+
+    @Test
+    public void testResultsMapBack() {
+        GraphReordering.ReorderingBean<Vertex> bean = GraphReordering.reorder(csr, GraphReordering.Strategy.GORDER);
+        PageRank.RankBean<Vertex> expected = PageRank.compute(csr, 0.85, 1e-10, 100);
+        PageRank.RankBean<Vertex> actual = PageRank.compute(bean.getGraph(), 0.85, 1e-10, 100);
+        for (Vertex v : csr.getVertices()) {
+            assertEquals(expected.getRank(v), actual.getRank(v), 1e-9);
+        }
+        double[] values = new double[csr.vertexCount()];
+        for (int i = 0; i < values.length; ++i) values[i] = bean.toOriginalId(i);
+        double[] back = bean.toOriginal(values);
+        for (int v = 0; v < back.length; ++v) {
+            assertEquals(v, back[v], 0);
+        }
+    }
+
+    private static Set<List<String>> arcs(CsrGraph<Vertex> graph) {
+        Set<List<String>> result = new HashSet<List<String>>();
+        int[] offsets = graph.getOffsets(), targets = graph.getTargets(), weights = graph.getWeights();
+        for (int u = 0; u < graph.vertexCount(); ++u) {
+            for (int i = offsets[u]; i < offsets[u + 1]; ++i) {
+                result.add(Arrays.asList(graph.getVertex(u).getName(), graph.getVertex(targets[i]).getName(),
+                        String.valueOf(weights[i])));
+            }
+        }
+        return result;
+    }
+}
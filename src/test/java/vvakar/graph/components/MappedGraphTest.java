@@ -0,0 +1,119 @@
+package vvakar.graph.components;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import vvakar.graph.connectivity.StronglyConnectedComponents;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.traversal.BreadthFirstIterator;
+import vvakar.graph.traversal.ShortestPathPlanner;
+import vvakar.util.Util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MappedGraphTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    SimpleDirectedGraph<Vertex> original;
+    MappedGraph mapped;
+
+    @Before
+    public void before() throws Exception {
+        // graph1.txt has negative cycles; keep its shape with non-negative weights
+        original = new SimpleDirectedGraph<Vertex>();
+        for (DirectedEdge<Vertex> e : Util.getDirectedGraph("graph1.txt").getEdges()) {
+            original.put(directedEdge(vertex(e.getV1().getName()), vertex(e.getV2().getName()), Math.abs(e.getWeight())));
+        }
+        Path file = folder.newFile("graph1.vgm").toPath();
+        MappedGraph.write(original, file);
+        mapped = MappedGraph.open(file);
+    }
+
+    @Test
+    public void testStructure() {
+        assertEquals(original.getVertices().size(), mapped.getVertexCount());
+        assertEquals(original.getEdges().size(), mapped.getEdges().size());
+        assertEquals(original.getVertices().size(), mapped.getVertices().size());
+
+        int arcs = 0;
+        for (Vertex v : original.getVertices()) {
+            MappedGraph.MappedVertex m = mapped.getVertex(v.getName());
+            assertEquals(v.getName(), m.getName());
+            assertEquals(original.getNeighborsOf(v).size(), mapped.getNeighborsOf(m).size());
+            assertEquals(mapped.degree(m.getId()), m.getEdges().size());
+            arcs += m.getEdges().size();
+        }
+        assertEquals(mapped.getArcCount(), arcs);
+        assertNull(mapped.getVertex("no such vertex"));
+    }
+
+    @Test
+    public void testGet() {
+        DirectedEdge<MappedGraph.MappedVertex> edge = mapped.getEdges().iterator().next();
+        assertTrue(mapped.get(edge).isPresent());
+        DirectedEdge<MappedGraph.MappedVertex> heavier =
+                new DirectedEdge<MappedGraph.MappedVertex>(edge.getV1(), edge.getV2(), edge.getWeight() + 1000000);
+        assertFalse(mapped.get(heavier).isPresent());
+    }
+
+    @Test
+    public void testExistingAlgorithms() {
+        Vertex start = original.getVertices().iterator().next();
+        MappedGraph.MappedVertex mappedStart = mapped.getVertex(start.getName());
+
+        int reached = 0, mappedReached = 0;
+        for (BreadthFirstIterator<Vertex, DirectedEdge<Vertex>> it = new BreadthFirstIterator<Vertex, DirectedEdge<Vertex>>(original, start); it.hasNext(); it.next()) {
+            ++reached;
+        }
+        for (BreadthFirstIterator<MappedGraph.MappedVertex, DirectedEdge<MappedGraph.MappedVertex>> it =
+                     new BreadthFirstIterator<MappedGraph.MappedVertex, DirectedEdge<MappedGraph.MappedVertex>>(mapped, mappedStart); it.hasNext(); it.next()) {
+            ++mappedReached;
+        }
+        assertEquals(reached, mappedReached);
+
+        ShortestPathPlanner.PathsBean<Vertex> paths = new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(original).getShortestPaths(start);
+        ShortestPathPlanner.PathsBean<MappedGraph.MappedVertex> mappedPaths =
+                new ShortestPathPlanner<MappedGraph.MappedVertex, DirectedEdge<MappedGraph.MappedVertex>>(mapped).getShortestPaths(mappedStart);
+        for (Vertex end : original.getVertices()) {
+            assertEquals(paths.getDistance(end), mappedPaths.getDistance(mapped.getVertex(end.getName())));
+        }
+
+        assertEquals(StronglyConnectedComponents.compute(original).getCount(),
+                StronglyConnectedComponents.compute(mapped).getCount());
+        assertEquals(CsrGraph.copyOf(mapped).arcCount(), mapped.toCsrGraph().arcCount());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        MappedGraph.MappedVertex v = mapped.getVertex(0);
+        mapped.put(new DirectedEdge<MappedGraph.MappedVertex>(v, v, 1));
+    }
+
+    @Test
+    public void testNotAGraphFile() throws Exception {
+        Path file = folder.newFile("garbage").toPath();
+        Files.write(file, new byte[100]);
+        try {
+            MappedGraph.open(file);
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("Not a mapped graph file"));
+        }
+    }
+}
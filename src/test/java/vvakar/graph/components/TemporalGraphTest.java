@@ -0,0 +1,176 @@
+package vvakar.graph.components;
+
+import org.junit.Test;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+import vvakar.graph.interfaces.VertexWeightBeans;
+import vvakar.graph.traversal.BreadthFirstIterator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class TemporalGraphTest {
+
+    @Test
+    public void testExpiry() {
+        TemporalGraph<Vertex> graph = new TemporalGraph<Vertex>(10, 4);
+        Vertex a = vertex("a"), b = vertex("b"), c = vertex("c");
+        graph.put(new TemporalEdge<Vertex>(a, b, 0));
+        graph.put(new TemporalEdge<Vertex>(a, c, 5));
+        graph.put(new TemporalEdge<Vertex>(c, b, 9));
+        assertEquals(3, graph.getEdges().size());
+        assertEquals(2, graph.getNeighborsOf(a).size());
+        assertTrue(graph.get(new TemporalEdge<Vertex>(a, b, 0)).isPresent());
+        assertFalse(graph.get(new TemporalEdge<Vertex>(a, b, 1)).isPresent());
+
+        graph.advanceTo(10); // a -> b at 0 leaves
+        assertEquals(2, graph.getArcCount());
+        assertEquals(1, graph.getNeighborsOf(a).size());
+        assertFalse(graph.get(new TemporalEdge<Vertex>(a, b, 0)).isPresent());
+        assertTrue(graph.connected(a, b));
+
+        graph.advanceTo(15); // a -> c at 5 leaves, and a with it
+        assertEquals(2, graph.getVertices().size());
+        assertFalse(graph.getVertices().contains(a));
+        assertFalse(graph.connected(a, b));
+        assertEquals(0, graph.componentSize(a));
+        assertEquals(2, graph.componentSize(c));
+
+        graph.advanceTo(100);
+        assertEquals(0, graph.getArcCount());
+        assertEquals(0, graph.getVertices().size());
+        assertEquals(0, graph.componentCount());
+
+        try {
+            graph.put(new TemporalEdge<Vertex>(a, b, 99));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // out of order
+        }
+    }
+
+    @Test
+    public void testSegmentsDropWhole() {
+        TemporalGraph<Vertex> graph = new TemporalGraph<Vertex>(100, 8);
+        for (int t = 0; t < 10000; ++t) {
+            graph.put(new TemporalEdge<Vertex>(vertex("v" + t % 7), vertex("v" + (t * 3 + 1) % 11), t));
+            assertEquals(Math.min(t + 1, 100), graph.getArcCount());
+            assertTrue(graph.getSegmentCount() <= 100 / 8 + 2);
+        }
+    }
+
+    @Test
+    public void testWindowedNeighbors() {
+        TemporalGraph<Vertex> graph = new TemporalGraph<Vertex>(1000);
+        Vertex a = vertex("a");
+        for (int t = 0; t < 10; ++t) {
+            graph.put(new TemporalEdge<Vertex>(a, vertex("v" + t), t, 10 * t));
+        }
+        assertEquals(10, graph.getNeighborsOf(a).size());
+        assertEquals(3, graph.getNeighborsOf(a, 20, 40).size());
+        assertEquals(0, graph.getNeighborsOf(a, 41, 49).size());
+        for (VertexWeightBean<Vertex> bean : graph.getNeighborsOf(a, 50, 50)) {
+            assertEquals(vertex("v5"), bean.getVertex());
+            assertEquals(5, bean.getWeight());
+        }
+
+        graph.put(new TemporalEdge<Vertex>(vertex("v5"), vertex("x"), 95));
+        TemporalGraph<Vertex>.BreadthFirst bfs = graph.breadthFirst(a, 50, 100);
+        List<Vertex> order = new ArrayList<Vertex>();
+        Map<Vertex, Integer> depths = new HashMap<Vertex, Integer>();
+        while (bfs.hasNext()) {
+            Vertex v = bfs.next();
+            order.add(v);
+            depths.put(v, bfs.getDepth());
+        }
+        assertEquals(a, order.get(0));
+        assertEquals(7, order.size()); // a, v5..v9, x
+        assertEquals(2, (int) depths.get(vertex("x")));
+    }
+
+    @Test
+    public void testNewestWeightWins() {
+        TemporalGraph<Vertex> graph = new TemporalGraph<Vertex>(1000);
+        Vertex a = vertex("a"), b = vertex("b");
+        graph.put(new TemporalEdge<Vertex>(a, b, 5, 1));
+        graph.put(new TemporalEdge<Vertex>(a, b, 9, 2));
+        VertexWeightBeans<Vertex> neighbors = graph.getNeighborsOf(a);
+        assertEquals(1, neighbors.size());
+        assertEquals(9, neighbors.iterator().next().getWeight());
+        assertEquals(5, graph.getNeighborsOf(a, 0, 1).iterator().next().getWeight());
+    }
+
+    /**
+     * A random stream through a short window; components and reachability must always match a graph rebuilt
+     * from the live edges.
+     */
+    @Test
+    public void testMatchesRebuild() {
+        int n = 40;
+        TemporalGraph<Vertex> graph = new TemporalGraph<Vertex>(60, 16);
+        Random random = new Random(13);
+        long t = 0;
+        for (int op = 0; op < 5000; ++op) {
+            t += random.nextInt(3);
+            graph.put(new TemporalEdge<Vertex>(vertex("v" + random.nextInt(n)), vertex("v" + random.nextInt(n)), t));
+            if (op % 50 == 0) {
+                assertMatchesRebuild(graph);
+            }
+        }
+        assertMatchesRebuild(graph);
+    }
+
+    private static void assertMatchesRebuild(TemporalGraph<Vertex> graph) {
+        SimpleDirectedGraph<Vertex> rebuilt = new SimpleDirectedGraph<Vertex>();
+        Map<Vertex, Integer> ids = new HashMap<Vertex, Integer>();
+        List<int[]> pairs = new ArrayList<int[]>();
+        for (TemporalEdge<Vertex> e : graph.getEdges()) {
+            Vertex v1 = vertex(e.getV1().getName()), v2 = vertex(e.getV2().getName());
+            for (Vertex v : new Vertex[]{v1, v2}) {
+                if (!ids.containsKey(v)) ids.put(v, ids.size());
+            }
+            pairs.add(new int[]{ids.get(v1), ids.get(v2)});
+            if (!rebuilt.get(new DirectedEdge<Vertex>(v1, v2, 1)).isPresent()) {
+                rebuilt.put(new DirectedEdge<Vertex>(v1, v2, 1));
+            }
+        }
+        UnionFind uf = new UnionFind(ids.size());
+        for (int[] pair : pairs) {
+            uf.union(pair[0], pair[1]);
+        }
+        assertEquals(ids.size(), graph.getVertices().size());
+        assertEquals(uf.count(), graph.componentCount());
+        for (Map.Entry<Vertex, Integer> x : ids.entrySet()) {
+            assertEquals(uf.size(x.getValue()), graph.componentSize(x.getKey()));
+            for (Map.Entry<Vertex, Integer> y : ids.entrySet()) {
+                assertEquals(uf.connected(x.getValue(), y.getValue()), graph.connected(x.getKey(), y.getKey()));
+            }
+
+            Set<Vertex> expected = new HashSet<Vertex>(), actual = new HashSet<Vertex>();
+            for (BreadthFirstIterator<Vertex, DirectedEdge<Vertex>> it =
+                         new BreadthFirstIterator<Vertex, DirectedEdge<Vertex>>(rebuilt, x.getKey()); it.hasNext(); ) {
+                expected.add(it.next());
+            }
+            for (TemporalGraph<Vertex>.BreadthFirst it = graph.breadthFirst(x.getKey(), Long.MIN_VALUE, Long.MAX_VALUE);
+                 it.hasNext(); ) {
+                actual.add(it.next());
+            }
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package vvakar.graph.components;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manual benchmark, not picked up by the test run:
+ * <code>java vvakar.graph.components.UnionFindBenchmark [elements] [operations] [threads]</code>
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class UnionFindBenchmark {
+    public static void main(String[] args) throws Exception {
+        final int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        final int ops = args.length > 1 ? Integer.parseInt(args[1]) : 100000000;
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        UnionFind uf = new UnionFind(n);
+        Random random = new Random(27);
+        for (int i = 0; i < ops; ++i) {
+            if ((i & 1) == 0) {
+                uf.union(random.nextInt(n), random.nextInt(n));
+            } else {
+                uf.connected(random.nextInt(n), random.nextInt(n));
+            }
+        }
+        report("UnionFind", ops, start, uf.count());
+
+        start = System.nanoTime();
+        final ConcurrentUnionFind cuf = new ConcurrentUnionFind(n);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; ++t) {
+            final int seed = t, share = ops / threads;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < share; ++i) {
+                        if ((i & 1) == 0) {
+                            cuf.union(random.nextInt(n), random.nextInt(n));
+                        } else {
+                            cuf.connected(random.nextInt(n), random.nextInt(n));
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        report("ConcurrentUnionFind x" + threads, ops, start, cuf.count());
+    }
+
+    private static void report(String name, int ops, long startNanos, int sets) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println(String.format("%s: %d ops in %.2fs (%.1fM ops/s), %d sets",
+                name, ops, seconds, ops / seconds / 1e6, sets));
+    }
+}
@@ -0,0 +1,94 @@
+package vvakar.graph.components;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class UnionFindTest {
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, new UnionFind(0).count());
+        assertEquals(0, new ConcurrentUnionFind(0).count());
+    }
+
+    @Test
+    public void testUnion() {
+        UnionFind uf = new UnionFind(5);
+        assertEquals(5, uf.count());
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(3, 4));
+        assertFalse(uf.union(1, 0));
+        assertTrue(uf.connected(0, 1));
+        assertFalse(uf.connected(1, 3));
+        assertEquals(3, uf.count());
+        assertEquals(2, uf.size(4));
+        assertEquals(1, uf.size(2));
+
+        assertTrue(uf.union(1, 4));
+        assertEquals(4, uf.size(0));
+        assertEquals(2, uf.count());
+    }
+
+    @Test
+    public void testConcurrentUnion() {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(5);
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(3, 4));
+        assertFalse(uf.union(1, 0));
+        assertTrue(uf.connected(0, 1));
+        assertFalse(uf.connected(1, 3));
+        assertEquals(3, uf.count());
+        assertEquals(2, uf.size(4));
+
+        assertTrue(uf.union(1, 4));
+        assertEquals(4, uf.size(0));
+        assertEquals(2, uf.count());
+    }
+
+    @Test
+    public void testConcurrentMatchesSequential() throws Exception {
+        final int n = 100000, ops = 400000, threads = 4;
+        final int[] as = new int[ops], bs = new int[ops];
+        Random random = new Random(27);
+        UnionFind expected = new UnionFind(n);
+        for (int i = 0; i < ops; ++i) {
+            as[i] = random.nextInt(n);
+            bs[i] = random.nextInt(n);
+            expected.union(as[i], bs[i]);
+        }
+
+        final ConcurrentUnionFind actual = new ConcurrentUnionFind(n);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; ++t) {
+            final int from = t * ops / threads, to = (t + 1) * ops / threads;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = from; i < to; ++i) {
+                        actual.union(as[i], bs[i]);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(expected.count(), actual.count());
+        for (int i = 0; i < n; ++i) {
+            assertEquals(expected.size(i), actual.size(i));
+            assertEquals(expected.connected(i, as[i % ops]), actual.connected(i, as[i % ops]));
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package vvakar.graph.components;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.interfaces.Graph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+import vvakar.graph.traversal.DijkstraShortestPath;
+import vvakar.util.Util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class VersionedGraphTest {
+    VersionedGraph<Vertex> graph;
+
+    @Before
+    public void before() {
+        graph = new VersionedGraph<Vertex>(100);
+    }
+
+    @After
+    public void after() {
+        graph.close();
+    }
+
+    @Test
+    public void testSnapshotIsolation() {
+        Vertex a = vertex("a"), b = vertex("b"), c = vertex("c");
+        graph.put(new DirectedEdge<Vertex>(a, b, 1));
+        VersionedGraph.Snapshot<Vertex> before = graph.snapshot();
+
+        graph.put(new DirectedEdge<Vertex>(a, c, 2));
+        graph.put(new DirectedEdge<Vertex>(c, a, 3));
+        VersionedGraph.Snapshot<Vertex> after = graph.snapshot();
+
+        assertEquals(1, before.getNeighborsOf(a).size());
+        assertEquals(0, before.getNeighborsOf(c).size());
+        assertEquals(2, before.getVertices().size());
+        assertEquals(1, before.getEdges().size());
+        assertFalse(before.get(new DirectedEdge<Vertex>(a, c, 2)).isPresent());
+
+        assertEquals(2, after.getNeighborsOf(a).size());
+        assertEquals(1, after.getNeighborsOf(c).size());
+        assertEquals(3, after.getEdges().size());
+        assertTrue(after.get(new DirectedEdge<Vertex>(a, c, 2)).isPresent());
+        assertTrue(after.getVersion() > before.getVersion());
+
+        graph.compact();
+        assertEquals(0, graph.snapshot().getDeltaSize());
+        assertEquals(1, before.getNeighborsOf(a).size());
+        assertEquals(neighbors(after, a), neighbors(graph.snapshot(), a));
+    }
+
+    @Test
+    public void testRejectsDuplicates() {
+        Vertex a = vertex("a"), b = vertex("b");
+        graph.put(new DirectedEdge<Vertex>(a, b, 1));
+        graph.put(new DirectedEdge<Vertex>(a, b, 2)); // different weight, different edge
+        for (int round = 0; round < 2; ++round) {
+            try {
+                graph.put(new DirectedEdge<Vertex>(vertex("a"), vertex("b"), 1));
+                fail();
+            } catch (IllegalArgumentException e) {
+                // simple graph
+            }
+            graph.compact(); // now the duplicate lives in the base
+        }
+        assertEquals(2, graph.snapshot().getArcCount());
+        try {
+            graph.snapshot().put(new DirectedEdge<Vertex>(b, a, 1));
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // read-only
+        }
+    }
+
+    @Test
+    public void testMatchesSimpleGraph() throws Exception {
+        SimpleDirectedGraph<Vertex> simple = new SimpleDirectedGraph<Vertex>();
+        for (DirectedEdge<Vertex> e : Util.getDirectedGraph("graph1.txt").getEdges()) {
+            Vertex v1 = vertex(e.getV1().getName()), v2 = vertex(e.getV2().getName());
+            int weight = Math.abs(e.getWeight());
+            if (simple.get(new DirectedEdge<Vertex>(v1, v2, weight)).isPresent()) continue;
+            simple.put(new DirectedEdge<Vertex>(v1, v2, weight));
+            graph.put(new DirectedEdge<Vertex>(vertex(v1.getName()), vertex(v2.getName()), weight));
+        }
+        VersionedGraph.Snapshot<Vertex> snapshot = graph.snapshot();
+        assertEquals(simple.getEdges().size(), snapshot.getEdges().size());
+        assertEquals(simple.getVertices().size(), snapshot.getVertexCount());
+        for (Vertex v : simple.getVertices()) {
+            assertEquals(neighbors(simple, v), neighbors(snapshot, v));
+        }
+
+        Vertex start = vertex("1"), end = vertex("500");
+        List<DijkstraShortestPath.DijkstraBean<Vertex>> expected =
+                new DijkstraShortestPath<Vertex, DirectedEdge<Vertex>>(simple).getShortestPath(start, end);
+        List<DijkstraShortestPath.DijkstraBean<Vertex>> actual =
+                new DijkstraShortestPath<Vertex, DirectedEdge<Vertex>>(snapshot).getShortestPath(start, end);
+        assertEquals(expected.get(expected.size() - 1).getWeight(), actual.get(actual.size() - 1).getWeight());
+
+        CsrGraph<Vertex> merged = snapshot.toCsrGraph(), copy = CsrGraph.copyOf(snapshot);
+        assertArrayEquals(copy.getOffsets(), merged.getOffsets());
+        assertArrayEquals(copy.getTargets(), merged.getTargets());
+    }
+
+    @Test
+    public void testRemoval() {
+        Vertex a = vertex("a"), b = vertex("b"), c = vertex("c");
+        DirectedEdge<Vertex> ab = new DirectedEdge<Vertex>(a, b, 1);
+        graph.put(ab);
+        graph.put(new DirectedEdge<Vertex>(a, c, 2));
+        graph.put(new DirectedEdge<Vertex>(c, a, 3));
+        graph.compact(); // removals now tombstone base arcs
+        VersionedGraph.Snapshot<Vertex> before = graph.snapshot();
+
+        assertTrue(graph.removeEdge(ab));
+        assertFalse(graph.removeEdge(ab));
+        assertFalse(graph.get(ab).isPresent());
+        assertTrue(before.get(ab).isPresent());
+
+        assertTrue(graph.removeVertex(c));
+        assertFalse(graph.removeVertex(c));
+        for (int round = 0; round < 2; ++round) {
+            VersionedGraph.Snapshot<Vertex> after = graph.snapshot();
+            assertEquals(0, after.getNeighborsOf(a).size());
+            assertEquals(2, after.getVertexCount());
+            assertEquals(2, after.getVertices().size());
+            assertEquals(-1, after.getId(c));
+            assertEquals(0, after.getArcCount());
+            assertEquals(0, after.getEdges().size());
+            graph.compact();
+        }
+        assertEquals(2, before.getNeighborsOf(a).size());
+        assertEquals(3, before.getEdges().size());
+
+        graph.put(new DirectedEdge<Vertex>(c, b, 4)); // brings c back
+        graph.put(ab);
+        assertEquals(3, graph.snapshot().getVertexCount());
+        assertEquals(2, graph.snapshot().getArcCount());
+        assertTrue(graph.get(ab).isPresent());
+    }
+
+    /**
+     * Interleaved puts and removals across background compactions must match a simple graph.
+     */
+    @Test
+    public void testChurnMatchesSimpleGraph() {
+        SimpleDirectedGraph<Vertex> simple = new SimpleDirectedGraph<Vertex>();
+        Random random = new Random(5);
+        for (int op = 0; op < 20000; ++op) {
+            Vertex v1 = vertex("v" + random.nextInt(30)), v2 = vertex("v" + random.nextInt(30));
+            DirectedEdge<Vertex> e = new DirectedEdge<Vertex>(v1, v2, 1);
+            if (random.nextInt(500) == 0) {
+                assertEquals(simple.removeVertex(v1), graph.removeVertex(v1));
+            } else if (simple.get(e).isPresent()) {
+                assertTrue(graph.get(e).isPresent());
+                simple.removeEdge(e);
+                assertTrue(graph.removeEdge(new DirectedEdge<Vertex>(v1, v2, e.getWeight())));
+            } else {
+                assertFalse(graph.get(e).isPresent());
+                simple.put(e);
+                graph.put(new DirectedEdge<Vertex>(vertex(v1.getName()), vertex(v2.getName()), e.getWeight()));
+            }
+        }
+        VersionedGraph.Snapshot<Vertex> snapshot = graph.snapshot();
+        assertEquals(simple.getEdges().size(), snapshot.getArcCount());
+        assertEquals(simple.getEdges().size(), snapshot.getEdges().size());
+        assertEquals(simple.getVertices().size(), snapshot.getVertexCount());
+        for (Vertex v : simple.getVertices()) {
+            assertEquals(neighbors(simple, v), neighbors(snapshot, v));
+        }
+    }
+
+    /**
+     * A reader keeps pinning snapshots while the writer appends and the background compactor swaps bases; every
+     * snapshot must be internally consistent and never shrink.
+     */
+    @Test
+    public void testReadersDuringWritesAndCompaction() throws Exception {
+        final int n = 200, m = 20000;
+        final List<Vertex> vertices = new ArrayList<Vertex>();
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("v" + i));
+        }
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    long previous = 0;
+                    while (previous < m) {
+                        VersionedGraph.Snapshot<Vertex> snapshot = graph.snapshot();
+                        long arcs = 0;
+                        for (Vertex v : snapshot.getVertices()) {
+                            arcs += snapshot.getNeighborsOf(v).size();
+                        }
+                        assertEquals(snapshot.getArcCount(), arcs);
+                        assertTrue(arcs >= previous);
+                        previous = arcs;
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }
+        });
+        reader.start();
+        // i -> (i * 7 + k) mod n gives m distinct arcs
+        for (int k = 1; k <= m / n; ++k) {
+            for (int i = 0; i < n; ++i) {
+                graph.put(new DirectedEdge<Vertex>(vertices.get(i), vertices.get((i * 7 + k) % n), k));
+            }
+        }
+        reader.join(60000);
+        assertNull(failure.get());
+        assertFalse(reader.isAlive());
+        assertTrue(graph.getCompactionCount() > 0);
+        assertEquals(m, graph.snapshot().getArcCount());
+    }
+
+    /**
+     * After close, writes past the compaction threshold must still succeed; compaction is left to compact().
+     */
+    @Test
+    public void testWritesAfterClose() {
+        VersionedGraph<Vertex> closed = new VersionedGraph<Vertex>(4);
+        closed.close();
+        for (int i = 0; i < 10; ++i) {
+            closed.put(new DirectedEdge<Vertex>(vertex("a"), vertex("v" + i), i));
+        }
+        assertEquals(10, closed.snapshot().getArcCount());
+        assertEquals(10, closed.snapshot().getDeltaSize());
+        assertEquals(0, closed.getCompactionCount());
+
+        closed.compact();
+        assertEquals(1, closed.getCompactionCount());
+        assertEquals(0, closed.snapshot().getDeltaSize());
+        assertEquals(10, closed.getNeighborsOf(vertex("a")).size());
+    }
+
+    private static Map<Vertex, Integer> neighbors(Graph<Vertex, ?> graph, Vertex v) {
+        Map<Vertex, Integer> result = new HashMap<Vertex, Integer>();
+        for (VertexWeightBean<Vertex> bean : graph.getNeighborsOf(v)) {
+            result.put(bean.getVertex(), bean.getWeight());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+package vvakar.graph.connectivity;
+
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.components.SimpleUndirectedGraph;
+import vvakar.graph.components.UndirectedEdge;
+import vvakar.graph.components.UnionFind;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ConnectedComponentsTest {
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+
+    @Test
+    public void testEmpty() {
+        ComponentsBean<Vertex> cc = ConnectedComponents.compute(new SimpleUndirectedGraph<Vertex>());
+        assertEquals(0, cc.getCount());
+    }
+
+    @Test
+    public void testUndirected() {
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        graph.put(new UndirectedEdge<Vertex>(v1, v2, 1));
+        graph.put(new UndirectedEdge<Vertex>(v2, v3, 1));
+        graph.put(new UndirectedEdge<Vertex>(v4, v5, 1));
+
+        ComponentsBean<Vertex> cc = ConnectedComponents.compute(graph);
+        assertEquals(2, cc.getCount());
+        assertTrue(cc.isConnected(v1, v3));
+        assertFalse(cc.isConnected(v3, v4));
+        assertEquals(3, cc.getSize(v2));
+        assertEquals(2, cc.getSize(v5));
+    }
+
+    @Test
+    public void testWeaklyConnected() {
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2));
+        graph.put(directedEdge(v3, v2));
+        graph.put(directedEdge(v5, v4));
+
+        ComponentsBean<Vertex> cc = ConnectedComponents.compute(graph);
+        assertEquals(2, cc.getCount());
+        assertTrue(cc.isConnected(v1, v3));
+        assertTrue(cc.isConnected(v4, v5));
+    }
+
+    @Test
+    public void testRandomMatchesUnionFind() {
+        Random random = new Random(28);
+        int n = 50000, m = 40000;
+        int[] tails = new int[2 * m], heads = new int[2 * m], weights = new int[2 * m];
+        UnionFind expected = new UnionFind(n);
+        for (int i = 0; i < m; ++i) {
+            int a = random.nextInt(n), b = random.nextInt(n);
+            tails[2 * i] = heads[2 * i + 1] = a;
+            heads[2 * i] = tails[2 * i + 1] = b;
+            expected.union(a, b);
+        }
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("" + i));
+        }
+
+        ComponentsBean<Vertex> cc =
+                ConnectedComponents.compute(CsrGraph.fromArcs(vertices, tails, heads, weights, 2 * m));
+        assertEquals(expected.count(), cc.getCount());
+        for (int i = 0; i < m; ++i) {
+            assertEquals(cc.getLabels()[tails[2 * i]], cc.getLabels()[heads[2 * i]]);
+            assertEquals(expected.size(tails[2 * i]), cc.getSizes()[cc.getLabels()[tails[2 * i]]]);
+        }
+    }
+
+    @Test
+    public void testHw1() throws Exception {
+        SimpleDirectedGraph<Vertex> graph = Util.getDirectedGraph("graph1.txt");
+        ComponentsBean<Vertex> cc = ConnectedComponents.compute(graph);
+        assertEquals(1, cc.getCount());
+        assertEquals(graph.getVertices().size(), cc.getSizes()[0]);
+    }
+}
@@ -0,0 +1,55 @@
+package vvakar.graph.connectivity;
+
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.traversal.DepthFirstSearch;
+
+import java.util.Random;
+
+/**
+ * Manual benchmark, not picked up by the test run:
+ * <code>java vvakar.graph.connectivity.ReachabilityIndexBenchmark [vertices] [arcs] [queries] [traversals]</code>
+ * Builds the index over a random DAG, answers random queries, and times a sample of plain DFS queries for
+ * comparison.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ReachabilityIndexBenchmark {
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 4000000;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 1000000;
+        int traversals = args.length > 3 ? Integer.parseInt(args[3]) : ReachabilityIndex.DEFAULT_TRAVERSALS;
+
+        Random random = new Random(36);
+        CsrGraph<Vertex> csr = ReachabilityIndexTest.randomGraph(n, m, true, random);
+        ReachabilityIndex<Vertex> index = ReachabilityIndex.build(csr, traversals, 36);
+        System.out.println(index.getReport());
+
+        long start = System.nanoTime();
+        int reachable = 0;
+        for (int i = 0; i < queries; ++i) {
+            if (index.canReach(random.nextInt(n), random.nextInt(n))) ++reachable;
+        }
+        report("index", queries, start, reachable);
+        System.out.println(index.getReport());
+
+        int sample = Math.min(queries, 1000);
+        DepthFirstSearch dfs = new DepthFirstSearch(csr);
+        start = System.nanoTime();
+        reachable = 0;
+        for (int i = 0; i < sample; ++i) {
+            int u = random.nextInt(n), v = random.nextInt(n);
+            dfs.reset();
+            dfs.run(u, new DepthFirstSearch.VisitorAdapter());
+            if (dfs.isDiscovered(v)) ++reachable;
+        }
+        report("dfs", sample, start, reachable);
+    }
+
+    private static void report(String name, int queries, long startNanos, int reachable) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println(String.format("%s: %d queries in %.3fs (%.2f us/query), %d reachable",
+                name, queries, seconds, seconds * 1e6 / queries, reachable));
+    }
+}
@@ -0,0 +1,86 @@
+package vvakar.graph.connectivity;
+
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.traversal.DepthFirstSearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ReachabilityIndexTest {
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+
+    @Test
+    public void testCyclesAndBranches() {
+        /*
+            v1 -> v2 -> v3 -> v1,  v3 -> v4,  v5 -> v4
+         */
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2));
+        graph.put(directedEdge(v2, v3));
+        graph.put(directedEdge(v3, v1));
+        graph.put(directedEdge(v3, v4));
+        graph.put(directedEdge(v5, v4));
+
+        ReachabilityIndex<Vertex> index = ReachabilityIndex.build(graph);
+        assertEquals(3, index.getComponentCount());
+        assertEquals(2, index.getDagArcCount());
+        assertTrue(index.canReach(v1, v1));
+        assertTrue(index.canReach(v3, v2));
+        assertTrue(index.canReach(v2, v4));
+        assertTrue(index.canReach(v5, v4));
+        assertFalse(index.canReach(v4, v1));
+        assertFalse(index.canReach(v5, v1));
+        assertFalse(index.canReach(v1, v5));
+    }
+
+    @Test
+    public void testMatchesDepthFirstSearch() {
+        Random random = new Random(36);
+        for (int round = 0; round < 20; ++round) {
+            int n = 50 + random.nextInt(100), m = n + random.nextInt(2 * n);
+            CsrGraph<Vertex> csr = randomGraph(n, m, random.nextBoolean(), random);
+            ReachabilityIndex<Vertex> index = ReachabilityIndex.build(csr, 1 + random.nextInt(4), round);
+
+            DepthFirstSearch dfs = new DepthFirstSearch(csr);
+            for (int u = 0; u < n; ++u) {
+                dfs.reset();
+                dfs.run(u, new DepthFirstSearch.VisitorAdapter());
+                for (int v = 0; v < n; ++v) {
+                    assertEquals(u + " -> " + v, dfs.isDiscovered(v), index.canReach(u, v));
+                }
+            }
+            assertEquals((long) n * n, index.getLabelAnswerCount() + index.getSearchAnswerCount());
+        }
+    }
+
+    /**
+     * Random arcs; when <code>acyclic</code> they only go from higher to lower ids.
+     */
+    static CsrGraph<Vertex> randomGraph(int n, int m, boolean acyclic, Random random) {
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("v" + i));
+        }
+        int[] tails = new int[m], heads = new int[m];
+        for (int i = 0; i < m; ++i) {
+            int a = random.nextInt(n), b = random.nextInt(n);
+            tails[i] = acyclic ? Math.max(a, b) : a;
+            heads[i] = acyclic ? Math.min(a, b) : b;
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, new int[m], m);
+    }
+}
@@ -0,0 +1,61 @@
+package vvakar.graph.connectivity;
+
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class StronglyConnectedComponentsTest {
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, StronglyConnectedComponents.compute(new SimpleDirectedGraph<Vertex>()).getCount());
+    }
+
+    @Test
+    public void testCycles() {
+        /*
+            v1 -> v2 -> v3 -> v1,  v3 -> v4 <-> v5
+         */
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2));
+        graph.put(directedEdge(v2, v3));
+        graph.put(directedEdge(v3, v1));
+        graph.put(directedEdge(v3, v4));
+        graph.put(directedEdge(v4, v5));
+        graph.put(directedEdge(v5, v4));
+
+        ComponentsBean<Vertex> scc = StronglyConnectedComponents.compute(graph);
+        assertEquals(2, scc.getCount());
+        assertTrue(scc.isConnected(v1, v3));
+        assertTrue(scc.isConnected(v4, v5));
+        assertFalse(scc.isConnected(v3, v4));
+        assertEquals(3, scc.getSize(v2));
+        // reverse topological labelling: v3 -> v4 goes from a higher label to a lower one
+        assertTrue(scc.getLabel(v3) > scc.getLabel(v4));
+    }
+
+    @Test
+    public void testLabelsAreReverseTopological() throws Exception {
+        ComponentsBean<Vertex> scc = StronglyConnectedComponents.compute(Util.getDirectedGraph("graph1.txt"));
+        CsrGraph<Vertex> csr = scc.getGraph();
+        int[] labels = scc.getLabels();
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = csr.getOffsets()[u]; i < csr.getOffsets()[u + 1]; ++i) {
+                assertTrue(labels[u] >= labels[csr.getTargets()[i]]);
+            }
+        }
+    }
+}
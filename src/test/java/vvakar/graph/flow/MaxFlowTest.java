@@ -0,0 +1,121 @@
+package vvakar.graph.flow;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MaxFlowTest {
+    SimpleDirectedGraph<Vertex> graph;
+    Vertex s = vertex("s"), a = vertex("a"), b = vertex("b"), c = vertex("c"), d = vertex("d"), t = vertex("t");
+
+    @Before
+    public void before() {
+        // CLRS figure 26.1, max flow 23
+        graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(s, a, 16));
+        graph.put(directedEdge(s, b, 13));
+        graph.put(directedEdge(b, a, 4));
+        graph.put(directedEdge(a, c, 12));
+        graph.put(directedEdge(c, b, 9));
+        graph.put(directedEdge(b, d, 14));
+        graph.put(directedEdge(d, c, 7));
+        graph.put(directedEdge(c, t, 20));
+        graph.put(directedEdge(d, t, 4));
+    }
+
+    @Test
+    public void testClrs() {
+        for (MaxFlow.Algorithm algorithm : MaxFlow.Algorithm.values()) {
+            MaxFlow.FlowBean<Vertex> flow = MaxFlow.compute(CsrGraph.copyOf(graph), s, t, algorithm);
+            assertEquals(23, flow.getFlowValue());
+            assertTrue(flow.isOnSourceSide(d));
+            assertFalse(flow.isOnSourceSide(c));
+            assertFalse(flow.isOnSourceSide(t));
+            assertEquals(12, flow.getFlow(a, c));
+            assertEquals(4, flow.getFlow(d, t));
+            assertFlowConserved(flow, s, t);
+        }
+    }
+
+    @Test
+    public void testDisconnected() {
+        graph.put(directedEdge(vertex("x"), vertex("y"), 3));
+        MaxFlow.FlowBean<Vertex> flow = MaxFlow.compute(graph, t, s);
+        assertEquals(0, flow.getFlowValue());
+    }
+
+    @Test
+    public void testRandomAlgorithmsAgree() {
+        Random random = new Random(34);
+        final int n = 300;
+        int m = 3000;
+        int[] tails = new int[m], heads = new int[m], caps = new int[m];
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            caps[i] = random.nextInt(100);
+        }
+        List<Vertex> vertices = new AbstractList<Vertex>() {
+            @Override
+            public Vertex get(int index) {
+                return vertex("" + index);
+            }
+
+            @Override
+            public int size() {
+                return n;
+            }
+        };
+        CsrGraph<Vertex> csr = CsrGraph.fromArcs(vertices, tails, heads, caps, m);
+        for (int k = 1; k < 10; ++k) {
+            MaxFlow.FlowBean<Vertex> dinic = MaxFlow.compute(csr, vertex("0"), vertex("" + k), MaxFlow.Algorithm.DINIC);
+            MaxFlow.FlowBean<Vertex> pushRelabel = MaxFlow.compute(csr, vertex("0"), vertex("" + k), MaxFlow.Algorithm.PUSH_RELABEL);
+            assertEquals(dinic.getFlowValue(), pushRelabel.getFlowValue());
+            assertFlowConserved(pushRelabel, vertex("0"), vertex("" + k));
+
+            // cut capacity equals flow value
+            long cut = 0;
+            boolean[] side = pushRelabel.getSourceSide();
+            for (int u = 0; u < n; ++u) {
+                for (int i = csr.getOffsets()[u]; i < csr.getOffsets()[u + 1]; ++i) {
+                    if (side[u] && !side[csr.getTargets()[i]]) cut += csr.getWeights()[i];
+                }
+            }
+            assertEquals(pushRelabel.getFlowValue(), cut);
+        }
+    }
+
+    private static void assertFlowConserved(MaxFlow.FlowBean<Vertex> flow, Vertex source, Vertex sink) {
+        CsrGraph<Vertex> csr = flow.getGraph();
+        long[] balance = new long[csr.vertexCount()];
+        for (int u = 0; u < csr.vertexCount(); ++u) {
+            for (int i = csr.getOffsets()[u]; i < csr.getOffsets()[u + 1]; ++i) {
+                long f = flow.getFlow(i);
+                assertTrue(f >= 0 && f <= csr.getWeights()[i]);
+                balance[u] -= f;
+                balance[csr.getTargets()[i]] += f;
+            }
+        }
+        for (int v = 0; v < balance.length; ++v) {
+            if (v == csr.getId(source)) assertEquals(-flow.getFlowValue(), balance[v]);
+            else if (v == csr.getId(sink)) assertEquals(flow.getFlowValue(), balance[v]);
+            else assertEquals(0, balance[v]);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package vvakar.graph.io;
+
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Manual benchmark, not picked up by the test run:
+ * <code>java vvakar.graph.io.BinaryGraphFormatBenchmark [resource] [rounds]</code>
+ * Compares loading a text graph through <code>Util.getDirectedGraph</code> with loading its binary conversion.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BinaryGraphFormatBenchmark {
+    public static void main(String[] args) throws Exception {
+        String resource = args.length > 0 ? args[0] : "graph1.txt";
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        Path text = new File("src/test/resources/" + resource).toPath();
+        Path binary = Files.createTempFile("graph", ".vgb");
+        try {
+            TextGraphConverter.convert(text, binary, false);
+            System.out.println(String.format("text %d bytes, binary %d bytes", Files.size(text), Files.size(binary)));
+
+            // warm up each path before timing it
+            for (int i = 0; i < rounds; ++i) {
+                Util.getDirectedGraph(resource);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; ++i) {
+                Util.getDirectedGraph(resource);
+            }
+            double textMillis = (System.nanoTime() - start) / 1e6 / rounds;
+
+            CsrGraph<Vertex> loaded = null;
+            for (int i = 0; i < 10 * rounds; ++i) {
+                loaded = BinaryGraphReader.read(binary);
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; ++i) {
+                loaded = BinaryGraphReader.read(binary);
+            }
+            double binaryMillis = (System.nanoTime() - start) / 1e6 / rounds;
+
+            System.out.println(String.format("Util.getDirectedGraph: %.2f ms, BinaryGraphReader: %.2f ms (%d arcs), %.1fx",
+                    textMillis, binaryMillis, loaded.arcCount(), textMillis / binaryMillis));
+        } finally {
+            Files.delete(binary);
+        }
+    }
+}
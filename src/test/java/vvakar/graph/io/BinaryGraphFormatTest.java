@@ -0,0 +1,123 @@
+package vvakar.graph.io;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class BinaryGraphFormatTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Random random = new Random(40);
+        int n = 3000, m = 20000;
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("vértex " + i));
+        }
+        int[] tails = new int[m], heads = new int[m], weights = new int[m];
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            weights[i] = random.nextInt() >> random.nextInt(32);
+        }
+        CsrGraph<Vertex> csr = CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+        Path file = folder.newFile("random.vgb").toPath();
+        BinaryGraphWriter.write(csr, file);
+
+        CsrGraph<Vertex> loaded = BinaryGraphReader.read(file);
+        assertEquals(vertices, loaded.getVertices());
+        assertArrayEquals(csr.getOffsets(), loaded.getOffsets());
+        assertArrayEquals(csr.getTargets(), loaded.getTargets());
+        assertArrayEquals(csr.getWeights(), loaded.getWeights());
+    }
+
+    @Test
+    public void testConvertText() throws Exception {
+        Path text = new File("src/test/resources/graph1.txt").toPath();
+        Path binary = folder.newFile("graph1.vgb").toPath();
+        TextGraphConverter.convert(text, binary, false);
+        CsrGraph<Vertex> loaded = BinaryGraphReader.read(binary);
+
+        SimpleDirectedGraph<Vertex> expected = Util.getDirectedGraph("graph1.txt");
+        assertEquals(expected.getVertices().size(), loaded.vertexCount());
+        assertEquals(expected.getEdges().size(), loaded.arcCount());
+        CsrGraph<Vertex> copy = CsrGraph.copyOf(expected);
+        for (Vertex v : expected.getVertices()) {
+            assertEquals(copy.degree(copy.getId(v)), loaded.degree(loaded.getId(v)));
+        }
+        assertEquals(2 * loaded.arcCount(), TextGraphConverter.parse(text, true).arcCount());
+        assertTrue(Files.size(binary) < Files.size(text));
+    }
+
+    @Test
+    public void testCorruption() throws Exception {
+        byte[] bytes = small();
+        bytes[bytes.length - 6] ^= 1;
+        try {
+            BinaryGraphReader.read(new ByteArrayInputStream(bytes));
+            fail();
+        } catch (IOException e) {
+            assertEquals("Checksum mismatch in adjacency section", e.getMessage());
+        }
+
+        try {
+            BinaryGraphReader.read(new ByteArrayInputStream(Arrays.copyOf(small(), small().length - 2)));
+            fail();
+        } catch (EOFException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsortedRow() throws Exception {
+        BinaryGraphWriter writer = new BinaryGraphWriter(new ByteArrayOutputStream(), ImmutableList.of("a", "b", "c"), 2);
+        writer.writeRow(new int[]{2, 1}, new int[]{1, 1}, 0, 2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingRows() throws Exception {
+        BinaryGraphWriter writer = new BinaryGraphWriter(new ByteArrayOutputStream(), ImmutableList.of("a", "b"), 0);
+        writer.writeRow(new int[0], new int[0], 0, 0);
+        writer.close();
+    }
+
+    private static byte[] small() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryGraphWriter writer = new BinaryGraphWriter(out, ImmutableList.of("a", "b", "c"), 3);
+        writer.writeRow(new int[]{1, 2}, new int[]{5, -7}, 0, 2);
+        writer.writeRow(new int[]{0}, new int[]{300}, 0, 1);
+        writer.writeRow(new int[0], new int[0], 0, 0);
+        writer.close();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package vvakar.graph.io;
+
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Manual benchmark, not picked up by the test run:
+ * <code>java vvakar.graph.io.EdgeListLoaderBenchmark [vertices] [edges]</code>
+ * Loads graph1.txt both ways, then a generated edge list of the given size with the parallel loader only.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgeListLoaderBenchmark {
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        long m = args.length > 1 ? Long.parseLong(args[1]) : 20000000L;
+
+        Path small = new File("src/test/resources/graph1.txt").toPath();
+        for (int i = 0; i < 10; ++i) {
+            Util.getDirectedGraph("graph1.txt");
+            EdgeListLoader.load(small);
+        }
+        long start = System.nanoTime();
+        Util.getDirectedGraph("graph1.txt");
+        double utilMillis = (System.nanoTime() - start) / 1e6;
+        start = System.nanoTime();
+        EdgeListLoader.load(small);
+        double loaderMillis = (System.nanoTime() - start) / 1e6;
+        System.out.println(String.format("graph1.txt: Util.getDirectedGraph %.2f ms, EdgeListLoader %.2f ms",
+                utilMillis, loaderMillis));
+
+        Path file = Files.createTempFile("edges", ".txt");
+        try {
+            Random random = new Random(41);
+            BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII);
+            try {
+                writer.write(n + " " + m + "\n");
+                for (long i = 0; i < m; ++i) {
+                    writer.write(random.nextInt(n) + " " + random.nextInt(n) + " " + random.nextInt(1000) + "\n");
+                }
+            } finally {
+                writer.close();
+            }
+            double megabytes = Files.size(file) / 1e6;
+            for (int round = 0; round < 3; ++round) {
+                start = System.nanoTime();
+                CsrGraph<Vertex> csr = EdgeListLoader.load(file);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.println(String.format("%.0f MB, %d vertices, %d arcs: %.2fs (%.0f MB/s)",
+                        megabytes, csr.vertexCount(), csr.arcCount(), seconds, megabytes / seconds));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package vvakar.graph.io;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.interfaces.VertexWeightBean;
+import vvakar.util.Util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgeListLoaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testMatchesUtil() throws Exception {
+        Path text = new File("src/test/resources/graph1.txt").toPath();
+        assertSameGraph(Util.getDirectedGraph("graph1.txt"), EdgeListLoader.load(text));
+
+        // Util.getUndirectedGraph rejects graph1.txt, which already has some edges in both directions
+        CsrGraph<Vertex> directed = EdgeListLoader.load(text), symmetric = EdgeListLoader.load(text, true);
+        assertEquals(2 * directed.arcCount(), symmetric.arcCount());
+        for (int u = 0; u < directed.vertexCount(); ++u) {
+            for (int i = directed.getOffsets()[u]; i < directed.getOffsets()[u + 1]; ++i) {
+                assertTrue(symmetric.findArc(directed.getTargets()[i], u) >= 0);
+            }
+        }
+    }
+
+    @Test
+    public void testFormatting() throws Exception {
+        Path file = folder.newFile("edges.txt").toPath();
+        Files.write(file, "3 4\r\n10\t20 -5\r\n\n  20 10\n10 30 7\n30 10 2147483647".getBytes(StandardCharsets.US_ASCII));
+        CsrGraph<Vertex> csr = EdgeListLoader.load(file);
+
+        assertEquals(3, csr.vertexCount());
+        assertEquals(vertex("10"), csr.getVertex(0));
+        assertEquals(vertex("30"), csr.getVertex(2));
+        assertArrayEquals(new int[]{0, 2, 3, 4}, csr.getOffsets());
+        assertArrayEquals(new int[]{1, 2, 0, 0}, csr.getTargets());
+        assertArrayEquals(new int[]{-5, 7, 1, Integer.MAX_VALUE}, csr.getWeights());
+    }
+
+    @Test
+    public void testManyChunks() throws Exception {
+        Random random = new Random(41);
+        int n = 5000, m = 200000;
+        StringBuilder text = new StringBuilder(n + " " + m + "\n");
+        int[] tails = new int[m], heads = new int[m], weights = new int[m];
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            weights[i] = random.nextInt(2000) - 1000;
+            text.append(tails[i]).append(' ').append(heads[i]).append(' ').append(weights[i]).append('\n');
+        }
+        Path file = folder.newFile("random.txt").toPath();
+        Files.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        CsrGraph<Vertex> loaded = EdgeListLoader.load(file);
+        assertEquals(m, loaded.arcCount());
+        // every vertex name appears, so dense ids coincide with the names
+        int[] degrees = new int[loaded.vertexCount()];
+        for (int i = 0; i < m; ++i) {
+            ++degrees[tails[i]];
+            int arc = loaded.findArc(tails[i], heads[i]);
+            assertTrue(arc >= 0);
+        }
+        for (int v = 0; v < loaded.vertexCount(); ++v) {
+            assertEquals(String.valueOf(v), loaded.getVertex(v).getName());
+            assertEquals(degrees[v], loaded.degree(v));
+        }
+    }
+
+    /**
+     * Names far larger than the arc count must not size memory by the largest name.
+     */
+    @Test
+    public void testSparseNames() throws Exception {
+        Path small = folder.newFile("sparse.txt").toPath();
+        Files.write(small, "2 1\n0 2000000000\n".getBytes(StandardCharsets.US_ASCII));
+        CsrGraph<Vertex> csr = EdgeListLoader.load(small);
+        assertEquals(2, csr.vertexCount());
+        assertEquals(vertex("2000000000"), csr.getVertex(1));
+        assertArrayEquals(new int[]{1}, csr.getTargets());
+
+        Random random = new Random(43);
+        int n = 1000, m = 50000, stride = 2000003;
+        StringBuilder text = new StringBuilder(n + " " + m + "\n");
+        int[] tails = new int[m], heads = new int[m];
+        SortedSet<Integer> names = new TreeSet<Integer>();
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n) * stride;
+            heads[i] = random.nextInt(n) * stride;
+            names.add(tails[i]);
+            names.add(heads[i]);
+            text.append(tails[i]).append(' ').append(heads[i]).append('\n');
+        }
+        Path file = folder.newFile("sparse-random.txt").toPath();
+        Files.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        CsrGraph<Vertex> loaded = EdgeListLoader.load(file);
+        assertEquals(names.size(), loaded.vertexCount());
+        assertEquals(m, loaded.arcCount());
+        int id = 0;
+        for (int name : names) {
+            assertEquals(String.valueOf(name), loaded.getVertex(id++).getName());
+        }
+        for (int i = 0; i < m; ++i) {
+            int tail = loaded.getId(vertex(String.valueOf(tails[i])));
+            assertTrue(loaded.findArc(tail, loaded.getId(vertex(String.valueOf(heads[i])))) >= 0);
+        }
+    }
+
+    @Test
+    public void testRejectsNames() throws Exception {
+        Path file = folder.newFile("names.txt").toPath();
+        Files.write(file, "2 1\nv1 v2 3\n".getBytes(StandardCharsets.US_ASCII));
+        try {
+            EdgeListLoader.load(file);
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("Unexpected character 'v'"));
+        }
+    }
+
+    private static void assertSameGraph(SimpleDirectedGraph<Vertex> expected, CsrGraph<Vertex> loaded) {
+        assertEquals(expected.getVertices().size(), loaded.vertexCount());
+        assertEquals(expected.getEdges().size(), loaded.arcCount());
+        for (Vertex v : expected.getVertices()) {
+            int id = loaded.getId(v);
+            for (VertexWeightBean<Vertex> neighbor : expected.getNeighborsOf(v)) {
+                int arc = loaded.findArc(id, loaded.getId(neighbor.getVertex()));
+                assertTrue(arc >= 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package vvakar.graph.matching;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import vvakar.graph.components.SimpleUndirectedGraph;
+import vvakar.graph.components.UndirectedEdge;
+import vvakar.graph.flow.MaxFlow;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class HopcroftKarpTest {
+    Vertex job1 = vertex("job1"), job2 = vertex("job2"), job3 = vertex("job3");
+    Vertex ann = vertex("ann"), bob = vertex("bob"), cat = vertex("cat");
+
+    @Test
+    public void testNeedsAugmentingPath() {
+        /*
+            job1 - ann, job1 - bob, job2 - ann, job3 - bob, job3 - cat
+         */
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        graph.put(new UndirectedEdge<Vertex>(job1, ann, 1));
+        graph.put(new UndirectedEdge<Vertex>(job1, bob, 1));
+        graph.put(new UndirectedEdge<Vertex>(job2, ann, 1));
+        graph.put(new UndirectedEdge<Vertex>(job3, bob, 1));
+        graph.put(new UndirectedEdge<Vertex>(job3, cat, 1));
+
+        HopcroftKarp.MatchingBean<Vertex> matching = HopcroftKarp.compute(graph, ImmutableList.of(job1, job2, job3));
+        assertEquals(3, matching.getSize());
+        assertEquals(ann, matching.getMate(job2));
+        assertEquals(bob, matching.getMate(job1));
+        assertEquals(cat, matching.getMate(job3));
+        assertEquals(job3, matching.getMate(cat));
+        assertEquals(3, matching.getPairs().size());
+    }
+
+    @Test
+    public void testUnmatched() {
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        graph.put(new UndirectedEdge<Vertex>(job1, ann, 1));
+        graph.put(new UndirectedEdge<Vertex>(job2, ann, 1));
+
+        HopcroftKarp.MatchingBean<Vertex> matching = HopcroftKarp.compute(graph, ImmutableList.of(job1, job2));
+        assertEquals(1, matching.getSize());
+        assertTrue(matching.isMatched(ann));
+        assertFalse(matching.isMatched(job1) && matching.isMatched(job2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsEdgeWithinSide() {
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        graph.put(new UndirectedEdge<Vertex>(job1, job2, 1));
+        HopcroftKarp.compute(graph, ImmutableList.of(job1, job2));
+    }
+
+    @Test
+    public void testRandomMatchesMaxFlow() {
+        Random random = new Random(35);
+        int leftCount = 200, rightCount = 150;
+        List<Vertex> left = new ArrayList<Vertex>();
+        SimpleUndirectedGraph<Vertex> graph = new SimpleUndirectedGraph<Vertex>();
+        SimpleDirectedGraph<Vertex> network = new SimpleDirectedGraph<Vertex>();
+        Vertex source = vertex("source"), sink = vertex("sink");
+        for (int i = 0; i < leftCount; ++i) {
+            left.add(vertex("l" + i));
+            network.put(directedEdge(source, left.get(i), 1));
+        }
+        for (int j = 0; j < rightCount; ++j) {
+            network.put(directedEdge(vertex("r" + j), sink, 1));
+        }
+        for (int k = 0; k < 600; ++k) {
+            Vertex l = left.get(random.nextInt(leftCount)), r = vertex("r" + random.nextInt(rightCount));
+            UndirectedEdge<Vertex> e = new UndirectedEdge<Vertex>(l, r, 1);
+            if (!graph.get(e).isPresent()) {
+                graph.put(e);
+                network.put(directedEdge(l, r, 1));
+            }
+        }
+
+        HopcroftKarp.MatchingBean<Vertex> matching = HopcroftKarp.compute(graph, left);
+        assertEquals(MaxFlow.compute(network, source, sink).getFlowValue(), matching.getSize());
+        for (Map.Entry<Vertex, Vertex> pair : matching.getPairs().entrySet()) {
+            assertTrue(graph.get(new UndirectedEdge<Vertex>(pair.getKey(), pair.getValue(), 1)).isPresent());
+            assertEquals(pair.getKey(), matching.getMate(pair.getValue()));
+        }
+    }
+}
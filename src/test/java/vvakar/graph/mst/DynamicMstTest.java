@@ -0,0 +1,132 @@
+package vvakar.graph.mst;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.components.DirectedEdge;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class DynamicMstTest {
+    SimpleDirectedGraph<Vertex> nonEmptyGraph;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+    DirectedEdge<Vertex> e12 = directedEdge(v1, v2, 3), e13 = directedEdge(v1, v3, 10), e25 = directedEdge(v2, v5, 123456),
+            e34 = directedEdge(v3, v4, 9), e45 = directedEdge(v4, v5, 1);
+
+    @Before
+    public void before() {
+        nonEmptyGraph = new SimpleDirectedGraph<Vertex>();
+        /*
+             v1 --3-> v2 --123456-> v5
+               \10                  ^
+                \__> v3 --9-> v4  / 1
+        */
+        nonEmptyGraph.put(e12);
+        nonEmptyGraph.put(e13);
+        nonEmptyGraph.put(e34);
+        nonEmptyGraph.put(e25);
+        nonEmptyGraph.put(e45);
+    }
+
+    @Test
+    public void testEmpty() {
+        DynamicMst<Vertex, DirectedEdge<Vertex>> mst = new DynamicMst<Vertex, DirectedEdge<Vertex>>();
+        assertEquals(0, mst.getTotalWeight());
+        assertEquals(0, mst.size());
+        assertFalse(mst.isConnected(v1, v2));
+    }
+
+    @Test
+    public void testSelfEdge() {
+        DynamicMst<Vertex, DirectedEdge<Vertex>> mst = new DynamicMst<Vertex, DirectedEdge<Vertex>>();
+        assertFalse(mst.add(directedEdge(v1, v1, 9)));
+        assertEquals(0, mst.getTotalWeight());
+    }
+
+    @Test
+    public void testMatchesPrims() {
+        DynamicMst<Vertex, DirectedEdge<Vertex>> mst = new DynamicMst<Vertex, DirectedEdge<Vertex>>(nonEmptyGraph);
+        assertEquals(PrimsAlgo.getTotalSize(PrimsAlgo.compute(nonEmptyGraph)), mst.getTotalWeight());
+        assertEquals(4, mst.size());
+        assertFalse(mst.contains(e25));
+        assertTrue(mst.contains(e45));
+        assertTrue(mst.isConnected(v2, v5));
+    }
+
+    @Test
+    public void testReplacesHeaviestEdgeOnCycle() {
+        DynamicMst<Vertex, DirectedEdge<Vertex>> mst = new DynamicMst<Vertex, DirectedEdge<Vertex>>(nonEmptyGraph);
+        DirectedEdge<Vertex> e52 = directedEdge(v5, v2, 2);
+        assertTrue(mst.add(e52));
+        assertFalse(mst.contains(e13));
+        assertEquals(3 + 2 + 1 + 9, mst.getTotalWeight());
+
+        assertFalse(mst.add(directedEdge(v1, v4, 100)));
+        assertEquals(15, mst.getTotalWeight());
+    }
+
+    @Test
+    public void testRandomInsertionsMatchKruskal() {
+        Random random = new Random(26);
+        int n = 200;
+        List<Vertex> vs = new ArrayList<Vertex>();
+        for (int i = 0; i < n; ++i) {
+            vs.add(vertex("r" + i));
+        }
+
+        DynamicMst<Vertex, DirectedEdge<Vertex>> mst = new DynamicMst<Vertex, DirectedEdge<Vertex>>();
+        List<DirectedEdge<Vertex>> seen = new ArrayList<DirectedEdge<Vertex>>();
+        for (int i = 0; i < 2000; ++i) {
+            DirectedEdge<Vertex> e = new DirectedEdge<Vertex>(vs.get(random.nextInt(n)), vs.get(random.nextInt(n)),
+                    random.nextInt(1000));
+            mst.add(e);
+            seen.add(e);
+            if (i % 250 == 0) {
+                assertEquals(kruskal(seen, vs), mst.getTotalWeight());
+            }
+        }
+        assertEquals(kruskal(seen, vs), mst.getTotalWeight());
+    }
+
+    private static long kruskal(List<DirectedEdge<Vertex>> edges, List<Vertex> vs) {
+        List<DirectedEdge<Vertex>> sorted = new ArrayList<DirectedEdge<Vertex>>(edges);
+        Collections.sort(sorted, new Comparator<DirectedEdge<Vertex>>() {
+            @Override
+            public int compare(DirectedEdge<Vertex> o1, DirectedEdge<Vertex> o2) {
+                return o1.getWeight() - o2.getWeight();
+            }
+        });
+        int[] root = new int[vs.size()];
+        for (int i = 0; i < root.length; ++i) root[i] = i;
+
+        long total = 0;
+        for (DirectedEdge<Vertex> e : sorted) {
+            int a = find(root, vs.indexOf(e.getV1())), b = find(root, vs.indexOf(e.getV2()));
+            if (a != b) {
+                root[a] = b;
+                total += e.getWeight();
+            }
+        }
+        return total;
+    }
+
+    private static int find(int[] root, int x) {
+        while (root[x] != x) x = root[x];
+        return x;
+    }
+}
@@ -0,0 +1,112 @@
+package vvakar.graph.partition;
+
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.GraphFactory;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Manual benchmark, not picked up by the test run:
+ * <code>java -Xmx3g vvakar.graph.partition.MultilevelPartitionerBenchmark [parts] [grid side] [power-law vertices]</code>
+ * <p>
+ * Partitions a grid, like a road network, and a power-law graph, like a social network. Each has about ten million
+ * arcs and arrives with shuffled ids. Prints the report next to the cut of hash partitioning by id, which is what a
+ * partitioner-less engine does.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MultilevelPartitionerBenchmark {
+    public static void main(String[] args) {
+        int k = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int side = args.length > 1 ? Integer.parseInt(args[1]) : 1600;
+        int n = args.length > 2 ? Integer.parseInt(args[2]) : 1250000;
+
+        run("grid " + side + "x" + side, grid(side, new Random(49)), k);
+        run("power-law " + n, powerLaw(n, 4, new Random(49)), k);
+    }
+
+    private static void run(String name, CsrGraph<Vertex> csr, int k) {
+        int[] hash = new int[csr.vertexCount()];
+        for (int v = 0; v < hash.length; ++v) hash[v] = v % k;
+        long hashCut = MultilevelPartitioner.edgeCut(csr, hash);
+        System.out.printf("%s, hash: edgeCut=%d cutFraction=%.4f%n", name, hashCut, (double) hashCut / csr.arcCount());
+        PartitionBean<Vertex> bean = new MultilevelPartitioner(k).partition(csr);
+        System.out.printf("%s, multilevel: %s%n", name, bean.getReport());
+    }
+
+    private static CsrGraph<Vertex> grid(int side, Random random) {
+        int n = side * side;
+        int[] label = shuffle(n, random);
+        int[] tails = new int[4 * n], heads = new int[4 * n];
+        int m = 0;
+        for (int r = 0; r < side; ++r) {
+            for (int c = 0; c < side; ++c) {
+                int u = label[r * side + c];
+                if (c + 1 < side) {
+                    m = both(tails, heads, m, u, label[r * side + c + 1]);
+                }
+                if (r + 1 < side) {
+                    m = both(tails, heads, m, u, label[(r + 1) * side + c]);
+                }
+            }
+        }
+        return CsrGraph.fromArcs(vertices(n), tails, heads, new int[m], m);
+    }
+
+    /**
+     * Preferential attachment with a bias towards recent vertices, as in the reordering benchmark.
+     */
+    private static CsrGraph<Vertex> powerLaw(int n, int d, Random random) {
+        int[] label = shuffle(n, random);
+        int[] tails = new int[2 * d * n], heads = new int[2 * d * n];
+        int m = 0;
+        for (int v = 1; v < n; ++v) {
+            for (int i = 0; i < Math.min(d, v); ++i) {
+                int u;
+                if (m > 0 && random.nextBoolean()) {
+                    u = heads[random.nextInt(m)];
+                } else {
+                    u = label[Math.max(0, v - 1 - random.nextInt(Math.min(v, 64)))];
+                }
+                m = both(tails, heads, m, label[v], u);
+            }
+        }
+        return CsrGraph.fromArcs(vertices(n), tails, heads, new int[m], m);
+    }
+
+    private static int both(int[] tails, int[] heads, int m, int u, int v) {
+        tails[m] = u;
+        heads[m++] = v;
+        tails[m] = v;
+        heads[m++] = u;
+        return m;
+    }
+
+    private static int[] shuffle(int n, Random random) {
+        int[] label = new int[n];
+        for (int i = 0; i < n; ++i) label[i] = i;
+        for (int i = n - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1), tmp = label[i];
+            label[i] = label[j];
+            label[j] = tmp;
+        }
+        return label;
+    }
+
+    private static List<Vertex> vertices(final int n) {
+        return new AbstractList<Vertex>() {
+            @Override
+            public Vertex get(int index) {
+                return GraphFactory.vertex("v" + index);
+            }
+
+            @Override
+            public int size() {
+                return n;
+            }
+        };
+    }
+}
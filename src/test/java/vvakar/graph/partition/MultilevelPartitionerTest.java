@@ -0,0 +1,113 @@
+package vvakar.graph.partition;
+
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.GraphReordering;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class MultilevelPartitionerTest {
+
+    /**
+     * A shuffled grid: hash partitioning cuts most arcs, a good partition only the borders between blocks.
+     */
+    @Test
+    public void testGrid() {
+        int side = 100;
+        CsrGraph<Vertex> grid = grid(side);
+        for (int k : new int[]{2, 4, 8}) {
+            PartitionBean<Vertex> bean = new MultilevelPartitioner(k).partition(grid);
+            assertEquals(k, bean.getPartCount());
+            assertTrue(bean.getReport(), bean.getImbalance() <= 1 + MultilevelPartitioner.DEFAULT_IMBALANCE + 0.01);
+            // k strips of a side x side grid cut (k - 1) * side edges, each two arcs
+            assertTrue(bean.getReport(), bean.getEdgeCut() <= 2 * 2 * (k - 1) * side);
+            assertTrue(bean.getCutFraction() < hashCut(grid, k) / 10.0);
+        }
+    }
+
+    @Test
+    public void testSmallGraph() throws Exception {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(Util.getDirectedGraph("graph1.txt"));
+        PartitionBean<Vertex> bean = new MultilevelPartitioner(2).partition(csr);
+        int[] sizes = bean.getSizes();
+        assertEquals(csr.vertexCount(), sizes[0] + sizes[1]);
+        double maxSize = Math.ceil((1 + MultilevelPartitioner.DEFAULT_IMBALANCE) * csr.vertexCount() / 2);
+        assertTrue(sizes[0] <= maxSize && sizes[1] <= maxSize);
+        assertTrue(bean.getEdgeCut() < csr.arcCount() / 2);
+        assertEquals(MultilevelPartitioner.edgeCut(csr, bean.getParts()), bean.getEdgeCut());
+        for (Vertex v : csr.getVertices()) {
+            assertEquals(bean.getParts()[csr.getId(v)], bean.getPart(v));
+        }
+    }
+
+    @Test
+    public void testSinglePart() {
+        CsrGraph<Vertex> grid = grid(20);
+        PartitionBean<Vertex> bean = new MultilevelPartitioner(1).partition(grid);
+        assertEquals(0, bean.getEdgeCut());
+        assertEquals(grid.vertexCount(), bean.getSizes()[0]);
+        assertEquals(1.0, bean.getImbalance(), 0);
+    }
+
+    @Test
+    public void testOrderGroupsParts() {
+        CsrGraph<Vertex> grid = grid(30);
+        PartitionBean<Vertex> bean = new MultilevelPartitioner(4).partition(grid);
+        int[] order = bean.getOrder();
+        CsrGraph<Vertex> permuted = GraphReordering.permute(grid, order);
+        int previous = 0;
+        for (int v = 0; v < order.length; ++v) {
+            int part = bean.getParts()[order[v]];
+            assertTrue(part >= previous);
+            previous = part;
+            assertEquals(part, bean.getPart(permuted.getVertex(v)));
+        }
+    }
+
+    private static double hashCut(CsrGraph<Vertex> csr, int k) {
+        int[] parts = new int[csr.vertexCount()];
+        for (int v = 0; v < parts.length; ++v) parts[v] = v % k;
+        return (double) MultilevelPartitioner.edgeCut(csr, parts) / csr.arcCount();
+    }
+
+    private static CsrGraph<Vertex> grid(int side) {
+        int n = side * side;
+        Integer[] shuffle = new Integer[n];
+        for (int i = 0; i < n; ++i) shuffle[i] = i;
+        Collections.shuffle(Arrays.asList(shuffle), new Random(5));
+        List<Vertex> vertices = new ArrayList<Vertex>();
+        for (int i = 0; i < n; ++i) vertices.add(vertex("v" + i));
+        int[] tails = new int[4 * n], heads = new int[4 * n];
+        int m = 0;
+        for (int r = 0; r < side; ++r) {
+            for (int c = 0; c < side; ++c) {
+                int u = shuffle[r * side + c];
+                if (c + 1 < side) {
+                    int v = shuffle[r * side + c + 1];
+                    tails[m] = u; heads[m++] = v;
+                    tails[m] = v; heads[m++] = u;
+                }
+                if (r + 1 < side) {
+                    int v = shuffle[(r + 1) * side + c];
+                    tails[m] = u; heads[m++] = v;
+                    tails[m] = v; heads[m++] = u;
+                }
+            }
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, new int[m], m);
+    }
+}
@@ -0,0 +1,122 @@
+package vvakar.graph.shard;
+
+import vvakar.graph.bsp.BspEngine;
+import vvakar.graph.bsp.Combiner;
+import vvakar.graph.bsp.SingleSourceShortestPaths;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.GraphFactory;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.partition.MultilevelPartitioner;
+import vvakar.graph.partition.PartitionBean;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Manual benchmark, not picked up by the test run:
+ * <code>java vvakar.graph.shard.ShardedRuntimeBenchmark [shards] [grid side] [worker -Xmx]</code>
+ * <p>
+ * Shards a weighted grid, like a road network, both by multilevel partition and by hash. It then runs BFS and SSSP
+ * on worker processes and reports time and messages crossing processes, next to the in-process {@link BspEngine}.
+ * Every superstep costs a round trip through the coordinator, so long-diameter graphs pay for latency, and the
+ * partition decides how much data moves.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShardedRuntimeBenchmark {
+    public static void main(String[] args) throws Exception {
+        int shards = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int side = args.length > 1 ? Integer.parseInt(args[1]) : 700;
+        String heap = "-Xmx" + (args.length > 2 ? args[2] : "512m");
+
+        CsrGraph<Vertex> csr = grid(side, new Random(50));
+        System.out.printf("grid %dx%d: %d vertices, %d arcs, %d shards%n", side, side, csr.vertexCount(),
+                csr.arcCount(), shards);
+
+        long start = System.nanoTime();
+        BspEngine.ResultBean<Vertex> local = new BspEngine<Vertex>(csr, shards)
+                .run(new SingleSourceShortestPaths(0), Combiner.MIN, Integer.MAX_VALUE);
+        System.out.printf("  in-process BspEngine sssp: %d ms, %d supersteps, %d messages%n",
+                (System.nanoTime() - start) / 1000000, local.getSupersteps(), local.getMessageCount());
+
+        PartitionBean<Vertex> partition = new MultilevelPartitioner(shards).partition(csr);
+        System.out.printf("  partition: %s%n", partition.getReport());
+        run("multilevel", csr, partition.getParts(), shards, heap);
+
+        int[] hash = new int[csr.vertexCount()];
+        for (int v = 0; v < hash.length; ++v) hash[v] = v % shards;
+        run("hash", csr, hash, shards, heap);
+    }
+
+    private static void run(String name, CsrGraph<Vertex> csr, int[] parts, int shards, String heap) throws Exception {
+        Path directory = Files.createTempDirectory("shards");
+        long start = System.nanoTime();
+        ShardedGraph graph = ShardedGraph.create(directory, csr, parts, shards);
+        long written = System.nanoTime();
+        ShardedRuntime runtime = ShardedRuntime.launch(graph, heap);
+        try {
+            System.out.printf("  %s: write %d ms, launch %d ms%n", name, (written - start) / 1000000,
+                    (System.nanoTime() - written) / 1000000);
+            for (ShardedRuntime.Algorithm algorithm : ShardedRuntime.Algorithm.values()) {
+                ShardedRuntime.ResultBean result = runtime.run(algorithm, 0, Integer.MAX_VALUE);
+                System.out.printf("    %-4s %6d ms, %5d supersteps (%.2f ms each), %9d messages, %9d remote%n",
+                        algorithm, result.getMillis(), result.getSupersteps(),
+                        (double) result.getMillis() / result.getSupersteps(), result.getMessageCount(),
+                        result.getRemoteMessageCount());
+            }
+        } finally {
+            runtime.close();
+            for (int p = 0; p < shards; ++p) {
+                Files.deleteIfExists(graph.vertexFile(p));
+                Files.deleteIfExists(graph.arcFile(p));
+            }
+            Files.deleteIfExists(directory.resolve("meta.bin"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static CsrGraph<Vertex> grid(int side, Random random) {
+        int n = side * side;
+        int[] tails = new int[4 * n], heads = new int[4 * n], weights = new int[4 * n];
+        int m = 0;
+        for (int r = 0; r < side; ++r) {
+            for (int c = 0; c < side; ++c) {
+                int u = r * side + c;
+                if (c + 1 < side) {
+                    m = both(tails, heads, weights, m, u, u + 1, 1 + random.nextInt(9));
+                }
+                if (r + 1 < side) {
+                    m = both(tails, heads, weights, m, u, u + side, 1 + random.nextInt(9));
+                }
+            }
+        }
+        return CsrGraph.fromArcs(vertices(n), tails, heads, weights, m);
+    }
+
+    private static int both(int[] tails, int[] heads, int[] weights, int m, int u, int v, int weight) {
+        tails[m] = u;
+        heads[m] = v;
+        weights[m++] = weight;
+        tails[m] = v;
+        heads[m] = u;
+        weights[m++] = weight;
+        return m;
+    }
+
+    private static List<Vertex> vertices(final int n) {
+        return new AbstractList<Vertex>() {
+            @Override
+            public Vertex get(int index) {
+                return GraphFactory.vertex("v" + index);
+            }
+
+            @Override
+            public int size() {
+                return n;
+            }
+        };
+    }
+}
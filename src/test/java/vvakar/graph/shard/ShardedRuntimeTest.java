@@ -0,0 +1,127 @@
+package vvakar.graph.shard;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.graph.partition.MultilevelPartitioner;
+import vvakar.graph.partition.PartitionBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * Starts real worker processes on localhost.
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShardedRuntimeTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final CsrGraph<Vertex> csr = randomGraph(600, 2400, new Random(50));
+
+    @Test
+    public void testLayout() throws Exception {
+        PartitionBean<Vertex> partition = new MultilevelPartitioner(3).partition(csr);
+        ShardedGraph graph = ShardedGraph.create(folder.newFolder("g").toPath(), partition);
+        graph = ShardedGraph.open(graph.getDirectory());
+        assertEquals(csr.vertexCount(), graph.getVertexCount());
+        assertEquals(csr.arcCount(), graph.getArcCount());
+        assertEquals(3, graph.getShardCount());
+
+        int vertices = 0, arcs = 0;
+        for (int p = 0; p < 3; ++p) {
+            int[] globals = graph.readVertices(p);
+            for (int global : globals) {
+                assertEquals(p, partition.getParts()[global]);
+            }
+            ShardWorker worker = new ShardWorker(graph, p);
+            assertEquals(globals.length, worker.getVertexCount());
+            vertices += worker.getVertexCount();
+            arcs += worker.getArcCount();
+        }
+        assertEquals(csr.vertexCount(), vertices);
+        assertEquals(csr.arcCount(), arcs);
+    }
+
+    @Test
+    public void testMatchesBellmanFord() throws Exception {
+        PartitionBean<Vertex> partition = new MultilevelPartitioner(3).partition(csr);
+        ShardedGraph graph = ShardedGraph.create(folder.newFolder("g").toPath(), partition);
+        ShardedRuntime runtime = ShardedRuntime.launch(graph, "-Xmx64m");
+        try {
+            for (int source : new int[]{0, 17}) {
+                ShardedRuntime.ResultBean hops = runtime.run(ShardedRuntime.Algorithm.BFS, source, Integer.MAX_VALUE);
+                assertArrayEquals(bellmanFord(source, true), hops.getValues(), 0);
+                ShardedRuntime.ResultBean distances = runtime.run(ShardedRuntime.Algorithm.SSSP, source, Integer.MAX_VALUE);
+                assertArrayEquals(bellmanFord(source, false), distances.getValues(), 0);
+                assertTrue(distances.getRemoteMessageCount() > 0);
+                assertTrue(distances.getRemoteMessageCount() < distances.getMessageCount());
+            }
+
+            ShardedRuntime.ResultBean bounded = runtime.run(ShardedRuntime.Algorithm.BFS, 0, 2);
+            assertEquals(2, bounded.getSupersteps());
+            for (double hop : bounded.getValues()) {
+                assertTrue(hop <= 1 || hop == Double.POSITIVE_INFINITY);
+            }
+        } finally {
+            runtime.close();
+        }
+    }
+
+    /**
+     * Hash sharding cuts most arcs, so nearly every message crosses processes; the answers must not change.
+     */
+    @Test
+    public void testHashSharding() throws Exception {
+        int[] parts = new int[csr.vertexCount()];
+        for (int v = 0; v < parts.length; ++v) parts[v] = v % 4;
+        ShardedGraph graph = ShardedGraph.create(folder.newFolder("g").toPath(), csr, parts, 4);
+        ShardedRuntime runtime = ShardedRuntime.launch(graph, "-Xmx64m");
+        try {
+            ShardedRuntime.ResultBean distances = runtime.run(ShardedRuntime.Algorithm.SSSP, 5, Integer.MAX_VALUE);
+            assertArrayEquals(bellmanFord(5, false), distances.getValues(), 0);
+        } finally {
+            runtime.close();
+        }
+    }
+
+    private double[] bellmanFord(int source, boolean unit) {
+        int n = csr.vertexCount();
+        double[] distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        distance[source] = 0;
+        for (int round = 0; round < n; ++round) {
+            for (int u = 0; u < n; ++u) {
+                for (int i = csr.getOffsets()[u]; i < csr.getOffsets()[u + 1]; ++i) {
+                    int v = csr.getTargets()[i];
+                    distance[v] = Math.min(distance[v], distance[u] + (unit ? 1 : csr.getWeights()[i]));
+                }
+            }
+        }
+        return distance;
+    }
+
+    private static CsrGraph<Vertex> randomGraph(int n, int m, Random random) {
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("v" + i));
+        }
+        int[] tails = new int[m], heads = new int[m], weights = new int[m];
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            weights[i] = 1 + random.nextInt(9);
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+    }
+}
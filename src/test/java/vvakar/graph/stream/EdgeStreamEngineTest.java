@@ -0,0 +1,132 @@
+package vvakar.graph.stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import vvakar.graph.analytics.PageRank;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.connectivity.ComponentsBean;
+import vvakar.graph.connectivity.ConnectedComponents;
+import vvakar.graph.interfaces.Vertex;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class EdgeStreamEngineTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private int n = 400, m = 1200;
+    private int[] tails = new int[m], heads = new int[m], weights = new int[m];
+
+    private EdgeStreamGraph write(int partitions, boolean symmetric) throws Exception {
+        Random random = new Random(38);
+        for (int i = 0; i < m; ++i) {
+            tails[i] = random.nextInt(n);
+            heads[i] = random.nextInt(n);
+            weights[i] = 1 + random.nextInt(9);
+        }
+        EdgeStreamGraph.Writer writer = new EdgeStreamGraph.Writer(folder.newFolder("g" + partitions).toPath(), n, partitions);
+        for (int i = 0; i < m; ++i) {
+            writer.addArc(tails[i], heads[i], weights[i]);
+            if (symmetric) writer.addArc(heads[i], tails[i], weights[i]);
+        }
+        return writer.finish();
+    }
+
+    private CsrGraph<Vertex> inMemory() {
+        List<Vertex> vertices = new ArrayList<Vertex>(n);
+        for (int i = 0; i < n; ++i) {
+            vertices.add(vertex("v" + i));
+        }
+        return CsrGraph.fromArcs(vertices, tails, heads, weights, m);
+    }
+
+    @Test
+    public void testBreadthFirstAndBellmanFord() throws Exception {
+        EdgeStreamGraph graph = write(5, false);
+        EdgeStreamEngine engine = new EdgeStreamEngine(graph);
+        double[] hops = engine.run(EdgePrograms.breadthFirst(0), Integer.MAX_VALUE).getValues();
+        EdgeStreamEngine.ResultBean weighted = engine.run(EdgePrograms.bellmanFord(0), n);
+        assertTrue(weighted.isConverged());
+
+        double[] expectedHops = new double[n], expectedDistance = new double[n];
+        Arrays.fill(expectedHops, Double.POSITIVE_INFINITY);
+        Arrays.fill(expectedDistance, Double.POSITIVE_INFINITY);
+        expectedHops[0] = expectedDistance[0] = 0;
+        for (int round = 0; round < n; ++round) {
+            for (int i = 0; i < m; ++i) {
+                expectedHops[heads[i]] = Math.min(expectedHops[heads[i]], expectedHops[tails[i]] + 1);
+                expectedDistance[heads[i]] = Math.min(expectedDistance[heads[i]], expectedDistance[tails[i]] + weights[i]);
+            }
+        }
+        for (int v = 0; v < n; ++v) {
+            assertEquals(expectedHops[v], hops[v], 0);
+            assertEquals(expectedDistance[v], weighted.getValues()[v], 0);
+        }
+        assertEquals(m * EdgeStreamGraph.EDGE_RECORD * (long) weighted.getIterations() + weighted.getUpdateCount() * 12,
+                weighted.getBytesRead());
+    }
+
+    @Test
+    public void testComponents() throws Exception {
+        EdgeStreamGraph graph = write(3, true);
+        double[] labels = new EdgeStreamEngine(graph).run(EdgePrograms.components(), Integer.MAX_VALUE).getValues();
+        ComponentsBean<Vertex> expected = ConnectedComponents.compute(inMemory().symmetrize());
+        for (int u = 0; u < n; ++u) {
+            for (int v = 0; v < n; ++v) {
+                assertEquals(expected.getLabels()[u] == expected.getLabels()[v], labels[u] == labels[v]);
+            }
+        }
+    }
+
+    @Test
+    public void testPageRank() throws Exception {
+        EdgeStreamGraph graph = write(4, false);
+        EdgeStreamEngine.ResultBean result = new EdgeStreamEngine(graph).run(EdgePrograms.pageRank(0.85, 1e-10), 200);
+        assertTrue(result.isConverged());
+        double[] expected = PageRank.compute(inMemory(), 0.85, 1e-12, 200).getRanks();
+        for (int v = 0; v < n; ++v) {
+            assertEquals(expected[v], result.getValues()[v], 1e-9);
+        }
+    }
+
+    @Test
+    public void testIterationLimit() throws Exception {
+        EdgeStreamGraph graph = write(2, false);
+        EdgeStreamEngine.ResultBean result = new EdgeStreamEngine(graph).run(EdgePrograms.pageRank(0.85, 0), 3);
+        assertEquals(3, result.getIterations());
+        assertFalse(result.isConverged());
+        for (String file : graph.getDirectory().toFile().list()) {
+            assertFalse(file, file.startsWith("updates-"));
+        }
+    }
+
+    @Test
+    public void testImportText() throws Exception {
+        Path directory = folder.newFolder("text").toPath();
+        EdgeStreamGraph graph = EdgeStreamGraph.importText(new File("src/test/resources/graph1.txt").toPath(), directory, 2, false);
+        EdgeStreamGraph reopened = EdgeStreamGraph.open(directory);
+        assertEquals(graph.getVertexCount(), reopened.getVertexCount());
+        assertEquals(graph.getArcCount(), reopened.getArcCount());
+        assertEquals(graph.getVertexCount(), reopened.readVertexNames().size());
+
+        int[] degrees = reopened.readOutDegrees();
+        long sum = 0;
+        for (int d : degrees) sum += d;
+        assertEquals(reopened.getArcCount(), sum);
+    }
+}
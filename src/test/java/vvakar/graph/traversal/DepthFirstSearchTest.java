@@ -0,0 +1,116 @@
+package vvakar.graph.traversal;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.components.CsrGraph;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class DepthFirstSearchTest {
+    SimpleDirectedGraph<Vertex> dag, cyclic;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+
+    @Before
+    public void before() {
+        /*
+             v1 ---> v2 ---> v4 ---> v5
+               \              ^
+                \__> v3 -----/
+        */
+        dag = new SimpleDirectedGraph<Vertex>();
+        dag.put(directedEdge(v1, v2));
+        dag.put(directedEdge(v1, v3));
+        dag.put(directedEdge(v2, v4));
+        dag.put(directedEdge(v3, v4));
+        dag.put(directedEdge(v4, v5));
+
+        cyclic = new SimpleDirectedGraph<Vertex>();
+        cyclic.put(directedEdge(v1, v2));
+        cyclic.put(directedEdge(v2, v3));
+        cyclic.put(directedEdge(v3, v1));
+        cyclic.put(directedEdge(v3, v4));
+    }
+
+    @Test
+    public void testEventsAreNested() {
+        CsrGraph<Vertex> csr = CsrGraph.copyOf(dag);
+        final List<String> events = new ArrayList<String>();
+        new DepthFirstSearch(csr).run(csr.getId(v1), new DepthFirstSearch.VisitorAdapter() {
+            @Override
+            public void discover(int v, int parent) {
+                events.add("+" + v);
+            }
+
+            @Override
+            public void finish(int v, int parent) {
+                events.add("-" + v);
+            }
+        });
+        assertEquals(10, events.size());
+        assertEquals("+" + csr.getId(v1), events.get(0));
+        assertEquals("-" + csr.getId(v1), events.get(9));
+        assertTrue(events.indexOf("-" + csr.getId(v5)) < events.indexOf("-" + csr.getId(v4)));
+    }
+
+    @Test
+    public void testTopologicalSort() {
+        List<Vertex> order = TopologicalSort.sort(dag);
+        assertEquals(5, order.size());
+        assertEquals(v1, order.get(0));
+        assertTrue(order.indexOf(v2) < order.indexOf(v4));
+        assertTrue(order.indexOf(v3) < order.indexOf(v4));
+        assertEquals(v5, order.get(4));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testTopologicalSortCycle() {
+        TopologicalSort.sort(cyclic);
+    }
+
+    @Test
+    public void testIsAcyclic() {
+        assertTrue(TopologicalSort.isAcyclic(CsrGraph.copyOf(dag)));
+        assertFalse(TopologicalSort.isAcyclic(CsrGraph.copyOf(cyclic)));
+    }
+
+    @Test
+    public void testDeepChain() {
+        final int n = 1000000;
+        int[] tails = new int[n - 1], heads = new int[n - 1], weights = new int[n - 1];
+        for (int i = 0; i < n - 1; ++i) {
+            // reverse numbering so the search starts at the tail end
+            tails[i] = n - 1 - i;
+            heads[i] = n - 2 - i;
+        }
+        List<Vertex> vertices = new AbstractList<Vertex>() {
+            @Override
+            public Vertex get(int index) {
+                return vertex("" + index);
+            }
+
+            @Override
+            public int size() {
+                return n;
+            }
+        };
+        CsrGraph<Vertex> chain = CsrGraph.fromArcs(vertices, tails, heads, weights, n - 1);
+
+        int[] order = TopologicalSort.sort(chain);
+        assertEquals(n - 1, order[0]);
+        assertEquals(0, order[n - 1]);
+    }
+}
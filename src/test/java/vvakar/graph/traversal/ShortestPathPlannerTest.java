@@ -0,0 +1,120 @@
+package vvakar.graph.traversal;
+
+import org.junit.Before;
+import org.junit.Test;
+import vvakar.graph.components.DirectedEdge;
+import vvakar.graph.components.SimpleDirectedGraph;
+import vvakar.graph.interfaces.Vertex;
+import vvakar.util.Util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static vvakar.graph.components.GraphFactory.directedEdge;
+import static vvakar.graph.components.GraphFactory.vertex;
+
+/**
+ * @author vvakar
+ *         Date: 10/19/26
+ */
+public class ShortestPathPlannerTest {
+    SimpleDirectedGraph<Vertex> nonEmptyGraph;
+    Vertex v1 = vertex("v1"), v2 = vertex("v2"), v3 = vertex("v3"), v4 = vertex("v4"), v5 = vertex("v5");
+    DirectedEdge<Vertex> e12 = directedEdge(v1, v2, 3), e13 = directedEdge(v1, v3, 10), e25 = directedEdge(v2, v5, 123456),
+            e34 = directedEdge(v3, v4, 9), e45 = directedEdge(v4, v5, 1);
+
+    @Before
+    public void before() {
+        nonEmptyGraph = new SimpleDirectedGraph<Vertex>();
+        /*
+             v1 --3-> v2 --123456-> v5
+               \10                  ^
+                \__> v3 --9-> v4  / 1
+        */
+        nonEmptyGraph.put(e12);
+        nonEmptyGraph.put(e13);
+        nonEmptyGraph.put(e34);
+        nonEmptyGraph.put(e25);
+        nonEmptyGraph.put(e45);
+    }
+
+    @Test
+    public void testDag() {
+        ShortestPathPlanner<Vertex, DirectedEdge<Vertex>> planner =
+                new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(nonEmptyGraph);
+        assertEquals(ShortestPathPlanner.Algorithm.DAG_RELAXATION, planner.getAlgorithm());
+
+        ShortestPathPlanner.PathsBean<Vertex> paths = planner.getShortestPaths(v1);
+        assertEquals(20, paths.getDistance(v5));
+        assertEquals(Arrays.asList(v1, v3, v4, v5), paths.getPath(v5));
+        assertFalse(planner.getShortestPaths(v2).isReachable(v1));
+        assertTrue(planner.getShortestPaths(v2).getPath(v1).isEmpty());
+
+        ShortestPathPlanner.PathsBean<Vertex> longest = planner.getLongestPaths(v1);
+        assertEquals(123459, longest.getDistance(v5));
+        assertEquals(Arrays.asList(v1, v2, v5), longest.getPath(v5));
+    }
+
+    @Test
+    public void testReplansAfterPut() {
+        ShortestPathPlanner<Vertex, DirectedEdge<Vertex>> planner =
+                new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(nonEmptyGraph);
+        assertTrue(planner.isAcyclic());
+
+        nonEmptyGraph.put(directedEdge(v5, v1, 2));
+        assertFalse(planner.isAcyclic());
+        assertEquals(ShortestPathPlanner.Algorithm.DIJKSTRA, planner.getAlgorithm());
+        assertEquals(20, planner.getShortestPaths(v1).getDistance(v5));
+        assertEquals(2, planner.getShortestPaths(v5).getDistance(v1));
+
+        nonEmptyGraph.put(directedEdge(v4, v3, -5));
+        assertEquals(ShortestPathPlanner.Algorithm.BELLMAN_FORD, planner.getAlgorithm());
+        assertEquals(9 + 1 + 2, planner.getShortestPaths(v3).getDistance(v1));
+        assertEquals(-5, planner.getShortestPaths(v4).getDistance(v3));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testLongestNeedsDag() {
+        nonEmptyGraph.put(directedEdge(v5, v1, 2));
+        new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(nonEmptyGraph).getLongestPaths(v1);
+    }
+
+    @Test
+    public void testUnitWeights() {
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        graph.put(directedEdge(v1, v2));
+        graph.put(directedEdge(v2, v3));
+        graph.put(directedEdge(v3, v1));
+        graph.put(directedEdge(v1, v3));
+        ShortestPathPlanner<Vertex, DirectedEdge<Vertex>> planner =
+                new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(graph);
+        assertEquals(ShortestPathPlanner.Algorithm.BREADTH_FIRST, planner.getAlgorithm());
+        assertEquals(1, planner.getShortestPaths(v1).getDistance(v3));
+        assertEquals(2, planner.getShortestPaths(v2).getDistance(v1));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testNegativeCycle() throws Exception {
+        new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(Util.getDirectedGraph("graph1.txt"))
+                .getShortestPaths(vertex("1"));
+    }
+
+    @Test
+    public void testMatchesDijkstra() throws Exception {
+        SimpleDirectedGraph<Vertex> graph = new SimpleDirectedGraph<Vertex>();
+        for (DirectedEdge<Vertex> e : Util.getDirectedGraph("graph1.txt").getEdges()) {
+            graph.put(new DirectedEdge<Vertex>(e.getV1(), e.getV2(), Math.abs(e.getWeight()) + 1));
+        }
+        ShortestPathPlanner.PathsBean<Vertex> paths =
+                new ShortestPathPlanner<Vertex, DirectedEdge<Vertex>>(graph).getShortestPaths(vertex("1"));
+        DijkstraShortestPath<Vertex, DirectedEdge<Vertex>> dijkstra =
+                new DijkstraShortestPath<Vertex, DirectedEdge<Vertex>>(graph);
+        for (String name : new String[]{"2", "17", "500", "999"}) {
+            List<DijkstraShortestPath.DijkstraBean<Vertex>> expected = dijkstra.getShortestPath(vertex("1"), vertex(name));
+            assertEquals(expected.get(expected.size() - 1).getWeight(), paths.getDistance(vertex(name)));
+        }
+    }
+}